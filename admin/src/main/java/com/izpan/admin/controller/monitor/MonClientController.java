@@ -3,16 +3,28 @@ package com.izpan.admin.controller.monitor;
 import cn.dev33.satoken.annotation.SaCheckPermission;
 import com.izpan.common.api.Result;
 import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.cluster.ClusterCoordinator;
+import com.izpan.infrastructure.server.cluster.ClusterNode;
+import com.izpan.infrastructure.server.health.CircuitState;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import com.izpan.infrastructure.server.registry.ClientRegistry;
+import com.izpan.infrastructure.server.stats.RpcMetrics;
+import com.izpan.infrastructure.server.stats.RpcStatsSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -38,46 +50,98 @@ public class MonClientController {
   @NonNull
   private AdminServer adminServer;
 
+  @NonNull
+  private ClusterCoordinator clusterCoordinator;
+
+  @NonNull
+  private RpcMetrics rpcMetrics;
+
   @GetMapping("/clients")
   @SaCheckPermission("mon:client:list")
   @Operation(operationId = "1", summary = "获取客户端列表")
-  public Result<List<Map<String, Object>>> getClients() {
-    log.info("获取客户端列表");
-    Set<String> connectedClients = adminServer.getConnectedClients();
-    List<Map<String, Object>> clients = new ArrayList<>();
-
-    for (String clientAddress : connectedClients) {
-      Map<String, Object> client = new HashMap<>();
-
-      // 解析客户端地址
-      String[] parts = clientAddress.split(":");
-      String clientIp = parts.length > 0 ? parts[0] : "unknown";
-      int clientPort = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
-
-      // 构建客户端信息
-      client.put("clientId", clientAddress);
-      client.put("clientName", "客户端-" + clientIp);
-      client.put("clientIp", clientIp);
-      client.put("clientPort", clientPort);
-      client.put("status", "online");
-      client.put("lastHeartbeat", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-      client.put("registerTime", LocalDateTime.now().minusHours(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-      client.put("applicationName", "panis-boot");
-      client.put("environment", "dev");
-      client.put("version", "1.0.0");
-
-      clients.add(client);
+  public Result<List<Map<String, Object>>> getClients(
+      @Parameter(description = "应用名称，为空时返回全部客户端") @RequestParam(required = false) String appName) {
+    log.info("获取客户端列表, appName: {}", appName);
+    ClientRegistry clientRegistry = adminServer.getClientRegistry();
+    List<Map<String, Object>> clients = new ArrayList<>(clientRegistry.size());
+    if (StringUtils.hasText(appName)) {
+      for (String clientAddress : clientRegistry.addressesOf(appName)) {
+        ClientInfo info = clientRegistry.get(clientAddress);
+        if (info != null) {
+          clients.add(toClientView(info));
+        }
+      }
+      for (ClusterNode node : clusterCoordinator.getPeers()) {
+        for (String clientAddress : node.getClients()) {
+          if (appName.equals(node.getApps().get(clientAddress)) && !clientRegistry.contains(clientAddress)) {
+            clients.add(peerClientView(node, clientAddress));
+          }
+        }
+      }
+    } else {
+      for (ClientInfo info : clientRegistry.all()) {
+        clients.add(toClientView(info));
+      }
+      for (ClusterNode node : clusterCoordinator.getPeers()) {
+        for (String clientAddress : node.getClients()) {
+          if (!clientRegistry.contains(clientAddress)) {
+            clients.add(peerClientView(node, clientAddress));
+          }
+        }
+      }
+      clients.add(selfView());
     }
-
     return Result.data(clients);
   }
 
+  @GetMapping("/mon_client/apps")
+  @SaCheckPermission("mon:client:list")
+  @Operation(operationId = "5", summary = "获取客户端应用列表及实例数")
+  public Result<Map<String, Integer>> getClientApps() {
+    log.info("获取客户端应用列表");
+    return Result.data(clusterCoordinator.clusterAppInstances());
+  }
+
+  @GetMapping("/mon_client/cluster")
+  @SaCheckPermission("mon:client:list")
+  @Operation(operationId = "6", summary = "获取管理端集群节点")
+  public Result<List<Map<String, Object>>> getClusterNodes() {
+    log.info("获取管理端集群节点");
+    List<Map<String, Object>> nodes = new ArrayList<>();
+    Map<String, Object> self = new HashMap<>();
+    self.put("nodeId", clusterCoordinator.getNodeId());
+    self.put("self", true);
+    self.put("clientCount", adminServer.getConnectedClientCount());
+    nodes.add(self);
+    for (ClusterNode peer : clusterCoordinator.getPeers()) {
+      Map<String, Object> node = new HashMap<>();
+      node.put("nodeId", peer.getNodeId());
+      node.put("host", peer.getHost());
+      node.put("self", false);
+      node.put("clientCount", peer.getClients().size());
+      node.put("startTime", format(peer.getStartTime()));
+      node.put("lastHeartbeat", format(peer.getHeartbeatTime()));
+      nodes.add(node);
+    }
+    return Result.data(nodes);
+  }
+
+  @GetMapping("/mon_client/rpc_stats")
+  @SaCheckPermission("mon:client:info")
+  @Operation(operationId = "7", summary = "获取管理端到客户端的 RPC 延迟与错误统计")
+  public Result<List<RpcStatsSnapshot>> getRpcStats(
+      @Parameter(description = "客户端ID，为空时返回全部客户端") @RequestParam(required = false) String clientId) {
+    log.info("获取 RPC 统计, clientId: {}", clientId);
+    return Result.data(rpcMetrics.snapshot(StringUtils.hasText(clientId) ? clientId : null));
+  }
+
   @GetMapping("/mon_client/count")
   @SaCheckPermission("mon:client:count")
   @Operation(operationId = "2", summary = "获取连接的客户端数量")
   public Result<Integer> getConnectedClientCount() {
     log.info("获取连接的客户端数量");
-    int clientCount = adminServer.getConnectedClientCount();
+    // 集群模式下包含连接在其他节点上的客户端
+    int clientCount = clusterCoordinator.clusterClients().size();
     return Result.data(clientCount);
   }
 
@@ -86,7 +150,7 @@ public class MonClientController {
   @Operation(operationId = "3", summary = "获取连接的客户端列表")
   public Result<Set<String>> getConnectedClients() {
     log.info("获取连接的客户端列表");
-    Set<String> connectedClients = adminServer.getConnectedClients();
+    Set<String> connectedClients = clusterCoordinator.clusterClients();
     return Result.data(connectedClients);
   }
 
@@ -97,8 +161,8 @@ public class MonClientController {
     log.info("获取客户端连接详细信息");
     Map<String, Object> result = new HashMap<>();
 
-    Set<String> connectedClients = adminServer.getConnectedClients();
-    int clientCount = adminServer.getConnectedClientCount();
+    Set<String> connectedClients = clusterCoordinator.clusterClients();
+    int clientCount = connectedClients.size();
 
     result.put("clientCount", clientCount);
     result.put("connectedClients", connectedClients);
@@ -106,4 +170,65 @@ public class MonClientController {
 
     return Result.data(result);
   }
+
+  private Map<String, Object> toClientView(ClientInfo info) {
+    Map<String, Object> client = new HashMap<>();
+    String clientIp = info.getIp();
+    client.put("clientId", info.getAddress());
+    client.put("clientName", info.hasMetadata() ? info.getAppName() : "客户端-" + clientIp);
+    client.put("clientIp", clientIp);
+    client.put("clientPort", info.getPort());
+    CircuitState circuitState = adminServer.getCircuitState(info.getAddress());
+    client.put("status", circuitState == CircuitState.CLOSED ? "online" : "unhealthy");
+    client.put("circuitState", circuitState.name());
+    client.put("lastHeartbeat", format(info.getLastSeen()));
+    client.put("registerTime", format(info.getConnectTime()));
+    client.put("applicationName", info.getAppName());
+    client.put("instanceId", info.getInstanceId());
+    client.put("rttMillis", info.getRttEwmaMillis() < 0 ? null : Math.round(info.getRttEwmaMillis() * 10) / 10d);
+    client.put("poolCount", info.getPoolCount());
+    client.put("serializer", adminServer.getSerializerName(info.getAddress()));
+    client.put("nodeId", clusterCoordinator.getNodeId());
+    return client;
+  }
+
+  /**
+   * 集群其他节点持有的客户端，只有节点心跳中的地址信息
+   */
+  private static Map<String, Object> peerClientView(ClusterNode node, String clientAddress) {
+    Map<String, Object> client = new HashMap<>();
+    int separator = clientAddress.lastIndexOf(':');
+    String clientIp = separator < 0 ? clientAddress : clientAddress.substring(0, separator);
+    client.put("clientId", clientAddress);
+    client.put("clientName", "客户端-" + clientIp);
+    client.put("clientIp", clientIp);
+    client.put("clientPort", separator < 0 ? 0 : Integer.parseInt(clientAddress.substring(separator + 1)));
+    client.put("status", "online");
+    client.put("lastHeartbeat", format(node.getHeartbeatTime()));
+    client.put("applicationName", node.getApps().get(clientAddress));
+    client.put("nodeId", node.getNodeId());
+    return client;
+  }
+
+  /**
+   * 管理端自身作为一个客户端展示，用于查看管理端请求处理线程池
+   */
+  private static Map<String, Object> selfView() {
+    Map<String, Object> client = new HashMap<>();
+    client.put("clientId", AdminServer.SELF_CLIENT_ID);
+    client.put("clientName", "管理端");
+    client.put("clientIp", "localhost");
+    client.put("clientPort", 0);
+    client.put("status", "online");
+    client.put("lastHeartbeat", format(System.currentTimeMillis()));
+    client.put("applicationName", AdminServer.SELF_CLIENT_ID);
+    client.put("instanceId", AdminServer.SELF_CLIENT_ID);
+    client.put("poolCount", 1);
+    return client;
+  }
+
+  private static String format(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+        .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+  }
 }
\ No newline at end of file
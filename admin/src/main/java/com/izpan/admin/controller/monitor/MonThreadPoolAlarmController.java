@@ -0,0 +1,85 @@
+package com.izpan.admin.controller.monitor;
+
+import cn.dev33.satoken.annotation.SaCheckPermission;
+import com.izpan.common.api.Result;
+import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.infrastructure.page.RPage;
+import com.izpan.modules.monitor.alarm.AlarmRule;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmDeleteDTO;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSearchDTO;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSilenceDTO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolAlarmVO;
+import com.izpan.modules.monitor.facade.IMonThreadPoolAlarmFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 线程池告警事件 Controller 控制层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.admin.controller.monitor.MonThreadPoolAlarmController
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@RestController
+@Tag(name = "线程池告警事件")
+@RequiredArgsConstructor
+@RequestMapping("/mon_thread_pool_alarm")
+public class MonThreadPoolAlarmController {
+
+  @NonNull
+  private IMonThreadPoolAlarmFacade monThreadPoolAlarmFacade;
+
+  @GetMapping("/page")
+  @SaCheckPermission("mon:thread_pool_alarm:page")
+  @Operation(operationId = "1", summary = "获取线程池告警事件列表")
+  public Result<RPage<MonThreadPoolAlarmVO>> page(
+      @Parameter(description = "分页对象", required = true) @Valid PageQuery pageQuery,
+      @Parameter(description = "查询对象") MonThreadPoolAlarmSearchDTO monThreadPoolAlarmSearchDTO) {
+    return Result.data(monThreadPoolAlarmFacade.listMonThreadPoolAlarmPage(pageQuery, monThreadPoolAlarmSearchDTO));
+  }
+
+  @GetMapping("/{id}")
+  @SaCheckPermission("mon:thread_pool_alarm:get")
+  @Operation(operationId = "2", summary = "根据ID获取线程池告警事件详细信息")
+  public Result<MonThreadPoolAlarmVO> get(@Parameter(description = "ID") @PathVariable("id") Long id) {
+    return Result.data(monThreadPoolAlarmFacade.get(id));
+  }
+
+  @DeleteMapping("/")
+  @SaCheckPermission("mon:thread_pool_alarm:delete")
+  @Operation(operationId = "3", summary = "批量删除线程池告警事件")
+  public Result<Boolean> batchDelete(
+      @Parameter(description = "删除对象") @RequestBody MonThreadPoolAlarmDeleteDTO monThreadPoolAlarmDeleteDTO) {
+    return Result.status(monThreadPoolAlarmFacade.batchDelete(monThreadPoolAlarmDeleteDTO));
+  }
+
+  @GetMapping("/rules")
+  @SaCheckPermission("mon:thread_pool_alarm:page")
+  @Operation(operationId = "4", summary = "获取当前生效的告警规则")
+  public Result<List<AlarmRule>> listRules() {
+    return Result.data(monThreadPoolAlarmFacade.listRules());
+  }
+
+  @PostMapping("/silence")
+  @SaCheckPermission("mon:thread_pool_alarm:silence")
+  @Operation(operationId = "5", summary = "静默或取消静默线程池告警")
+  public Result<Boolean> silence(
+      @Parameter(description = "静默对象") @Valid @RequestBody MonThreadPoolAlarmSilenceDTO monThreadPoolAlarmSilenceDTO) {
+    monThreadPoolAlarmFacade.silence(monThreadPoolAlarmSilenceDTO);
+    return Result.status(true);
+  }
+}
@@ -4,24 +4,40 @@ import cn.dev33.satoken.annotation.SaCheckPermission;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.izpan.common.api.Result;
 import com.izpan.infrastructure.page.PageQuery;
-import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.cluster.ClusterCoordinator;
+import com.izpan.infrastructure.server.routing.RoutingStrategy;
 import com.izpan.modules.monitor.domain.bo.MonThreadPoolBO;
+import com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRecommendDTO;
+import com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRefreshDTO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolGroupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHistoryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHotVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolQueryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRecommendVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRefreshVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRollupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolSnapshotVO;
 import com.izpan.modules.monitor.facade.IMonThreadPoolFacade;
+import com.izpan.modules.monitor.metrics.HistoryResolution;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 /**
  * 线程池监控
@@ -42,7 +58,7 @@ public class MonThreadPoolController {
   private IMonThreadPoolFacade monThreadPoolFacade;
 
   @NonNull
-  private AdminServer adminServer;
+  private ClusterCoordinator clusterCoordinator;
 
   @GetMapping("/{clientId}/page")
   @SaCheckPermission("mon:thread_pool:page")
@@ -53,45 +69,14 @@ public class MonThreadPoolController {
       @Parameter(description = "查询条件") MonThreadPoolBO monThreadPoolBO) {
     log.info("按客户端分页获取线程池列表，clientId={}", clientId);
 
-    // 验证客户端是否存在
-    if (!adminServer.getConnectedClients().contains(clientId)) {
+    // 验证客户端是否存在，集群模式下包含连接在其他节点上的客户端
+    if (!clusterCoordinator.isAvailableClient(clientId)) {
       return Result.failure("客户端不存在或已断开连接");
     }
 
     try {
-      // 直接向指定客户端请求线程池数据
-      Object result = adminServer.requestToSpecificClient(clientId,
-          org.dromara.dynamictp.common.em.AdminRequestTypeEnum.EXECUTOR_MONITOR, null);
-
-      List<ThreadPoolStats> clientThreadPools = new ArrayList<>();
-
-      if (result instanceof org.dromara.dynamictp.common.entity.AdminRequestBody) {
-        org.dromara.dynamictp.common.entity.AdminRequestBody adminResponse = (org.dromara.dynamictp.common.entity.AdminRequestBody) result;
-        Object responseBody = adminResponse.deserializeBody();
-
-        if (responseBody instanceof List) {
-          @SuppressWarnings("unchecked")
-          List<ThreadPoolStats> pools = (List<ThreadPoolStats>) responseBody;
-          clientThreadPools = pools;
-        }
-      } else if (result instanceof List) {
-        @SuppressWarnings("unchecked")
-        List<ThreadPoolStats> pools = (List<ThreadPoolStats>) result;
-        clientThreadPools = pools;
-      }
-
-      // 分页处理
-      int start = (pageQuery.getPage() - 1) * pageQuery.getPageSize();
-      int end = Math.min(start + pageQuery.getPageSize(), clientThreadPools.size());
-      List<ThreadPoolStats> pageData = clientThreadPools.subList(start, end);
-
-      // 构建分页结果
-      IPage<ThreadPoolStats> page = new com.baomidou.mybatisplus.extension.plugins.pagination.Page<>(
-          pageQuery.getPage(), pageQuery.getPageSize());
-      page.setRecords(pageData);
-      page.setTotal(clientThreadPools.size());
-
-      return Result.data(page);
+      monThreadPoolBO.setClientId(clientId);
+      return Result.data(monThreadPoolFacade.listMonThreadPoolPage(pageQuery, monThreadPoolBO));
     } catch (Exception e) {
       log.error("获取客户端线程池数据失败，clientId={}", clientId, e);
       return Result.failure("获取客户端线程池数据失败: " + e.getMessage());
@@ -105,58 +90,55 @@ public class MonThreadPoolController {
       @Parameter(description = "客户端ID") @PathVariable String clientId) {
     log.info("按客户端获取线程池统计数据，clientId={}", clientId);
 
-    // 验证客户端是否存在
-    if (!adminServer.getConnectedClients().contains(clientId)) {
+    // 验证客户端是否存在，集群模式下包含连接在其他节点上的客户端
+    if (!clusterCoordinator.isAvailableClient(clientId)) {
       return Result.failure("客户端不存在或已断开连接");
     }
 
     try {
-      // 直接向指定客户端请求线程池数据
-      Object result = adminServer.requestToSpecificClient(clientId,
-          org.dromara.dynamictp.common.em.AdminRequestTypeEnum.EXECUTOR_MONITOR, null);
-
-      List<ThreadPoolStats> clientThreadPools = new ArrayList<>();
-
-      if (result instanceof org.dromara.dynamictp.common.entity.AdminRequestBody) {
-        org.dromara.dynamictp.common.entity.AdminRequestBody adminResponse = (org.dromara.dynamictp.common.entity.AdminRequestBody) result;
-        Object responseBody = adminResponse.deserializeBody();
-
-        if (responseBody instanceof List) {
-          @SuppressWarnings("unchecked")
-          List<ThreadPoolStats> pools = (List<ThreadPoolStats>) responseBody;
-          clientThreadPools = pools;
-        }
-      } else if (result instanceof List) {
-        @SuppressWarnings("unchecked")
-        List<ThreadPoolStats> pools = (List<ThreadPoolStats>) result;
-        clientThreadPools = pools;
-      }
-
-      // 创建汇总统计数据
-      ThreadPoolStats statistics = new ThreadPoolStats();
-      statistics.setPoolName("客户端汇总-" + clientId);
-      statistics.setPoolAliasName("Client Summary - " + clientId);
-
-      // 计算汇总数据
-      int totalPools = clientThreadPools.size();
-      int totalActiveCount = clientThreadPools.stream().mapToInt(ThreadPoolStats::getActiveCount).sum();
-      long totalTaskCount = clientThreadPools.stream().mapToLong(ThreadPoolStats::getTaskCount).sum();
-      long totalCompletedTaskCount = clientThreadPools.stream().mapToLong(ThreadPoolStats::getCompletedTaskCount).sum();
-      long totalRejectCount = clientThreadPools.stream().mapToLong(ThreadPoolStats::getRejectCount).sum();
-
-      statistics.setPoolSize(totalPools);
-      statistics.setActiveCount(totalActiveCount);
-      statistics.setTaskCount(totalTaskCount);
-      statistics.setCompletedTaskCount(totalCompletedTaskCount);
-      statistics.setRejectCount(totalRejectCount);
-
-      return Result.data(statistics);
+      return Result.data(monThreadPoolFacade.getClientStatistics(clientId));
     } catch (Exception e) {
       log.error("获取客户端线程池数据失败，clientId={}", clientId, e);
       return Result.failure("获取客户端线程池数据失败: " + e.getMessage());
     }
   }
 
+  @GetMapping("/query")
+  @SaCheckPermission("mon:thread_pool:page")
+  @Operation(operationId = "9", summary = "跨客户端过滤、排序与游标分页查询线程池")
+  public Result<MonThreadPoolQueryVO> queryThreadPools(@Parameter(description = "分页参数，仅使用 pageSize") PageQuery pageQuery,
+                                                      @Parameter(description = "查询条件") MonThreadPoolBO monThreadPoolBO) {
+    log.info("跨客户端查询线程池，monThreadPoolBO={}", monThreadPoolBO);
+    return Result.data(monThreadPoolFacade.queryThreadPools(pageQuery, monThreadPoolBO));
+  }
+
+  @GetMapping("/hot")
+  @SaCheckPermission("mon:thread_pool:metrics")
+  @Operation(operationId = "10", summary = "获取当前压力最高的线程池")
+  public Result<List<MonThreadPoolHotVO>> listHotPools(
+      @Parameter(description = "返回条数，默认 20") @RequestParam(defaultValue = "20") Integer limit) {
+    log.info("获取热点线程池，limit={}", limit);
+    return Result.data(monThreadPoolFacade.listHotPools(limit));
+  }
+
+  @GetMapping("/groups")
+  @SaCheckPermission("mon:thread_pool:statistics")
+  @Operation(operationId = "11", summary = "按应用聚合各实例的同名线程池")
+  public Result<List<MonThreadPoolGroupVO>> listPoolGroups(
+      @Parameter(description = "应用名称，为空时返回全部应用") @RequestParam(required = false) String appName,
+      @Parameter(description = "线程池名称关键字") @RequestParam(required = false) String poolName) {
+    log.info("获取跨实例线程池分组，appName={}, poolName={}", appName, poolName);
+    return Result.data(monThreadPoolFacade.listPoolGroups(appName, poolName));
+  }
+
+  @GetMapping("/rollup")
+  @SaCheckPermission("mon:thread_pool:statistics")
+  @Operation(operationId = "8", summary = "按应用 / 客户端 / 线程池名称多维度汇总线程池")
+  public Result<MonThreadPoolRollupVO> getThreadPoolRollup() {
+    log.info("获取线程池多维度汇总");
+    return Result.data(monThreadPoolFacade.getRollup());
+  }
+
   @GetMapping("/{clientId}/metrics")
   @SaCheckPermission("mon:thread_pool:metrics")
   @Operation(operationId = "3", summary = "按客户端获取线程池实时指标")
@@ -164,35 +146,102 @@ public class MonThreadPoolController {
       @Parameter(description = "客户端ID") @PathVariable String clientId) {
     log.info("按客户端获取线程池实时指标，clientId={}", clientId);
 
-    // 验证客户端是否存在
-    if (!adminServer.getConnectedClients().contains(clientId)) {
+    // 验证客户端是否存在，集群模式下包含连接在其他节点上的客户端
+    if (!clusterCoordinator.isAvailableClient(clientId)) {
       return Result.failure("客户端不存在或已断开连接");
     }
 
     try {
-      // 直接向指定客户端请求线程池数据
-      Object result = adminServer.requestToSpecificClient(clientId,
-          org.dromara.dynamictp.common.em.AdminRequestTypeEnum.EXECUTOR_MONITOR, null);
-
-      if (result instanceof org.dromara.dynamictp.common.entity.AdminRequestBody) {
-        org.dromara.dynamictp.common.entity.AdminRequestBody adminResponse = (org.dromara.dynamictp.common.entity.AdminRequestBody) result;
-        Object responseBody = adminResponse.deserializeBody();
-
-        if (responseBody instanceof List) {
-          @SuppressWarnings("unchecked")
-          List<ThreadPoolStats> clientThreadPools = (List<ThreadPoolStats>) responseBody;
-          return Result.data(clientThreadPools);
-        }
-      } else if (result instanceof List) {
-        @SuppressWarnings("unchecked")
-        List<ThreadPoolStats> clientThreadPools = (List<ThreadPoolStats>) result;
-        return Result.data(clientThreadPools);
-      }
-
-      return Result.data(new ArrayList<>());
+      return Result.data(monThreadPoolFacade.getClientThreadPools(clientId));
     } catch (Exception e) {
       log.error("获取客户端线程池数据失败，clientId={}", clientId, e);
       return Result.failure("获取客户端线程池数据失败: " + e.getMessage());
     }
   }
-}
\ No newline at end of file
+
+  @GetMapping("/app/{appName}/metrics")
+  @SaCheckPermission("mon:thread_pool:metrics")
+  @Operation(operationId = "14", summary = "按应用获取一个健康实例的线程池实时指标")
+  public Result<List<ThreadPoolStats>> getThreadPoolMetricsByApp(
+      @Parameter(description = "应用名称") @PathVariable String appName,
+      @Parameter(description = "实例选择策略：ROUND_ROBIN / LEAST_LATENCY，默认轮询")
+      @RequestParam(required = false) RoutingStrategy strategy) {
+    log.info("按应用获取线程池实时指标，appName={}, strategy={}", appName, strategy);
+
+    // 集群模式下包含连接在其他节点上的实例
+    if (!clusterCoordinator.clusterAppInstances().containsKey(appName)) {
+      return Result.failure("应用不存在或没有在线实例");
+    }
+
+    try {
+      return Result.data(monThreadPoolFacade.getAppThreadPools(appName, strategy));
+    } catch (Exception e) {
+      log.error("获取应用线程池数据失败，appName={}", appName, e);
+      return Result.failure("获取应用线程池数据失败: " + e.getMessage());
+    }
+  }
+
+  @GetMapping("/snapshot")
+  @SaCheckPermission("mon:thread_pool:metrics")
+  @Operation(operationId = "4", summary = "获取各客户端线程池快照状态")
+  public Result<List<MonThreadPoolSnapshotVO>> getSnapshotStatus() {
+    log.info("获取各客户端线程池快照状态");
+    return Result.data(monThreadPoolFacade.listSnapshotStatus());
+  }
+
+  @GetMapping("/{clientId}/history")
+  @SaCheckPermission("mon:thread_pool:metrics")
+  @Operation(operationId = "5", summary = "按客户端获取线程池历史指标")
+  public Result<MonThreadPoolHistoryVO> getThreadPoolHistoryByClient(
+      @Parameter(description = "客户端ID") @PathVariable String clientId,
+      @Parameter(description = "线程池名称") @RequestParam String poolName,
+      @Parameter(description = "起始时间（毫秒时间戳），默认结束时间前 1 小时") @RequestParam(required = false) Long startTime,
+      @Parameter(description = "结束时间（毫秒时间戳），默认当前时间") @RequestParam(required = false) Long endTime,
+      @Parameter(description = "分辨率：RAW / MINUTE / HOUR，默认按时间跨度选择") @RequestParam(required = false)
+      HistoryResolution resolution) {
+    log.info("按客户端获取线程池历史指标，clientId={}, poolName={}", clientId, poolName);
+    MonThreadPoolHistoryVO history = monThreadPoolFacade.getHistory(clientId, poolName, startTime, endTime, resolution);
+    if (history == null) {
+      return Result.failure("线程池历史指标不存在");
+    }
+    return Result.data(history);
+  }
+
+  @PostMapping("/refresh")
+  @SaCheckPermission("mon:thread_pool:refresh")
+  @Operation(operationId = "6", summary = "批量刷新线程池配置")
+  public Result<List<MonThreadPoolRefreshVO>> refreshThreadPools(
+      @Parameter(description = "线程池批量刷新对象") @Valid @RequestBody MonThreadPoolRefreshDTO monThreadPoolRefreshDTO) {
+    log.info("批量刷新线程池配置，目标数={}", monThreadPoolRefreshDTO.getTargets().size());
+    return Result.data(monThreadPoolFacade.refreshThreadPools(monThreadPoolRefreshDTO));
+  }
+
+  @GetMapping("/recommend")
+  @SaCheckPermission("mon:thread_pool:statistics")
+  @Operation(operationId = "12", summary = "根据历史指标获取线程池容量建议")
+  public Result<List<MonThreadPoolRecommendVO>> listRecommendations(
+      @Parameter(description = "客户端ID，为空时为全部客户端") @RequestParam(required = false) String clientId,
+      @Parameter(description = "线程池名称，为空时为全部线程池") @RequestParam(required = false) String poolName,
+      @Parameter(description = "统计窗口（分钟），默认使用配置值") @RequestParam(required = false) Integer windowMinutes) {
+    log.info("获取线程池容量建议，clientId={}, poolName={}, windowMinutes={}", clientId, poolName, windowMinutes);
+    return Result.data(monThreadPoolFacade.listRecommendations(clientId, poolName, windowMinutes));
+  }
+
+  @PostMapping("/recommend/apply")
+  @SaCheckPermission("mon:thread_pool:refresh")
+  @Operation(operationId = "13", summary = "下发线程池容量建议（支持试运行）")
+  public Result<List<MonThreadPoolRecommendVO>> applyRecommendations(
+      @Parameter(description = "容量建议下发对象") @Valid @RequestBody MonThreadPoolRecommendDTO monThreadPoolRecommendDTO) {
+    log.info("下发线程池容量建议，dryRun={}", monThreadPoolRecommendDTO.getDryRun());
+    return Result.data(monThreadPoolFacade.applyRecommendations(monThreadPoolRecommendDTO));
+  }
+
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @SaCheckPermission("mon:thread_pool:metrics")
+  @Operation(operationId = "7", summary = "订阅线程池实时指标（SSE）")
+  public SseEmitter streamThreadPoolMetrics(
+      @Parameter(description = "客户端ID，为空时订阅全部客户端") @RequestParam(required = false) String clientId) {
+    log.info("订阅线程池实时指标，clientId={}", clientId);
+    return monThreadPoolFacade.subscribeMetrics(clientId);
+  }
+}
@@ -28,5 +28,7 @@ public final class RequestConstant {
 
     public static final String LANGUAGE = "P-Language";
 
+    public static final String REQUEST_TIMEOUT = "P-Request-Timeout";
+
     public static final String USER_AGENT = "User-Agent";
 }
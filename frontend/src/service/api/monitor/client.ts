@@ -1,4 +1,9 @@
 import { request } from '@/service/request';
+import { getAuthorization } from '@/service/request/shared';
+import { getServiceBaseURL } from '@/utils/service';
+
+const isHttpProxy = import.meta.env.DEV && import.meta.env.VITE_HTTP_PROXY === 'Y';
+const { baseURL } = getServiceBaseURL(import.meta.env, isHttpProxy);
 
 // =============== Client Begin ===============
 
@@ -35,4 +40,66 @@ export function fetchGetThreadPoolMetricsByClient(clientId: string) {
   });
 }
 
+/**
+ * subscribe thread pool metrics stream by client (SSE)
+ *
+ * Uses fetch instead of EventSource so that the Authorization header can be sent.
+ *
+ * @returns function to close the subscription
+ */
+export function subscribeThreadPoolMetricsByClient(
+  clientId: string,
+  onEvent: (event: Api.Monitor.ThreadPoolMetricsEvent) => void,
+  onClose: (error?: unknown) => void
+) {
+  const controller = new AbortController();
+  const headers: Record<string, string> = { Accept: 'text/event-stream' };
+  const Authorization = getAuthorization();
+  if (Authorization) {
+    headers.Authorization = Authorization;
+  }
+
+  (async () => {
+    const response = await fetch(`${baseURL}/thread_pool/client/stream?clientId=${encodeURIComponent(clientId)}`, {
+      headers,
+      signal: controller.signal
+    });
+    const contentType = response.headers.get('content-type') || '';
+    if (!response.ok || !response.body || !contentType.includes('text/event-stream')) {
+      throw new Error(`metrics stream unavailable: ${response.status}`);
+    }
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    while (true) {
+      // eslint-disable-next-line no-await-in-loop
+      const { done, value } = await reader.read();
+      if (done) break;
+      buffer += value;
+      let boundary = buffer.indexOf('\n\n');
+      while (boundary >= 0) {
+        const block = buffer.slice(0, boundary);
+        buffer = buffer.slice(boundary + 2);
+        boundary = buffer.indexOf('\n\n');
+        const lines = block.split('\n');
+        const eventName = lines.find(line => line.startsWith('event:'))?.slice(6).trim();
+        const data = lines
+          .filter(line => line.startsWith('data:'))
+          .map(line => line.slice(5).trim())
+          .join('\n');
+        if (eventName === 'snapshot' && data) {
+          onEvent(JSON.parse(data));
+        }
+      }
+    }
+  })()
+    .then(() => onClose())
+    .catch(error => {
+      if (!controller.signal.aborted) {
+        onClose(error);
+      }
+    });
+
+  return () => controller.abort();
+}
+
 // =============== Client End ===============
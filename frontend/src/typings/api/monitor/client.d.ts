@@ -11,7 +11,9 @@ declare namespace Api {
       /** 客户端端口 */
       clientPort: number;
       /** 客户端状态 */
-      status: 'online' | 'offline';
+      status: 'online' | 'unhealthy' | 'offline';
+      /** 熔断状态 */
+      circuitState?: 'CLOSED' | 'OPEN' | 'HALF_OPEN';
       /** 最后心跳时间 */
       lastHeartbeat: string;
       /** 注册时间 */
@@ -79,5 +79,19 @@ declare namespace Api {
 
     /** ThreadPool Real-time Metrics - 使用ThreadPool作为实时指标 */
     type ThreadPoolMetrics = ThreadPool;
+
+    /** ThreadPool Metrics Stream Event - 实时指标推送事件，增量事件仅包含有变化的线程池 */
+    type ThreadPoolMetricsEvent = {
+      /** 客户端ID */
+      clientId: string;
+      /** 采集时间（毫秒时间戳） */
+      collectTime: number;
+      /** 是否为全量事件 */
+      full: boolean;
+      /** 全量事件为全部线程池，增量事件为有变化的线程池 */
+      pools: ThreadPool[];
+      /** 已移除的线程池名称 */
+      removed: string[];
+    };
   }
 }
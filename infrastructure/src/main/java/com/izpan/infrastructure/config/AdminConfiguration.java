@@ -1,6 +1,15 @@
 package com.izpan.infrastructure.config;
 
 import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.AdminServerProperties;
+import com.izpan.infrastructure.server.cluster.ClusterCoordinator;
+import com.izpan.infrastructure.server.cluster.ClusterRegistry;
+import com.izpan.infrastructure.server.cluster.MemoryClusterRegistry;
+import com.izpan.infrastructure.server.cluster.RedisClusterRegistry;
+import com.izpan.infrastructure.server.handler.AdminRequestHandler;
+import com.izpan.infrastructure.server.stats.RpcMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,7 +17,35 @@ import org.springframework.context.annotation.Configuration;
 public class AdminConfiguration {
 
     @Bean
-    public AdminServer adminServer() {
-        return new AdminServer();
+    public RpcMetrics rpcMetrics(AdminServerProperties properties) {
+        return new RpcMetrics(properties.getStats().isMicrometerEnabled());
+    }
+
+    @Bean
+    public AdminServer adminServer(AdminServerProperties properties, RpcMetrics rpcMetrics) {
+        AdminServer adminServer = new AdminServer(properties, rpcMetrics);
+        adminServer.setCompactSnapshotEnabled(properties.isCompactSnapshot());
+        return adminServer;
+    }
+
+    @Bean
+    public ClusterRegistry clusterRegistry(AdminServerProperties properties) {
+        return properties.getCluster().getRegistry() == AdminServerProperties.Cluster.RegistryType.REDIS
+                ? new RedisClusterRegistry() : new MemoryClusterRegistry();
+    }
+
+    @Bean
+    public ClusterCoordinator clusterCoordinator(AdminServerProperties properties, ClusterRegistry clusterRegistry,
+                                                 AdminServer adminServer) {
+        return new ClusterCoordinator(properties.getCluster(), clusterRegistry, adminServer);
+    }
+
+    /**
+     * 所有单例初始化完成后再注册上报处理器，避免处理器依赖 AdminServer 时产生循环依赖
+     */
+    @Bean
+    public SmartInitializingSingleton adminRequestHandlerRegistrar(AdminServer adminServer,
+                                                                   ObjectProvider<AdminRequestHandler> handlers) {
+        return () -> handlers.orderedStream().forEach(adminServer::registerRequestHandler);
     }
 }
@@ -0,0 +1,43 @@
+package com.izpan.infrastructure.holder;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求截止时间持有者
+ * <p>
+ * HTTP 请求进入时记录截止时间，向客户端发起的 RPC 调用据此裁剪超时，避免单个客户端拖住请求线程。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.holder.RequestDeadlineHolder
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@UtilityClass
+public class RequestDeadlineHolder {
+
+    /**
+     * 截止时间（{@link System#nanoTime()} 基准）
+     */
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    public static void setTimeoutMillis(long timeoutMillis) {
+        DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    /**
+     * 当前请求的剩余时间
+     *
+     * @return 剩余毫秒数，未设置截止时间时返回 {@link Long#MAX_VALUE}
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+}
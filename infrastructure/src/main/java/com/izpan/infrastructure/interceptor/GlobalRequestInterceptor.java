@@ -21,6 +21,8 @@ package com.izpan.infrastructure.interceptor;
 
 import com.izpan.common.constants.RequestConstant;
 import com.izpan.infrastructure.holder.ContextHolder;
+import com.izpan.infrastructure.holder.RequestDeadlineHolder;
+import com.izpan.infrastructure.server.AdminServerProperties;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
@@ -44,11 +46,14 @@ import org.springframework.web.servlet.ModelAndView;
 @RequiredArgsConstructor
 public class GlobalRequestInterceptor implements HandlerInterceptor {
 
+    private final AdminServerProperties adminServerProperties;
+
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
         // 在请求处理之前进行拦截逻辑的处理
         String language = request.getHeader(RequestConstant.LANGUAGE);
         ContextHolder.setLanguage(language);
+        RequestDeadlineHolder.setTimeoutMillis(resolveTimeoutMillis(request));
         return true;
     }
 
@@ -61,5 +66,25 @@ public class GlobalRequestInterceptor implements HandlerInterceptor {
     public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler, Exception ex) {
         // 请求的整个流程处理完成后进行拦截逻辑的处理
         ContextHolder.clearLanguage();
+        RequestDeadlineHolder.clear();
+    }
+
+    /**
+     * 请求预算取配置值与请求头 P-Request-Timeout 中的较小者
+     */
+    private long resolveTimeoutMillis(HttpServletRequest request) {
+        long budget = adminServerProperties.getTimeout().getHttpBudgetMillis();
+        String header = request.getHeader(RequestConstant.REQUEST_TIMEOUT);
+        if (header != null) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested > 0) {
+                    budget = Math.min(budget, requested);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignore invalid request timeout header: {}", header);
+            }
+        }
+        return budget;
     }
 }
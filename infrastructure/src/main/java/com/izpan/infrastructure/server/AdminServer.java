@@ -5,53 +5,159 @@ import com.alipay.remoting.ConnectionEventType;
 import com.alipay.remoting.config.Configs;
 import com.alipay.remoting.exception.RemotingException;
 import com.alipay.remoting.rpc.RpcServer;
-import com.alipay.remoting.serialization.HessianSerializer;
+import com.alipay.remoting.rpc.exception.InvokeTimeoutException;
 import com.alipay.remoting.serialization.SerializerManager;
+import com.izpan.infrastructure.server.codec.CompactSnapshotSessions;
+import com.izpan.infrastructure.server.codec.DecodedAdminRequestBody;
+import com.izpan.infrastructure.server.codec.SchemaBinarySerializer;
+import com.izpan.infrastructure.server.codec.SerializerNegotiator;
+import com.izpan.infrastructure.server.dispatch.ClientRequestScheduler;
+import com.izpan.infrastructure.server.dispatch.FanOutDispatcher;
+import com.izpan.infrastructure.server.dispatch.HedgedInvoker;
+import com.izpan.infrastructure.server.dispatch.TimeoutBudget;
+import com.izpan.infrastructure.server.handler.AdminRequestHandler;
+import com.izpan.infrastructure.server.health.CircuitOpenException;
+import com.izpan.infrastructure.server.health.CircuitState;
+import com.izpan.infrastructure.server.health.ClientHealthChecker;
 import com.izpan.infrastructure.server.processor.AdminServerUserProcessor;
 import com.izpan.infrastructure.server.processor.ServerConnectProcessor;
 import com.izpan.infrastructure.server.processor.ServerDisconnectProcessor;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import com.izpan.infrastructure.server.registry.ClientRegistry;
+import com.izpan.infrastructure.server.routing.ClientRouter;
+import com.izpan.infrastructure.server.routing.RoutingStrategy;
+import com.izpan.infrastructure.server.stats.RpcMetrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
 import org.dromara.dynamictp.common.entity.AdminRequestBody;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
 
-import java.util.List;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class AdminServer {
 
-    private final int port = 8989;
+    /**
+     * 管理端自身在面板中的客户端标识，用于展示管理端请求处理线程池
+     */
+    public static final String SELF_CLIENT_ID = "admin-server";
+
+    /**
+     * 无 RTT 样本时的对冲延迟（毫秒）
+     */
+    private static final long DEFAULT_HEDGE_DELAY_MILLIS = 200;
+
+    /**
+     * 自适应对冲延迟的下限（毫秒）
+     */
+    private static final long MIN_HEDGE_DELAY_MILLIS = 20;
+
+    /**
+     * 广播时同时在途的最大请求数
+     */
+    private static final int BROADCAST_MAX_IN_FLIGHT = 64;
 
     private final RpcServer server;
 
-    private final AdminServerUserProcessor adminServerUserProcessor = new AdminServerUserProcessor();
+    private final FanOutDispatcher fanOutDispatcher;
 
-    @Getter
-    private static final HessianSerializer SERIALIZER = new HessianSerializer();
+    private final AdminServerUserProcessor adminServerUserProcessor;
+
+    private final CompactSnapshotSessions compactSnapshotSessions = new CompactSnapshotSessions();
+
+    private final ClientRouter clientRouter;
+
+    private final TimeoutBudget timeoutBudget;
+
+    private final AdminServerProperties.Hedge hedgeConfig;
+
+    private final ClientHealthChecker healthChecker;
+
+    private final ClientRequestScheduler requestScheduler;
+
+    /**
+     * 对冲延迟计时器，不占用公共 ForkJoinPool；未开启对冲时为 {@code null}
+     */
+    private final ScheduledExecutorService hedgeScheduler;
+
+    private final SerializerNegotiator serializerNegotiator;
 
     @Getter
     private static final SnowflakeGenerator SNOWFLAKE_GENERATOR = new SnowflakeGenerator();
 
-    public AdminServer() {
-        this.server = new RpcServer(port, true);
+    public AdminServer(AdminServerProperties properties, RpcMetrics rpcMetrics) {
+        AdminServerProperties.Transport transport = properties.getTransport();
+        // Bolt 在类初始化与启动时读取系统属性，必须在创建 RpcServer 之前设置
+        applyTransportProperties(transport);
+        this.serializerNegotiator = new SerializerNegotiator(properties.getSerialization().isNegotiate());
+        this.adminServerUserProcessor = new AdminServerUserProcessor(properties.getProcessor(), serializerNegotiator);
+        this.timeoutBudget = new TimeoutBudget(properties.getTimeout());
+        this.hedgeConfig = properties.getHedge();
+        this.hedgeScheduler = hedgeConfig.isEnabled() ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "AdminServerHedge");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.requestScheduler = new ClientRequestScheduler(properties.getScheduler());
+        this.server = new RpcServer(transport.getPort(), true);
         server.addConnectionEventProcessor(ConnectionEventType.CONNECT,
                 new ServerConnectProcessor(adminServerUserProcessor));
         server.addConnectionEventProcessor(ConnectionEventType.CLOSE,
                 new ServerDisconnectProcessor(adminServerUserProcessor));
+        server.addConnectionEventProcessor(ConnectionEventType.CLOSE,
+                (remoteAddress, connection) -> compactSnapshotSessions.remove(remoteAddress));
+        server.addConnectionEventProcessor(ConnectionEventType.CLOSE,
+                (remoteAddress, connection) -> serializerNegotiator.remove(remoteAddress));
+        this.healthChecker = new ClientHealthChecker(properties.getHealth(), adminServerUserProcessor.getClientRegistry(),
+                this::ping);
+        this.clientRouter = new ClientRouter(adminServerUserProcessor.getClientRegistry(),
+                address -> healthChecker.getState(address) == CircuitState.CLOSED);
+        server.addConnectionEventProcessor(ConnectionEventType.CLOSE,
+                (remoteAddress, connection) -> healthChecker.remove(remoteAddress));
+        server.addConnectionEventProcessor(ConnectionEventType.CLOSE,
+                (remoteAddress, connection) -> requestScheduler.remove(remoteAddress));
+        server.addConnectionEventProcessor(ConnectionEventType.CLOSE,
+                (remoteAddress, connection) -> rpcMetrics.remove(remoteAddress));
         server.registerUserProcessor(adminServerUserProcessor);
         this.server.startup();
-        SerializerManager.addSerializer(1, SERIALIZER);
-        System.setProperty(Configs.SERIALIZER, String.valueOf(SERIALIZER));
-        log.info("DynamicTp admin server started, port: {}", port);
+        this.fanOutDispatcher = new FanOutDispatcher(server, BROADCAST_MAX_IN_FLIGHT, rpcMetrics);
+        log.info("DynamicTp admin server started, port: {}, epoll: {}, write buffer water mark: {}/{}",
+                transport.getPort(), transport.isEpoll(), transport.getWriteBufferLowWaterMark(),
+                transport.getWriteBufferHighWaterMark());
     }
 
     /**
-     * 向第一个可用的客户端发送请求（向后兼容）
-     * 
+     * 将传输层配置写入 Bolt 读取的系统属性
+     */
+    private static void applyTransportProperties(AdminServerProperties.Transport transport) {
+        if (transport.getWriteBufferLowWaterMark() > transport.getWriteBufferHighWaterMark()) {
+            throw new IllegalArgumentException("Write buffer low water mark must not exceed high water mark");
+        }
+        if (transport.getIoRatio() < 1 || transport.getIoRatio() > 100) {
+            throw new IllegalArgumentException("Netty io ratio must be between 1 and 100");
+        }
+        System.setProperty(Configs.SERIALIZER, String.valueOf(SerializerManager.Hessian2));
+        System.setProperty(Configs.NETTY_IO_RATIO, String.valueOf(transport.getIoRatio()));
+        System.setProperty(Configs.NETTY_BUFFER_HIGH_WATERMARK, String.valueOf(transport.getWriteBufferHighWaterMark()));
+        System.setProperty(Configs.NETTY_BUFFER_LOW_WATERMARK, String.valueOf(transport.getWriteBufferLowWaterMark()));
+        System.setProperty(Configs.NETTY_EPOLL_SWITCH, String.valueOf(transport.isEpoll()));
+        System.setProperty(Configs.TCP_IDLE_SWITCH, String.valueOf(transport.isIdleCheck()));
+        System.setProperty(Configs.TCP_SERVER_IDLE, String.valueOf(transport.getIdleTimeoutMillis()));
+    }
+
+    /**
+     * 向任一健康的客户端发送请求（向后兼容），在客户端间轮询
+     *
      * @param requestType 请求类型
      * @param body        请求体
      * @return 响应结果
@@ -60,16 +166,64 @@ public class AdminServer {
      */
     public Object requestToClient(AdminRequestTypeEnum requestType, Object body)
             throws RemotingException, InterruptedException {
-        AdminRequestBody requestBody = new AdminRequestBody(SNOWFLAKE_GENERATOR.next(), requestType, body);
-        String remoteAddr = adminServerUserProcessor.getFirstAvailableClient();
-
-        if ("NOT-CONNECT".equals(remoteAddr)) {
+        String remoteAddr = clientRouter.route(RoutingStrategy.ROUND_ROBIN);
+        if (remoteAddr == null) {
             log.warn("No clients connected, cannot send request");
             return null;
         }
+        return requestToSpecificClient(remoteAddr, requestType, body);
+    }
 
-        log.debug("Sending request to client: {}", remoteAddr);
-        return server.invokeSync(remoteAddr, requestBody, 30000);
+    /**
+     * 向指定应用的某个健康实例发送请求
+     *
+     * @param appName       应用名称
+     * @param strategy      实例选择策略
+     * @param requestType   请求类型
+     * @param body          请求体
+     * @param timeoutMillis 截止时间（毫秒）
+     * @return 客户端响应，应用无可用实例时以失败响应完成
+     */
+    public CompletableFuture<ClientResponse> requestToAppAsync(String appName, RoutingStrategy strategy,
+                                                               AdminRequestTypeEnum requestType,
+                                                               Object body, long timeoutMillis) {
+        String clientAddress = clientRouter.routeToApp(appName, strategy);
+        if (clientAddress == null) {
+            return CompletableFuture.completedFuture(ClientResponse.failure(appName,
+                    new IllegalStateException("No available client for application: " + appName), 0));
+        }
+        long deadlineNanos = deadlineNanos(requestType, timeoutMillis);
+        if (hedgeScheduler == null || !hedgeConfig.getRequestTypes().contains(requestType)) {
+            return dispatch(clientAddress, requestType, body, deadlineNanos);
+        }
+        // 对冲请求发往同一应用的另一个实例，共用截止时间；没有其他实例时不对冲
+        return HedgedInvoker.invoke(attempt -> {
+            String target = attempt == 0 ? clientAddress : clientRouter.routeToApp(appName, strategy, clientAddress);
+            if (target == null) {
+                return CompletableFuture.completedFuture(ClientResponse.failure(appName,
+                        new IllegalStateException("No other instance to hedge for application: " + appName), 0));
+            }
+            return dispatch(target, requestType, body, deadlineNanos);
+        }, hedgeDelayMillis(clientAddress), hedgeScheduler);
+    }
+
+    /**
+     * 向指定实例发送请求
+     *
+     * @param instanceId    实例标识或客户端地址
+     * @param requestType   请求类型
+     * @param body          请求体
+     * @param timeoutMillis 截止时间（毫秒）
+     * @return 客户端响应，实例不存在时以失败响应完成
+     */
+    public CompletableFuture<ClientResponse> requestToInstanceAsync(String instanceId, AdminRequestTypeEnum requestType,
+                                                                    Object body, long timeoutMillis) {
+        String clientAddress = clientRouter.routeToInstance(instanceId);
+        if (clientAddress == null) {
+            return CompletableFuture.completedFuture(ClientResponse.failure(instanceId,
+                    new IllegalStateException("Client instance not connected: " + instanceId), 0));
+        }
+        return requestToSpecificClientAsync(clientAddress, requestType, body, timeoutMillis);
     }
 
     /**
@@ -84,84 +238,338 @@ public class AdminServer {
      */
     public Object requestToSpecificClient(String clientAddress, AdminRequestTypeEnum requestType, Object body)
             throws RemotingException, InterruptedException {
-        AdminRequestBody requestBody = new AdminRequestBody(SNOWFLAKE_GENERATOR.next(), requestType, body);
         log.debug("Sending request to specific client: {}", clientAddress);
-        return server.invokeSync(clientAddress, requestBody, 30000);
+        // 与异步请求共用调度、熔断与观测逻辑，当前线程只负责等待结果
+        ClientResponse response;
+        try {
+            response = requestToSpecificClientAsync(clientAddress, requestType, body, 0).get();
+        } catch (ExecutionException e) {
+            throw new RemotingException("Request to client failed: " + clientAddress, e.getCause());
+        }
+        if (response.isTimeout()) {
+            throw new InvokeTimeoutException("Request to client timed out: " + clientAddress + ", "
+                    + response.getErrorMessage());
+        }
+        if (!response.isSuccess()) {
+            if (response.getError() instanceof RemotingException remotingException) {
+                throw remotingException;
+            }
+            throw new RemotingException(response.getErrorMessage(), response.getError());
+        }
+        return response.getPayload();
+    }
+
+    /**
+     * 向指定客户端异步发送请求
+     * <p>
+     * 超时取请求类型预算、timeoutMillis 与当前 HTTP 请求剩余时间中的最小值。
+     * 目标固定的请求不对冲：向已经变慢的同一客户端补发只会加重它的负担。
+     * </p>
+     *
+     * @param clientAddress 客户端地址
+     * @param requestType   请求类型
+     * @param body          请求体
+     * @param timeoutMillis 截止时间（毫秒），小于等于 0 时仅按预算计算
+     * @return 客户端响应，失败与超时体现在 {@link ClientResponse} 中
+     */
+    public CompletableFuture<ClientResponse> requestToSpecificClientAsync(String clientAddress,
+                                                                          AdminRequestTypeEnum requestType,
+                                                                          Object body, long timeoutMillis) {
+        return dispatch(clientAddress, requestType, body, deadlineNanos(requestType, timeoutMillis));
+    }
+
+    private long deadlineNanos(AdminRequestTypeEnum requestType, long timeoutMillis) {
+        return System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutBudget.resolve(requestType, timeoutMillis)));
+    }
+
+    /**
+     * 熔断判断后经调度器发送单个请求
+     */
+    private CompletableFuture<ClientResponse> dispatch(String clientAddress, AdminRequestTypeEnum requestType,
+                                                       Object body, long deadlineNanos) {
+        if (!healthChecker.allowRequest(clientAddress)) {
+            return CompletableFuture.completedFuture(
+                    ClientResponse.failure(clientAddress, new CircuitOpenException(clientAddress), 0));
+        }
+        log.debug("Sending async request to specific client: {}", clientAddress);
+        return schedule(clientAddress, requestType, body, deadlineNanos);
+    }
+
+    /**
+     * 经客户端请求调度器发送请求，轮到该请求时才生成请求体，完成后还原紧凑帧并刷新客户端观测数据
+     */
+    private CompletableFuture<ClientResponse> schedule(String clientAddress, AdminRequestTypeEnum requestType,
+                                                       Object body, long deadlineNanos) {
+        boolean coalescible = requestType == AdminRequestTypeEnum.EXECUTOR_MONITOR && body == null;
+        return requestScheduler.submit(clientAddress, coalescible, deadlineNanos, () -> {
+            CompletableFuture<ClientResponse> future = submit(clientAddress, requestType, body, deadlineNanos);
+            if (requestType == AdminRequestTypeEnum.EXECUTOR_MONITOR) {
+                future = future.thenApply(compactSnapshotSessions::decodeResponse);
+            }
+            return future.thenApply(this::observe);
+        });
+    }
+
+    /**
+     * 熔断恢复探测：不经熔断判断地发送一次请求，结果反馈给熔断器
+     * <p>
+     * 客户端协议没有专用的心跳类型，沿用幂等的 {@code EXECUTOR_MONITOR} 请求，可与正在进行的采集请求合并；
+     * 只在熔断半开试探时发送，连接存活由 Bolt 心跳与空闲检测负责，恢复后的首次采集也能直接复用该响应。
+     * </p>
+     */
+    private CompletableFuture<ClientResponse> ping(String clientAddress, long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        return schedule(clientAddress, AdminRequestTypeEnum.EXECUTOR_MONITOR, null, deadlineNanos);
+    }
+
+    private CompletableFuture<ClientResponse> submit(String clientAddress, AdminRequestTypeEnum requestType,
+                                                     Object body, long deadlineNanos) {
+        // 使用按连接协商的序列化器，编解码失败时该连接回退到 Hessian，由调用方按需重试
+        byte serializer = serializerNegotiator.serializerFor(clientAddress);
+        Object payload = compactSnapshotSessions.requestBody(clientAddress, requestType, body);
+        // 二进制编码直接写入请求体，不必先按 Hessian 编码进 AdminRequestBody
+        AdminRequestBody requestBody = serializer == SchemaBinarySerializer.CODE
+                ? new DecodedAdminRequestBody(SNOWFLAKE_GENERATOR.next(), requestType, payload)
+                : new AdminRequestBody(SNOWFLAKE_GENERATOR.next(), requestType, payload);
+        return fanOutDispatcher.submit(clientAddress, requestBody, deadlineNanos, serializer).thenApply(response -> {
+            if (!response.isSuccess() && !response.isTimeout()) {
+                serializerNegotiator.onFailure(clientAddress, serializer, response.getError());
+            }
+            return response;
+        });
+    }
+
+    /**
+     * 对冲延迟：配置了固定值时使用固定值，否则取客户端 RTT 平滑值的 3 倍
+     */
+    private long hedgeDelayMillis(String clientAddress) {
+        if (hedgeConfig.getDelayMillis() >= 0) {
+            return hedgeConfig.getDelayMillis();
+        }
+        ClientInfo info = adminServerUserProcessor.getClientRegistry().get(clientAddress);
+        if (info == null || info.getRttEwmaMillis() < 0) {
+            return DEFAULT_HEDGE_DELAY_MILLIS;
+        }
+        return Math.max(MIN_HEDGE_DELAY_MILLIS, Math.round(info.getRttEwmaMillis() * 3));
     }
 
     /**
      * 向所有连接的客户端广播请求
-     * 
+     * <p>
+     * 阻塞等待直到所有客户端返回或超时，等待期间不占用公共线程池
+     * </p>
+     *
      * @param requestType 请求类型
      * @param body        请求体
-     * @return 所有客户端的响应结果列表
+     * @return 客户端地址到响应的映射
+     */
+    public Map<String, ClientResponse> broadcastToAllClients(AdminRequestTypeEnum requestType, Object body) {
+        return broadcastToAllClientsAsync(requestType, body, 0).join();
+    }
+
+    /**
+     * 向所有连接的客户端异步广播请求
+     * <p>
+     * 基于 Bolt 回调发送，限制同时在途请求数；截止时间到达时以已收到的部分结果完成
+     * </p>
+     *
+     * @param requestType   请求类型
+     * @param body          请求体
+     * @param timeoutMillis 截止时间（毫秒），小于等于 0 时仅按预算计算
+     * @return 客户端地址到响应的映射，失败与超时体现在 {@link ClientResponse} 中
      */
-    public List<Object> broadcastToAllClients(AdminRequestTypeEnum requestType, Object body) {
-        Set<String> connectedClients = adminServerUserProcessor.getConnectedClients();
-        List<Object> results = new ArrayList<>();
+    public CompletableFuture<Map<String, ClientResponse>> broadcastToAllClientsAsync(AdminRequestTypeEnum requestType,
+                                                                                   Object body, long timeoutMillis) {
+        return broadcastToClientsAsync(adminServerUserProcessor.getConnectedClients(), requestType, body, timeoutMillis);
+    }
 
-        if (connectedClients.isEmpty()) {
+    /**
+     * 向指定的一组客户端异步广播请求
+     *
+     * @param clients       客户端地址集合
+     * @param requestType   请求类型
+     * @param body          请求体
+     * @param timeoutMillis 截止时间（毫秒），小于等于 0 时仅按预算计算
+     * @return 客户端地址到响应的映射，失败与超时体现在 {@link ClientResponse} 中
+     */
+    public CompletableFuture<Map<String, ClientResponse>> broadcastToClientsAsync(Collection<String> clients,
+                                                                                AdminRequestTypeEnum requestType,
+                                                                                Object body, long timeoutMillis) {
+        if (clients.isEmpty()) {
             log.warn("No clients connected, cannot broadcast request");
-            return results;
+            return CompletableFuture.completedFuture(Map.of());
         }
 
-        log.info("Broadcasting request to {} clients: {}", connectedClients.size(), connectedClients);
+        // 熔断中的客户端直接记为失败，避免死连接拖慢整轮广播
+        List<String> targets = new ArrayList<>(clients.size());
+        List<String> skipped = new ArrayList<>();
+        for (String clientAddress : clients) {
+            (healthChecker.allowRequest(clientAddress) ? targets : skipped).add(clientAddress);
+        }
+        if (!skipped.isEmpty()) {
+            log.warn("Skipping {} circuit-open clients: {}", skipped.size(), skipped);
+        }
+        log.info("Broadcasting request to {} clients: {}", targets.size(), targets);
+        long deadlineNanos = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutBudget.resolve(requestType, timeoutMillis)));
+        List<CompletableFuture<ClientResponse>> futures = new ArrayList<>(targets.size());
+        for (String clientAddress : targets) {
+            futures.add(schedule(clientAddress, requestType, body, deadlineNanos));
+        }
+        return FanOutDispatcher.collect(futures).thenApply(responses -> {
+            for (String clientAddress : skipped) {
+                responses.put(clientAddress,
+                        ClientResponse.failure(clientAddress, new CircuitOpenException(clientAddress), 0));
+            }
+            return responses;
+        });
+    }
 
-        // 使用CompletableFuture并发发送请求
-        List<CompletableFuture<Object>> futures = new ArrayList<>();
+    /**
+     * 向一组客户端分别发送各自的请求体，一轮并发往返完成
+     * <p>
+     * 与广播共享在途请求上限，适用于按客户端下发不同内容的批量操作（如批量刷新线程池配置）
+     * </p>
+     *
+     * @param bodies        客户端地址到请求体的映射
+     * @param requestType   请求类型
+     * @param timeoutMillis 截止时间（毫秒），小于等于 0 时仅按预算计算
+     * @return 客户端地址到响应的映射，失败与超时体现在 {@link ClientResponse} 中
+     */
+    public CompletableFuture<Map<String, ClientResponse>> multicastAsync(Map<String, ?> bodies,
+                                                                       AdminRequestTypeEnum requestType,
+                                                                       long timeoutMillis) {
+        if (bodies.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        log.info("Multicasting {} request to {} clients", requestType.getValue(), bodies.size());
+        long deadlineNanos = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutBudget.resolve(requestType, timeoutMillis)));
+        List<CompletableFuture<ClientResponse>> futures = new ArrayList<>(bodies.size());
+        bodies.forEach((clientAddress, body) ->
+                futures.add(schedule(clientAddress, requestType, body, deadlineNanos)));
+        return FanOutDispatcher.collect(futures);
+    }
 
-        for (String clientAddress : connectedClients) {
-            CompletableFuture<Object> future = CompletableFuture.supplyAsync(() -> {
-                try {
-                    return requestToSpecificClient(clientAddress, requestType, body);
-                } catch (Exception e) {
-                    log.error("Failed to send request to client: {}", clientAddress, e);
-                    return null;
-                }
-            });
-            futures.add(future);
+    /**
+     * 根据响应刷新客户端注册表中的活跃时间、RTT 与超时记录，并反馈给客户端熔断器；线程池数量由解包快照的采集方更新
+     */
+    private ClientResponse observe(ClientResponse response) {
+        healthChecker.record(response);
+        ClientRegistry clientRegistry = adminServerUserProcessor.getClientRegistry();
+        if (response.isTimeout()) {
+            clientRegistry.recordTimeout(response.getClientAddress());
+        } else if (response.isSuccess()) {
+            clientRegistry.recordRtt(response.getClientAddress(), response.getLatencyMillis());
         }
+        return response;
+    }
+
+    /**
+     * 开启或关闭线程池快照紧凑格式协商
+     *
+     * @param enabled 是否开启
+     */
+    public void setCompactSnapshotEnabled(boolean enabled) {
+        compactSnapshotSessions.setEnabled(enabled);
+        log.info("Compact thread pool snapshot format {}", enabled ? "enabled" : "disabled");
+    }
 
-        // 等待所有请求完成，设置超时时间
-        CompletableFuture<Void> allFutures = CompletableFuture.allOf(
-                futures.toArray(new CompletableFuture[0]));
+    /**
+     * 还原客户端主动上报的紧凑快照帧
+     *
+     * @param clientAddress 客户端地址
+     * @param payload       上报内容
+     * @return 紧凑帧返回线程池列表，否则原样返回
+     * @throws IllegalStateException 帧损坏或 epoch 不匹配
+     */
+    public Object decodeSnapshot(String clientAddress, Object payload) {
+        return compactSnapshotSessions.decode(clientAddress, payload);
+    }
 
-        try {
-            allFutures.get(30, TimeUnit.SECONDS); // 30秒超时
-        } catch (Exception e) {
-            log.error("Timeout or error waiting for client responses", e);
-        }
-
-        // 收集结果
-        for (CompletableFuture<Object> future : futures) {
-            try {
-                Object result = future.get(1, TimeUnit.SECONDS);
-                results.add(result);
-            } catch (Exception e) {
-                log.warn("Failed to get result from client", e);
-                results.add(null);
-            }
-        }
+    /**
+     * 获取发往客户端的请求当前使用的序列化器名称
+     *
+     * @param clientAddress 客户端地址
+     * @return 序列化器名称
+     */
+    public String getSerializerName(String clientAddress) {
+        return serializerNegotiator.nameOf(clientAddress);
+    }
+
+    /**
+     * 注册客户端上报请求处理器
+     *
+     * @param handler 处理器
+     */
+    public void registerRequestHandler(AdminRequestHandler handler) {
+        adminServerUserProcessor.registerRequestHandler(handler);
+    }
+
+    /**
+     * 获取客户端注册表
+     *
+     * @return 客户端注册表
+     */
+    public ClientRegistry getClientRegistry() {
+        return adminServerUserProcessor.getClientRegistry();
+    }
+
+    /**
+     * 获取客户端路由
+     *
+     * @return 客户端路由
+     */
+    public ClientRouter getClientRouter() {
+        return clientRouter;
+    }
 
-        return results;
+    /**
+     * 获取客户端熔断状态
+     *
+     * @param clientAddress 客户端地址
+     * @return 熔断状态，未发生过请求的客户端为 {@link CircuitState#CLOSED}
+     */
+    public CircuitState getCircuitState(String clientAddress) {
+        return healthChecker.getState(clientAddress);
     }
 
     /**
      * 获取所有已连接的客户端
      * 
-     * @return 客户端地址集合
+     * @return 客户端地址集合的只读视图
      */
     public Set<String> getConnectedClients() {
         return adminServerUserProcessor.getConnectedClients();
     }
 
+    /**
+     * 客户端是否可查询：已连接的客户端或管理端自身
+     *
+     * @param clientId 客户端标识
+     * @return 可查询返回 true
+     */
+    public boolean isAvailableClient(String clientId) {
+        return SELF_CLIENT_ID.equals(clientId) || adminServerUserProcessor.getClientRegistry().contains(clientId);
+    }
+
+    /**
+     * 导出管理端请求处理线程池指标
+     *
+     * @return 线程池指标
+     */
+    public ThreadPoolStats getProcessorStats() {
+        return adminServerUserProcessor.getProcessorExecutor().toThreadPoolStats();
+    }
+
     /**
      * 获取连接的客户端数量
      * 
      * @return 客户端数量
      */
     public int getConnectedClientCount() {
-        return adminServerUserProcessor.getConnectedClients().size();
+        return adminServerUserProcessor.getClientRegistry().size();
     }
 
     /**
@@ -177,6 +585,10 @@ public class AdminServer {
      * 关闭服务器
      */
     public void shutdown() {
+        healthChecker.shutdown();
+        if (hedgeScheduler != null) {
+            hedgeScheduler.shutdownNow();
+        }
         if (server != null) {
             server.shutdown();
         }
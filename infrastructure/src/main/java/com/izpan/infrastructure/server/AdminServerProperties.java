@@ -0,0 +1,304 @@
+package com.izpan.infrastructure.server;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 管理端 Bolt 服务配置
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.AdminServerProperties
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "dynamic-tp.admin.server")
+public class AdminServerProperties {
+
+    /**
+     * 是否与客户端协商线程池快照紧凑格式
+     */
+    private boolean compactSnapshot = false;
+
+    /**
+     * Bolt / Netty 传输层配置
+     */
+    private Transport transport = new Transport();
+
+    /**
+     * 序列化配置
+     */
+    private Serialization serialization = new Serialization();
+
+    /**
+     * 客户端请求处理线程池配置
+     */
+    private Processor processor = new Processor();
+
+    /**
+     * 请求超时预算配置
+     */
+    private Timeout timeout = new Timeout();
+
+    /**
+     * 对冲请求配置
+     */
+    private Hedge hedge = new Hedge();
+
+    /**
+     * 按客户端的请求调度配置
+     */
+    private Scheduler scheduler = new Scheduler();
+
+    /**
+     * RPC 统计配置
+     */
+    private Stats stats = new Stats();
+
+    /**
+     * 客户端健康检查与熔断配置
+     */
+    private Health health = new Health();
+
+    /**
+     * 集群配置
+     */
+    private Cluster cluster = new Cluster();
+
+    @Data
+    public static class Transport {
+
+        /**
+         * 监听端口
+         */
+        private int port = 8989;
+
+        /**
+         * Netty IO 线程处理 IO 事件与执行任务的时间占比（1-100）
+         */
+        private int ioRatio = 70;
+
+        /**
+         * 写缓冲高水位（字节），超过后连接变为不可写
+         */
+        private int writeBufferHighWaterMark = 64 * 1024;
+
+        /**
+         * 写缓冲低水位（字节），回落到该值以下后连接恢复可写
+         */
+        private int writeBufferLowWaterMark = 32 * 1024;
+
+        /**
+         * 是否开启连接空闲检测
+         */
+        private boolean idleCheck = true;
+
+        /**
+         * 连接空闲超时时间（毫秒），超时未读写的连接由服务端关闭
+         */
+        private int idleTimeoutMillis = 90000;
+
+        /**
+         * 是否使用 epoll 传输，仅在 Linux 且 epoll 可用时生效
+         */
+        private boolean epoll = false;
+    }
+
+    @Data
+    public static class Serialization {
+
+        /**
+         * 是否按连接协商序列化方式：客户端以更快的序列化器（如 dtp-binary/1）发起过请求后，
+         * 管理端发往该连接的请求也改用该序列化器，编解码失败时回退 Hessian。
+         * 默认关闭：需要客户端以相同编码注册该序列化器并主动使用，现有的 dynamic-tp 客户端只发送 Hessian
+         */
+        private boolean negotiate = false;
+    }
+
+    @Data
+    public static class Processor {
+
+        /**
+         * 核心线程数
+         */
+        private int corePoolSize = 2;
+
+        /**
+         * 最大线程数
+         */
+        private int maximumPoolSize = 10;
+
+        /**
+         * 队列容量；虚拟线程模式下为排队与执行中的请求总数上限
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * 空闲线程存活时间（秒）
+         */
+        private long keepAliveSeconds = 60;
+
+        /**
+         * 是否使用虚拟线程执行请求
+         */
+        private boolean virtualThreads = false;
+    }
+
+    @Data
+    public static class Timeout {
+
+        /**
+         * 未单独配置的请求类型的超时时间（毫秒）
+         */
+        private long defaultMillis = 30000;
+
+        /**
+         * 单个 HTTP 请求的总预算（毫秒），请求头 P-Request-Timeout 只能将其缩短
+         */
+        private long httpBudgetMillis = 10000;
+
+        /**
+         * 按请求类型配置的超时时间（毫秒）
+         */
+        private Map<AdminRequestTypeEnum, Long> requestTypes = new EnumMap<>(Map.of(
+                AdminRequestTypeEnum.EXECUTOR_MONITOR, 5000L,
+                AdminRequestTypeEnum.EXECUTOR_REFRESH, 15000L));
+    }
+
+    @Data
+    public static class Scheduler {
+
+        /**
+         * 单个客户端同时在途的最大请求数
+         */
+        private int maxInFlightPerClient = 4;
+
+        /**
+         * 单个客户端的排队上限，队列已满时新请求直接失败
+         */
+        private int queueCapacityPerClient = 64;
+
+        /**
+         * 是否合并同一客户端排队或在途的线程池采集请求
+         */
+        private boolean coalesceMonitor = true;
+    }
+
+    @Data
+    public static class Stats {
+
+        /**
+         * 是否将按客户端的 RPC 统计注册到 Micrometer，客户端很多时会产生大量时间序列
+         */
+        private boolean micrometerEnabled = true;
+    }
+
+    @Data
+    public static class Hedge {
+
+        /**
+         * 是否对按应用路由的幂等读请求（如按应用获取线程池实时指标）发送对冲请求，对冲请求发往同一应用的另一个实例；
+         * 关闭时不创建对冲计时线程
+         */
+        private boolean enabled = false;
+
+        /**
+         * 首个请求未返回时发送对冲请求的延迟（毫秒），小于 0 时按客户端 RTT 自适应
+         */
+        private long delayMillis = -1;
+
+        /**
+         * 允许对冲的请求类型，仅应包含幂等读请求
+         */
+        private Set<AdminRequestTypeEnum> requestTypes = EnumSet.of(AdminRequestTypeEnum.EXECUTOR_MONITOR);
+    }
+
+    @Data
+    public static class Health {
+
+        /**
+         * 是否开启健康检查与熔断
+         */
+        private boolean enabled = true;
+
+        /**
+         * 检查间隔（毫秒），熔断中且到达半开试探时间的客户端会被探测
+         */
+        private long probeIntervalMillis = 10000;
+
+        /**
+         * 探测请求超时时间（毫秒）
+         */
+        private long probeTimeoutMillis = 3000;
+
+        /**
+         * 连续失败多少次后熔断
+         */
+        private int failureThreshold = 3;
+
+        /**
+         * 首次熔断持续时间（毫秒），半开试探失败后翻倍
+         */
+        private long openMillis = 10000;
+
+        /**
+         * 熔断持续时间上限（毫秒）
+         */
+        private long maxOpenMillis = 300000;
+
+        /**
+         * 持续熔断超过该时长的客户端视为死连接并主动断开（毫秒）
+         */
+        private long evictAfterMillis = 300000;
+    }
+
+    @Data
+    public static class Cluster {
+
+        /**
+         * 是否开启集群模式，多个管理端节点共享客户端归属与线程池快照
+         */
+        private boolean enabled = false;
+
+        /**
+         * 注册中心类型
+         */
+        private RegistryType registry = RegistryType.REDIS;
+
+        /**
+         * 节点标识，为空时按本机地址生成
+         */
+        private String nodeId;
+
+        /**
+         * 心跳间隔（毫秒）
+         */
+        private long heartbeatMillis = 5000;
+
+        /**
+         * 节点及其发布数据的存活时间（毫秒），应大于心跳间隔与快照采集间隔
+         */
+        private long nodeTtlMillis = 30000;
+
+        public enum RegistryType {
+
+            /**
+             * 进程内存，仅用于单节点与测试
+             */
+            MEMORY,
+
+            /**
+             * Redis
+             */
+            REDIS
+        }
+    }
+}
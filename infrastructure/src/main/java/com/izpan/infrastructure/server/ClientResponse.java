@@ -0,0 +1,81 @@
+package com.izpan.infrastructure.server;
+
+import lombok.Getter;
+
+/**
+ * 单个客户端的请求响应，携带客户端标识、耗时与错误信息
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.ClientResponse
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+public final class ClientResponse {
+
+    /**
+     * 客户端地址
+     */
+    private final String clientAddress;
+
+    /**
+     * 响应内容，失败时为 {@code null}
+     */
+    private final Object payload;
+
+    /**
+     * 请求耗时（毫秒）
+     */
+    private final long latencyMillis;
+
+    /**
+     * 失败原因，成功时为 {@code null}
+     */
+    private final Throwable error;
+
+    /**
+     * 是否因截止时间到达而失败
+     */
+    private final boolean timeout;
+
+    private ClientResponse(String clientAddress, Object payload, long latencyMillis, Throwable error, boolean timeout) {
+        this.clientAddress = clientAddress;
+        this.payload = payload;
+        this.latencyMillis = latencyMillis;
+        this.error = error;
+        this.timeout = timeout;
+    }
+
+    public static ClientResponse success(String clientAddress, Object payload, long latencyMillis) {
+        return new ClientResponse(clientAddress, payload, latencyMillis, null, false);
+    }
+
+    public static ClientResponse failure(String clientAddress, Throwable error, long latencyMillis) {
+        return new ClientResponse(clientAddress, null, latencyMillis, error, false);
+    }
+
+    public static ClientResponse timeout(String clientAddress, long latencyMillis) {
+        return new ClientResponse(clientAddress, null, latencyMillis, null, true);
+    }
+
+    /**
+     * 是否成功返回
+     *
+     * @return 成功返回 true
+     */
+    public boolean isSuccess() {
+        return error == null && !timeout;
+    }
+
+    /**
+     * 失败描述，便于日志与前端展示
+     *
+     * @return 失败描述，成功时为 {@code null}
+     */
+    public String getErrorMessage() {
+        if (timeout) {
+            return "timeout after " + latencyMillis + "ms";
+        }
+        return error == null ? null : error.getClass().getSimpleName() + ": " + error.getMessage();
+    }
+}
@@ -0,0 +1,282 @@
+package com.izpan.infrastructure.server.cluster;
+
+import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.AdminServerProperties;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import com.izpan.infrastructure.server.registry.ClientRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 集群协调器
+ * <p>
+ * 按固定间隔向 {@link ClusterRegistry} 登记本节点及其持有的客户端，并缓存存活节点列表，
+ * 客户端归属即其连接所在的节点。未开启集群时只包含本节点，所有方法退化为单节点行为。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.cluster.ClusterCoordinator
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class ClusterCoordinator {
+
+    private final AdminServerProperties.Cluster config;
+
+    private final ClusterRegistry registry;
+
+    private final AdminServer adminServer;
+
+    @Getter
+    private final String nodeId;
+
+    private final String host;
+
+    private final long startTime = System.currentTimeMillis();
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 最近一次心跳时读取的其他存活节点
+     */
+    private volatile List<ClusterNode> peers = List.of();
+
+    /**
+     * 其他节点持有的客户端地址到节点标识的映射
+     */
+    private volatile Map<String, String> peerOwners = Map.of();
+
+    /**
+     * 其他节点客户端的应用名称
+     */
+    private volatile Map<String, String> peerApps = Map.of();
+
+    public ClusterCoordinator(AdminServerProperties.Cluster config, ClusterRegistry registry, AdminServer adminServer) {
+        this.config = config;
+        this.registry = registry;
+        this.adminServer = adminServer;
+        this.host = resolveHost();
+        this.nodeId = StringUtils.hasText(config.getNodeId()) ? config.getNodeId()
+                : host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "DynamicTpAdminCluster");
+            t.setDaemon(true);
+            return t;
+        });
+        if (config.isEnabled()) {
+            scheduler.scheduleWithFixedDelay(this::heartbeat, 0, config.getHeartbeatMillis(), TimeUnit.MILLISECONDS);
+            log.info("DynamicTp admin cluster mode enabled, node: {}, registry: {}", nodeId, config.getRegistry());
+        }
+    }
+
+    /**
+     * 是否开启集群模式
+     *
+     * @return 开启返回 true
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 获取其他存活节点
+     *
+     * @return 节点列表，不含本节点
+     */
+    public List<ClusterNode> getPeers() {
+        return peers;
+    }
+
+    /**
+     * 客户端所在节点
+     *
+     * @param clientAddress 客户端地址
+     * @return 节点标识，客户端不在任何节点上时返回 {@code null}
+     */
+    public String ownerOf(String clientAddress) {
+        if (adminServer.getClientRegistry().contains(clientAddress)) {
+            return nodeId;
+        }
+        return peerOwners.get(clientAddress);
+    }
+
+    /**
+     * 客户端是否可查询：本节点可查询的客户端，或连接在其他存活节点上的客户端
+     *
+     * @param clientAddress 客户端地址
+     * @return 可查询返回 true
+     */
+    public boolean isAvailableClient(String clientAddress) {
+        return adminServer.isAvailableClient(clientAddress) || peerOwners.containsKey(clientAddress);
+    }
+
+    /**
+     * 集群内全部客户端地址，本节点在前
+     *
+     * @return 客户端地址集合
+     */
+    public Set<String> clusterClients() {
+        Set<String> local = adminServer.getConnectedClients();
+        Map<String, String> owners = peerOwners;
+        if (owners.isEmpty()) {
+            return local;
+        }
+        Set<String> clients = new LinkedHashSet<>(local);
+        clients.addAll(owners.keySet());
+        return clients;
+    }
+
+    /**
+     * 集群内各应用的实例数，未上报元数据的客户端不计入
+     *
+     * @return 应用名称到实例数的映射，按名称排序
+     */
+    public Map<String, Integer> clusterAppInstances() {
+        ClientRegistry clientRegistry = adminServer.getClientRegistry();
+        Map<String, Integer> apps = new TreeMap<>();
+        for (String appName : clientRegistry.appNames()) {
+            apps.put(appName, clientRegistry.addressesOf(appName).size());
+        }
+        peerApps.forEach((clientAddress, appName) -> {
+            if (!clientRegistry.contains(clientAddress)) {
+                apps.merge(appName, 1, Integer::sum);
+            }
+        });
+        return apps;
+    }
+
+    /**
+     * 其他节点客户端的应用名称
+     *
+     * @param clientAddress 客户端地址
+     * @return 应用名称，不是其他节点的客户端或未上报元数据时返回 {@code null}
+     */
+    public String peerAppName(String clientAddress) {
+        return peerApps.get(clientAddress);
+    }
+
+    /**
+     * 发布本节点数据，过期时间为节点存活时间
+     *
+     * @param key     数据键
+     * @param payload 数据内容
+     */
+    public void publish(String key, String payload) {
+        if (config.isEnabled()) {
+            registry.publish(nodeId, key, payload, config.getNodeTtlMillis());
+        }
+    }
+
+    /**
+     * 读取其他存活节点发布的数据
+     *
+     * @param key 数据键
+     * @return 节点标识到数据内容的映射，不含本节点
+     */
+    public Map<String, String> collectPeers(String key) {
+        if (!config.isEnabled()) {
+            return Map.of();
+        }
+        Map<String, String> payloads = new HashMap<>(registry.collect(key));
+        payloads.remove(nodeId);
+        return payloads;
+    }
+
+    /**
+     * 增量发布本节点的分条目数据，过期时间为节点存活时间
+     *
+     * @param key     数据键
+     * @param changed 有变化的条目
+     * @param removed 已移除的条目键
+     */
+    public void publishEntries(String key, Map<String, String> changed, Collection<String> removed) {
+        if (config.isEnabled()) {
+            registry.publishEntries(nodeId, key, changed, removed, config.getNodeTtlMillis());
+        }
+    }
+
+    /**
+     * 读取其他节点发布的部分条目
+     *
+     * @param peerNodeId 节点标识
+     * @param key        数据键
+     * @param entryKeys  条目键
+     * @return 条目键到内容的映射
+     */
+    public Map<String, String> collectEntries(String peerNodeId, String key, Collection<String> entryKeys) {
+        if (!config.isEnabled() || entryKeys.isEmpty()) {
+            return Map.of();
+        }
+        return registry.collectEntries(peerNodeId, key, entryKeys);
+    }
+
+    private void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            Map<String, String> localApps = new HashMap<>();
+            for (ClientInfo info : adminServer.getClientRegistry().all()) {
+                if (info.getAppName() != null) {
+                    localApps.put(info.getAddress(), info.getAppName());
+                }
+            }
+            registry.heartbeat(new ClusterNode(nodeId, host, startTime, now,
+                    new HashSet<>(adminServer.getConnectedClients()), localApps), config.getNodeTtlMillis());
+            List<ClusterNode> nodes = registry.nodes();
+            nodes.removeIf(node -> nodeId.equals(node.getNodeId()));
+            Map<String, String> owners = new HashMap<>();
+            Map<String, String> apps = new HashMap<>();
+            for (ClusterNode node : nodes) {
+                if (node.getClients() == null) {
+                    node.setClients(Set.of());
+                }
+                // 旧版本节点的心跳不含应用名称
+                if (node.getApps() == null) {
+                    node.setApps(Map.of());
+                }
+                node.getClients().forEach(client -> owners.put(client, node.getNodeId()));
+                apps.putAll(node.getApps());
+            }
+            this.peers = List.copyOf(nodes);
+            this.peerOwners = owners;
+            this.peerApps = apps;
+        } catch (Exception e) {
+            log.error("Failed to heartbeat DynamicTp admin cluster node: {}", nodeId, e);
+        }
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+        if (config.isEnabled()) {
+            try {
+                registry.leave(nodeId);
+            } catch (Exception e) {
+                log.warn("Failed to leave DynamicTp admin cluster, node: {}", nodeId, e);
+            }
+        }
+    }
+
+    private static String resolveHost() {
+        try {
+            return InetAddress.getLocalHost().getHostAddress();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.izpan.infrastructure.server.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 集群中的一个管理端节点及其持有的客户端连接
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.cluster.ClusterNode
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterNode {
+
+    /**
+     * 节点标识
+     */
+    private String nodeId;
+
+    /**
+     * 节点地址
+     */
+    private String host;
+
+    /**
+     * 节点启动时间（毫秒时间戳）
+     */
+    private long startTime;
+
+    /**
+     * 最近一次心跳时间（毫秒时间戳）
+     */
+    private long heartbeatTime;
+
+    /**
+     * 连接在该节点上的客户端地址
+     */
+    private Set<String> clients;
+
+    /**
+     * 已上报元数据的客户端地址到应用名称的映射
+     */
+    private Map<String, String> apps;
+}
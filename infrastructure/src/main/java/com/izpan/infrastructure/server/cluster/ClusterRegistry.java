@@ -0,0 +1,82 @@
+package com.izpan.infrastructure.server.cluster;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 集群注册中心 SPI
+ * <p>
+ * 管理端节点通过心跳登记自身与所持有的客户端，并以节点为单位发布共享数据（如线程池快照），
+ * 任一节点均可读取其他存活节点发布的数据。条目均带过期时间，节点宕机后自然失效。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.cluster.ClusterRegistry
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface ClusterRegistry {
+
+    /**
+     * 登记或续期节点
+     *
+     * @param node      节点信息
+     * @param ttlMillis 过期时间（毫秒）
+     */
+    void heartbeat(ClusterNode node, long ttlMillis);
+
+    /**
+     * 节点主动下线，同时删除其发布的数据
+     *
+     * @param nodeId 节点标识
+     */
+    void leave(String nodeId);
+
+    /**
+     * 获取所有存活节点
+     *
+     * @return 存活节点列表
+     */
+    List<ClusterNode> nodes();
+
+    /**
+     * 发布节点数据
+     *
+     * @param nodeId    节点标识
+     * @param key       数据键
+     * @param payload   数据内容
+     * @param ttlMillis 过期时间（毫秒）
+     */
+    void publish(String nodeId, String key, String payload, long ttlMillis);
+
+    /**
+     * 读取所有节点发布的数据
+     *
+     * @param key 数据键
+     * @return 节点标识到数据内容的映射
+     */
+    Map<String, String> collect(String key);
+
+    /**
+     * 增量发布节点的分条目数据：写入有变化的条目、删除已移除的条目，并为该节点的全部条目续期
+     *
+     * @param nodeId    节点标识
+     * @param key       数据键
+     * @param changed   有变化的条目
+     * @param removed   已移除的条目键
+     * @param ttlMillis 过期时间（毫秒）
+     */
+    void publishEntries(String nodeId, String key, Map<String, String> changed, Collection<String> removed,
+                        long ttlMillis);
+
+    /**
+     * 读取指定节点发布的部分条目
+     *
+     * @param nodeId    节点标识
+     * @param key       数据键
+     * @param entryKeys 条目键
+     * @return 条目键到内容的映射，不存在的条目不包含在内
+     */
+    Map<String, String> collectEntries(String nodeId, String key, Collection<String> entryKeys);
+}
@@ -0,0 +1,103 @@
+package com.izpan.infrastructure.server.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于内存的集群注册中心，适用于单节点部署与测试：同一实例共享给多个 {@link ClusterCoordinator} 即可模拟多节点
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.cluster.MemoryClusterRegistry
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class MemoryClusterRegistry implements ClusterRegistry {
+
+    private final Map<String, Entry<ClusterNode>> nodes = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Entry<String>>> data = new ConcurrentHashMap<>();
+
+    /**
+     * 数据键 -> 节点标识 -> 分条目数据
+     */
+    private final Map<String, Map<String, Entry<Map<String, String>>>> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void heartbeat(ClusterNode node, long ttlMillis) {
+        nodes.put(node.getNodeId(), new Entry<>(node, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        nodes.remove(nodeId);
+        data.values().forEach(nodeData -> nodeData.remove(nodeId));
+        entries.values().forEach(nodeEntries -> nodeEntries.remove(nodeId));
+    }
+
+    @Override
+    public List<ClusterNode> nodes() {
+        long now = System.currentTimeMillis();
+        nodes.values().removeIf(entry -> entry.expired(now));
+        List<ClusterNode> result = new ArrayList<>(nodes.size());
+        nodes.values().forEach(entry -> result.add(entry.value()));
+        return result;
+    }
+
+    @Override
+    public void publish(String nodeId, String key, String payload, long ttlMillis) {
+        data.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .put(nodeId, new Entry<>(payload, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Override
+    public Map<String, String> collect(String key) {
+        Map<String, Entry<String>> entries = data.get(key);
+        if (entries == null) {
+            return Map.of();
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expired(now));
+        Map<String, String> result = new HashMap<>(entries.size());
+        entries.forEach((nodeId, entry) -> result.put(nodeId, entry.value()));
+        return result;
+    }
+
+    @Override
+    public void publishEntries(String nodeId, String key, Map<String, String> changed, Collection<String> removed,
+                               long ttlMillis) {
+        long now = System.currentTimeMillis();
+        entries.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).compute(nodeId, (k, entry) -> {
+            Map<String, String> values = entry == null || entry.expired(now) ? new ConcurrentHashMap<>() : entry.value();
+            values.putAll(changed);
+            removed.forEach(values::remove);
+            return new Entry<>(values, now + ttlMillis);
+        });
+    }
+
+    @Override
+    public Map<String, String> collectEntries(String nodeId, String key, Collection<String> entryKeys) {
+        Entry<Map<String, String>> entry = entries.getOrDefault(key, Map.of()).get(nodeId);
+        if (entry == null || entry.expired(System.currentTimeMillis())) {
+            return Map.of();
+        }
+        Map<String, String> result = new HashMap<>(entryKeys.size());
+        for (String entryKey : entryKeys) {
+            String payload = entry.value().get(entryKey);
+            if (payload != null) {
+                result.put(entryKey, payload);
+            }
+        }
+        return result;
+    }
+
+    private record Entry<T>(T value, long expireAt) {
+
+        boolean expired(long now) {
+            return now >= expireAt;
+        }
+    }
+}
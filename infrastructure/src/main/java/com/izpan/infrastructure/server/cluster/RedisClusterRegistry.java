@@ -0,0 +1,103 @@
+package com.izpan.infrastructure.server.cluster;
+
+import com.izpan.infrastructure.util.RedisUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Redis 的集群注册中心
+ * <p>
+ * 节点信息与节点数据各占一个带过期时间的键，分条目数据以 Hash 存储，节点停止续期后由 Redis 自动清理
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.cluster.RedisClusterRegistry
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class RedisClusterRegistry implements ClusterRegistry {
+
+    private static final String NODE_KEY_PREFIX = "dynamic-tp:cluster:node:";
+
+    private static final String DATA_KEY_PREFIX = "dynamic-tp:cluster:data:";
+
+    @Override
+    public void heartbeat(ClusterNode node, long ttlMillis) {
+        RedisUtil.set(NODE_KEY_PREFIX + node.getNodeId(), node, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        List<String> keys = new ArrayList<>(RedisUtil.getKeysByPrefix(DATA_KEY_PREFIX + "*:" + nodeId));
+        keys.add(NODE_KEY_PREFIX + nodeId);
+        RedisUtil.del(keys);
+    }
+
+    @Override
+    public List<ClusterNode> nodes() {
+        Set<String> keys = RedisUtil.getKeysByPrefix(NODE_KEY_PREFIX + "*");
+        List<ClusterNode> nodes = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            ClusterNode node = RedisUtil.get(key, ClusterNode.class);
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    @Override
+    public void publish(String nodeId, String key, String payload, long ttlMillis) {
+        RedisUtil.set(dataKey(key, nodeId), payload, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Map<String, String> collect(String key) {
+        String prefix = DATA_KEY_PREFIX + key + ":";
+        Set<String> keys = RedisUtil.getKeysByPrefix(prefix + "*");
+        Map<String, String> result = new HashMap<>(keys.size());
+        for (String dataKey : keys) {
+            Object payload = RedisUtil.get(dataKey);
+            if (payload != null) {
+                result.put(dataKey.substring(prefix.length()), payload.toString());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void publishEntries(String nodeId, String key, Map<String, String> changed, Collection<String> removed,
+                               long ttlMillis) {
+        String dataKey = dataKey(key, nodeId);
+        if (!changed.isEmpty()) {
+            RedisUtil.hmSet(dataKey, new HashMap<>(changed));
+        }
+        if (!removed.isEmpty()) {
+            RedisUtil.hmDel(dataKey, removed.toArray());
+        }
+        RedisUtil.expire(dataKey, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Map<String, String> collectEntries(String nodeId, String key, Collection<String> entryKeys) {
+        String dataKey = dataKey(key, nodeId);
+        Map<String, String> result = new HashMap<>(entryKeys.size());
+        for (String entryKey : entryKeys) {
+            Object payload = RedisUtil.hmGet(dataKey, entryKey);
+            if (payload != null) {
+                result.put(entryKey, payload.toString());
+            }
+        }
+        return result;
+    }
+
+    private static String dataKey(String key, String nodeId) {
+        return DATA_KEY_PREFIX + key + ":" + nodeId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.izpan.infrastructure.server.codec;
+
+import com.alipay.remoting.serialization.Serializer;
+
+/**
+ * 管理端可插拔序列化器 SPI
+ * <p>
+ * 实现类通过 {@code META-INF/services/com.izpan.infrastructure.server.codec.AdminSerializer} 声明，
+ * 启动时由 {@link SerializerNegotiator} 加载并以 {@link #code()} 注册到 Bolt 的 {@code SerializerManager}。
+ * 编码在 Bolt 协议头中随每个请求传输，响应沿用请求的编码，因此同一连接上可以混用不同的序列化器。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.AdminSerializer
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface AdminSerializer extends Serializer {
+
+    /**
+     * Bolt 协议头中的序列化器编码，不能与已注册的编码重复
+     *
+     * @return 编码
+     */
+    byte code();
+
+    /**
+     * 序列化器名称，用于日志与监控展示
+     *
+     * @return 名称
+     */
+    String name();
+}
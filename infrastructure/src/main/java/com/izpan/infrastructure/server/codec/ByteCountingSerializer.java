@@ -0,0 +1,90 @@
+package com.izpan.infrastructure.server.codec;
+
+import com.alipay.remoting.exception.CodecException;
+import com.alipay.remoting.serialization.Serializer;
+
+/**
+ * 记录报文字节数的序列化器包装
+ * <p>
+ * Bolt 在调用方线程上同步序列化请求，并在回调线程上先反序列化响应再回调，
+ * 因此把最近一次序列化 / 反序列化的字节数记在线程本地的数组里，由发送方与回调方在同一线程上立即取走，
+ * 不额外分配对象。其他途径（如客户端主动上报）的报文同样经过本序列化器，未被取走的数值会被下一次覆盖。
+ * 同时记录最近一次反序列化所用的序列化器编码，供请求处理线程识别客户端发起请求时选用的序列化方式。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.ByteCountingSerializer
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class ByteCountingSerializer implements Serializer {
+
+    private static final int SERIALIZED = 0;
+
+    private static final int DESERIALIZED = 1;
+
+    private static final int DESERIALIZER_CODE = 2;
+
+    private static final ThreadLocal<long[]> LAST_BYTES = ThreadLocal.withInitial(() -> new long[]{0, 0, -1});
+
+    private final byte code;
+
+    private final Serializer delegate;
+
+    public ByteCountingSerializer(AdminSerializer delegate) {
+        this.code = delegate.code();
+        this.delegate = delegate;
+    }
+
+    @Override
+    public byte[] serialize(Object obj) throws CodecException {
+        byte[] bytes = delegate.serialize(obj);
+        LAST_BYTES.get()[SERIALIZED] = bytes == null ? 0 : bytes.length;
+        return bytes;
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, String classOfT) throws CodecException {
+        long[] last = LAST_BYTES.get();
+        last[DESERIALIZED] = data == null ? 0 : data.length;
+        last[DESERIALIZER_CODE] = code;
+        return delegate.deserialize(data, classOfT);
+    }
+
+    /**
+     * 取走当前线程最近一次序列化的字节数
+     *
+     * @return 字节数，没有记录时为 0
+     */
+    public static long takeSerializedBytes() {
+        return take(SERIALIZED);
+    }
+
+    /**
+     * 取走当前线程最近一次反序列化的字节数
+     *
+     * @return 字节数，没有记录时为 0
+     */
+    public static long takeDeserializedBytes() {
+        return take(DESERIALIZED);
+    }
+
+    /**
+     * 取走当前线程最近一次反序列化所用的序列化器编码
+     *
+     * @return 编码，没有记录时为 -1
+     */
+    public static int takeDeserializerCode() {
+        long[] last = LAST_BYTES.get();
+        int value = (int) last[DESERIALIZER_CODE];
+        last[DESERIALIZER_CODE] = -1;
+        return value;
+    }
+
+    private static long take(int slot) {
+        long[] bytes = LAST_BYTES.get();
+        long value = bytes[slot];
+        bytes[slot] = 0;
+        return value;
+    }
+}
@@ -0,0 +1,162 @@
+package com.izpan.infrastructure.server.codec;
+
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.izpan.infrastructure.server.codec.CompactSnapshotFormat.FIELD_COUNT;
+
+/**
+ * 线程池快照紧凑格式解码器
+ * <p>
+ * 每个客户端一个会话：元数据按列保存在字符串数组中，数值字段保存在连续的 {@code long[]} 中，
+ * DELTA 帧直接在原数组上累加差值，仅在对外返回时物化为 {@link ThreadPoolStats}。
+ * DELTA 帧的 epoch 与会话不一致时重置会话，下一次请求将以 epoch 0 要求客户端发送 FULL 帧。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.CompactSnapshotDecoder
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public final class CompactSnapshotDecoder {
+
+    private long epoch;
+
+    private String[] names = new String[0];
+
+    private String[] aliases = new String[0];
+
+    private String[] queueTypes = new String[0];
+
+    private String[] rejectHandlers = new String[0];
+
+    private byte[] flags = new byte[0];
+
+    private long[] values = new long[0];
+
+    /**
+     * 当前会话 epoch，供下一次请求的协商提示使用
+     *
+     * @return epoch，0 表示尚未收到 FULL 帧
+     */
+    public synchronized long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 解码一帧
+     *
+     * @param frame 紧凑格式帧
+     * @return 完整线程池列表
+     * @throws IllegalStateException 帧格式错误或 DELTA 帧 epoch 不匹配
+     */
+    public synchronized List<ThreadPoolStats> decode(byte[] frame) {
+        if (!CompactSnapshotFormat.isCompactFrame(frame) || frame[2] != CompactSnapshotFormat.VERSION) {
+            throw new IllegalStateException("Unsupported compact snapshot frame");
+        }
+        VarintReader reader = new VarintReader(frame, 4);
+        byte type = frame[3];
+        long frameEpoch = reader.readVarLong();
+        int poolCount = reader.readVarInt();
+        try {
+            if (type == CompactSnapshotFormat.TYPE_FULL) {
+                readFull(reader, frameEpoch, poolCount);
+            } else if (type == CompactSnapshotFormat.TYPE_DELTA) {
+                if (frameEpoch != epoch) {
+                    throw new IllegalStateException("Compact snapshot epoch mismatch, expected "
+                            + epoch + " but was " + frameEpoch);
+                }
+                readDelta(reader, poolCount);
+            } else {
+                throw new IllegalStateException("Unknown compact snapshot frame type: " + type);
+            }
+        } catch (RuntimeException e) {
+            reset();
+            throw e;
+        }
+        return materialize();
+    }
+
+    /**
+     * 丢弃会话状态，下一次请求将要求 FULL 帧
+     */
+    public synchronized void reset() {
+        epoch = 0;
+        names = new String[0];
+        aliases = new String[0];
+        queueTypes = new String[0];
+        rejectHandlers = new String[0];
+        flags = new byte[0];
+        values = new long[0];
+    }
+
+    private void readFull(VarintReader reader, long frameEpoch, int poolCount) {
+        String[] newNames = new String[poolCount];
+        String[] newAliases = new String[poolCount];
+        String[] newQueueTypes = new String[poolCount];
+        String[] newRejectHandlers = new String[poolCount];
+        byte[] newFlags = new byte[poolCount];
+        long[] newValues = new long[poolCount * FIELD_COUNT];
+        for (int n = 0; n < poolCount; n++) {
+            int i = checkIndex(reader.readVarInt(), poolCount);
+            newNames[i] = reader.readString();
+            newAliases[i] = reader.readString();
+            newQueueTypes[i] = reader.readString();
+            newRejectHandlers[i] = reader.readString();
+            newFlags[i] = reader.readByte();
+            int offset = i * FIELD_COUNT;
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                newValues[offset + f] = CompactSnapshotFormat.unzigzag(reader.readVarLong());
+            }
+        }
+        epoch = frameEpoch;
+        names = newNames;
+        aliases = newAliases;
+        queueTypes = newQueueTypes;
+        rejectHandlers = newRejectHandlers;
+        flags = newFlags;
+        values = newValues;
+    }
+
+    private void readDelta(VarintReader reader, int changedCount) {
+        // 先在副本上累加，帧损坏时不污染会话
+        long[] newValues = Arrays.copyOf(values, values.length);
+        for (int n = 0; n < changedCount; n++) {
+            int i = checkIndex(reader.readVarInt(), names.length);
+            long mask = reader.readVarLong();
+            int offset = i * FIELD_COUNT;
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                if ((mask & (1L << f)) != 0) {
+                    newValues[offset + f] += CompactSnapshotFormat.unzigzag(reader.readVarLong());
+                }
+            }
+        }
+        values = newValues;
+    }
+
+    private List<ThreadPoolStats> materialize() {
+        List<ThreadPoolStats> pools = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            ThreadPoolStats stats = new ThreadPoolStats();
+            stats.setPoolName(names[i]);
+            stats.setPoolAliasName(aliases[i]);
+            stats.setQueueType(queueTypes[i]);
+            stats.setRejectHandlerName(rejectHandlers[i]);
+            stats.setDynamic((flags[i] & 1) != 0);
+            stats.setFair((flags[i] & 2) != 0);
+            CompactSnapshotFormat.writeFields(stats, values, i * FIELD_COUNT);
+            pools.add(stats);
+        }
+        return pools;
+    }
+
+    private static int checkIndex(int index, int count) {
+        if (index >= count) {
+            throw new IllegalStateException("Pool index " + index + " out of range " + count);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,162 @@
+package com.izpan.infrastructure.server.codec;
+
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.izpan.infrastructure.server.codec.CompactSnapshotFormat.FIELD_COUNT;
+
+/**
+ * 线程池快照紧凑格式编码器
+ * <p>
+ * 客户端侧参考实现，每个管理端连接持有一个实例：管理端携带的 epoch 与本地一致且线程池元数据未变化时输出 DELTA 帧，
+ * 否则输出 FULL 帧并递增 epoch。非线程安全，调用方需保证同一连接上的编码串行执行。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.CompactSnapshotEncoder
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public final class CompactSnapshotEncoder {
+
+    private final VarintWriter writer = new VarintWriter(256);
+
+    private long epoch;
+
+    private String[] names = new String[0];
+
+    private String[] aliases = new String[0];
+
+    private String[] queueTypes = new String[0];
+
+    private String[] rejectHandlers = new String[0];
+
+    private byte[] flags = new byte[0];
+
+    private long[] values = new long[0];
+
+    private long[] scratch = new long[0];
+
+    /**
+     * 编码一次快照
+     *
+     * @param pools          当前线程池数据
+     * @param requestedEpoch 管理端协商提示中携带的 epoch
+     * @return 紧凑格式帧
+     */
+    public byte[] encode(List<ThreadPoolStats> pools, long requestedEpoch) {
+        int count = pools.size();
+        if (scratch.length < count * FIELD_COUNT) {
+            scratch = new long[count * FIELD_COUNT];
+        }
+        for (int i = 0; i < count; i++) {
+            CompactSnapshotFormat.readFields(pools.get(i), scratch, i * FIELD_COUNT);
+        }
+        writer.reset();
+        if (requestedEpoch == epoch && epoch != 0 && sameMetadata(pools)) {
+            writeDelta(count);
+        } else {
+            writeFull(pools);
+        }
+        long[] swap = values;
+        values = scratch;
+        scratch = swap;
+        return writer.toByteArray();
+    }
+
+    private void writeFull(List<ThreadPoolStats> pools) {
+        int count = pools.size();
+        epoch++;
+        names = new String[count];
+        aliases = new String[count];
+        queueTypes = new String[count];
+        rejectHandlers = new String[count];
+        flags = new byte[count];
+        writeHeader(CompactSnapshotFormat.TYPE_FULL, count);
+        for (int i = 0; i < count; i++) {
+            ThreadPoolStats stats = pools.get(i);
+            names[i] = stats.getPoolName();
+            aliases[i] = stats.getPoolAliasName();
+            queueTypes[i] = stats.getQueueType();
+            rejectHandlers[i] = stats.getRejectHandlerName();
+            flags[i] = flagsOf(stats);
+            writer.writeVarLong(i);
+            writer.writeString(names[i]);
+            writer.writeString(aliases[i]);
+            writer.writeString(queueTypes[i]);
+            writer.writeString(rejectHandlers[i]);
+            writer.writeByte(flags[i]);
+            int offset = i * FIELD_COUNT;
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                writer.writeVarLong(CompactSnapshotFormat.zigzag(scratch[offset + f]));
+            }
+        }
+    }
+
+    private void writeDelta(int count) {
+        int changed = 0;
+        for (int i = 0; i < count; i++) {
+            if (changeMask(i) != 0) {
+                changed++;
+            }
+        }
+        writeHeader(CompactSnapshotFormat.TYPE_DELTA, changed);
+        for (int i = 0; i < count; i++) {
+            long mask = changeMask(i);
+            if (mask == 0) {
+                continue;
+            }
+            writer.writeVarLong(i);
+            writer.writeVarLong(mask);
+            int offset = i * FIELD_COUNT;
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                if ((mask & (1L << f)) != 0) {
+                    writer.writeVarLong(CompactSnapshotFormat.zigzag(scratch[offset + f] - values[offset + f]));
+                }
+            }
+        }
+    }
+
+    private void writeHeader(byte type, int poolCount) {
+        writer.writeByte(CompactSnapshotFormat.MAGIC_0);
+        writer.writeByte(CompactSnapshotFormat.MAGIC_1);
+        writer.writeByte(CompactSnapshotFormat.VERSION);
+        writer.writeByte(type);
+        writer.writeVarLong(epoch);
+        writer.writeVarLong(poolCount);
+    }
+
+    private long changeMask(int index) {
+        long mask = 0;
+        int offset = index * FIELD_COUNT;
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            if (scratch[offset + f] != values[offset + f]) {
+                mask |= 1L << f;
+            }
+        }
+        return mask;
+    }
+
+    private boolean sameMetadata(List<ThreadPoolStats> pools) {
+        if (pools.size() != names.length) {
+            return false;
+        }
+        for (int i = 0; i < names.length; i++) {
+            ThreadPoolStats stats = pools.get(i);
+            if (!Objects.equals(names[i], stats.getPoolName())
+                    || !Objects.equals(aliases[i], stats.getPoolAliasName())
+                    || !Objects.equals(queueTypes[i], stats.getQueueType())
+                    || !Objects.equals(rejectHandlers[i], stats.getRejectHandlerName())
+                    || flags[i] != flagsOf(stats)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte flagsOf(ThreadPoolStats stats) {
+        return (byte) ((stats.isDynamic() ? 1 : 0) | (stats.isFair() ? 2 : 0));
+    }
+}
@@ -0,0 +1,171 @@
+package com.izpan.infrastructure.server.codec;
+
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+/**
+ * 线程池快照紧凑二进制格式定义
+ * <p>
+ * 帧结构：{@code magic(2) version(1) type(1) epoch(varint) poolCount(varint) pools...}
+ * <ul>
+ *     <li>FULL 帧：每个线程池依次写入 id、名称 / 别名 / 队列类型 / 拒绝策略（varint 长度 + UTF-8）、
+ *     标志位（bit0 dynamic，bit1 fair）以及全部数值字段的 zigzag varint 绝对值，同时确立新的 epoch</li>
+ *     <li>DELTA 帧：仅包含有变化的线程池，依次写入 id、变化字段位图（varint）以及变化字段相对上一帧的 zigzag varint 差值</li>
+ * </ul>
+ * 浮点字段（tps、耗时分位数）按 {@link #FIXED_POINT_SCALE} 放大为定点数编码。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.CompactSnapshotFormat
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public final class CompactSnapshotFormat {
+
+    public static final byte MAGIC_0 = (byte) 0xD7;
+
+    public static final byte MAGIC_1 = (byte) 0x50;
+
+    public static final byte VERSION = 1;
+
+    public static final byte TYPE_FULL = 1;
+
+    public static final byte TYPE_DELTA = 2;
+
+    /**
+     * 协商提示前缀，管理端在 EXECUTOR_MONITOR 请求体中携带 {@code dtp-compact/1;epoch=N}
+     */
+    public static final String NEGOTIATION_PREFIX = "dtp-compact/" + VERSION + ";epoch=";
+
+    /**
+     * 浮点字段定点放大倍数
+     */
+    public static final double FIXED_POINT_SCALE = 1000d;
+
+    public static final int FIELD_COUNT = 25;
+
+    private CompactSnapshotFormat() {
+    }
+
+    /**
+     * 生成协商提示
+     *
+     * @param epoch 管理端当前持有的元数据 epoch，0 表示需要 FULL 帧
+     * @return 协商提示
+     */
+    public static String negotiationHint(long epoch) {
+        return NEGOTIATION_PREFIX + epoch;
+    }
+
+    /**
+     * 解析协商提示中的 epoch
+     *
+     * @param hint 请求体
+     * @return epoch，非协商提示时返回 -1
+     */
+    public static long parseNegotiationHint(Object hint) {
+        if (hint instanceof String text && text.startsWith(NEGOTIATION_PREFIX)) {
+            try {
+                return Long.parseLong(text.substring(NEGOTIATION_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 是否为紧凑格式帧
+     *
+     * @param body 响应体
+     * @return 是返回 true
+     */
+    public static boolean isCompactFrame(Object body) {
+        return body instanceof byte[] bytes && bytes.length >= 4 && bytes[0] == MAGIC_0 && bytes[1] == MAGIC_1;
+    }
+
+    /**
+     * 读取线程池的数值字段，字段顺序即编码顺序
+     *
+     * @param stats  线程池数据
+     * @param target 输出数组
+     * @param offset 输出起始位置
+     */
+    static void readFields(ThreadPoolStats stats, long[] target, int offset) {
+        target[offset] = stats.getCorePoolSize();
+        target[offset + 1] = stats.getMaximumPoolSize();
+        target[offset + 2] = stats.getKeepAliveTime();
+        target[offset + 3] = stats.getQueueCapacity();
+        target[offset + 4] = stats.getQueueSize();
+        target[offset + 5] = stats.getQueueRemainingCapacity();
+        target[offset + 6] = stats.getActiveCount();
+        target[offset + 7] = stats.getTaskCount();
+        target[offset + 8] = stats.getCompletedTaskCount();
+        target[offset + 9] = stats.getLargestPoolSize();
+        target[offset + 10] = stats.getPoolSize();
+        target[offset + 11] = stats.getWaitTaskCount();
+        target[offset + 12] = stats.getRejectCount();
+        target[offset + 13] = stats.getRunTimeoutCount();
+        target[offset + 14] = stats.getQueueTimeoutCount();
+        target[offset + 15] = toFixed(stats.getTps());
+        target[offset + 16] = toFixed(stats.getMaxRt());
+        target[offset + 17] = toFixed(stats.getMinRt());
+        target[offset + 18] = toFixed(stats.getAvg());
+        target[offset + 19] = toFixed(stats.getTp50());
+        target[offset + 20] = toFixed(stats.getTp75());
+        target[offset + 21] = toFixed(stats.getTp90());
+        target[offset + 22] = toFixed(stats.getTp95());
+        target[offset + 23] = toFixed(stats.getTp99());
+        target[offset + 24] = toFixed(stats.getTp999());
+    }
+
+    /**
+     * 将数值字段写回线程池对象
+     *
+     * @param stats  线程池对象
+     * @param source 字段数组
+     * @param offset 起始位置
+     */
+    static void writeFields(ThreadPoolStats stats, long[] source, int offset) {
+        stats.setCorePoolSize((int) source[offset]);
+        stats.setMaximumPoolSize((int) source[offset + 1]);
+        stats.setKeepAliveTime(source[offset + 2]);
+        stats.setQueueCapacity((int) source[offset + 3]);
+        stats.setQueueSize((int) source[offset + 4]);
+        stats.setQueueRemainingCapacity((int) source[offset + 5]);
+        stats.setActiveCount((int) source[offset + 6]);
+        stats.setTaskCount(source[offset + 7]);
+        stats.setCompletedTaskCount(source[offset + 8]);
+        stats.setLargestPoolSize((int) source[offset + 9]);
+        stats.setPoolSize((int) source[offset + 10]);
+        stats.setWaitTaskCount((int) source[offset + 11]);
+        stats.setRejectCount(source[offset + 12]);
+        stats.setRunTimeoutCount(source[offset + 13]);
+        stats.setQueueTimeoutCount(source[offset + 14]);
+        stats.setTps(fromFixed(source[offset + 15]));
+        stats.setMaxRt(Math.round(fromFixed(source[offset + 16])));
+        stats.setMinRt(Math.round(fromFixed(source[offset + 17])));
+        stats.setAvg(fromFixed(source[offset + 18]));
+        stats.setTp50(fromFixed(source[offset + 19]));
+        stats.setTp75(fromFixed(source[offset + 20]));
+        stats.setTp90(fromFixed(source[offset + 21]));
+        stats.setTp95(fromFixed(source[offset + 22]));
+        stats.setTp99(fromFixed(source[offset + 23]));
+        stats.setTp999(fromFixed(source[offset + 24]));
+    }
+
+    static long toFixed(double value) {
+        return Math.round(value * FIXED_POINT_SCALE);
+    }
+
+    static double fromFixed(long value) {
+        return value / FIXED_POINT_SCALE;
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.izpan.infrastructure.server.codec;
+
+import com.izpan.infrastructure.server.ClientResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 紧凑快照格式的客户端会话管理
+ * <p>
+ * 开启后管理端在无请求体的 {@code EXECUTOR_MONITOR} 请求中携带协商提示，支持该格式的客户端返回紧凑帧，
+ * 旧版客户端忽略提示照常返回列表，两种响应在此统一还原为线程池列表。
+ * 只有发出过协商提示的客户端才会建立会话；没有会话的客户端的响应原样返回，不做任何反序列化，
+ * 有会话时请求体只反序列化一次，还原结果（线程池列表或原始响应体）直接交给调用方。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.CompactSnapshotSessions
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class CompactSnapshotSessions {
+
+    private final Map<String, CompactSnapshotDecoder> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 是否向客户端发送协商提示
+     */
+    @Getter
+    private volatile boolean enabled;
+
+    /**
+     * 开启或关闭协商，关闭时丢弃全部会话，此后的响应不再检查紧凑帧
+     *
+     * @param enabled 是否开启
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            sessions.clear();
+        }
+    }
+
+    /**
+     * 生成发往指定客户端的请求体
+     *
+     * @param clientAddress 客户端地址
+     * @param requestType   请求类型
+     * @param body          原始请求体
+     * @return 需要协商时返回协商提示，否则返回原始请求体
+     */
+    public Object requestBody(String clientAddress, AdminRequestTypeEnum requestType, Object body) {
+        if (!enabled || body != null || requestType != AdminRequestTypeEnum.EXECUTOR_MONITOR) {
+            return body;
+        }
+        CompactSnapshotDecoder decoder = sessions.computeIfAbsent(clientAddress, key -> new CompactSnapshotDecoder());
+        return CompactSnapshotFormat.negotiationHint(decoder.getEpoch());
+    }
+
+    /**
+     * 还原客户端响应中的紧凑帧
+     *
+     * @param response 客户端响应
+     * @return 紧凑帧还原为线程池列表后的响应；未协商的客户端原样返回；已协商但返回了普通列表时，
+     * 返回以解包后的响应体为内容的响应，避免调用方再次反序列化
+     */
+    public ClientResponse decodeResponse(ClientResponse response) {
+        if (!response.isSuccess() || !sessions.containsKey(response.getClientAddress())) {
+            return response;
+        }
+        try {
+            Object decoded = decode(response.getClientAddress(), response.getPayload());
+            return decoded == response.getPayload() ? response
+                    : ClientResponse.success(response.getClientAddress(), decoded, response.getLatencyMillis());
+        } catch (IllegalStateException e) {
+            return ClientResponse.failure(response.getClientAddress(), e, response.getLatencyMillis());
+        }
+    }
+
+    /**
+     * 还原紧凑帧
+     *
+     * @param clientAddress 客户端地址
+     * @param payload       响应体或上报体，可为 {@link AdminRequestBody} 包装
+     * @return 紧凑帧返回线程池列表；未协商的客户端原样返回 payload；否则返回解包后的响应体
+     * @throws IllegalStateException 帧损坏或 epoch 不匹配，此时会话已重置，下一次请求将要求 FULL 帧
+     */
+    public Object decode(String clientAddress, Object payload) {
+        CompactSnapshotDecoder decoder = sessions.get(clientAddress);
+        if (decoder == null) {
+            return payload;
+        }
+        Object body = payload instanceof AdminRequestBody wrapper ? wrapper.deserializeBody() : payload;
+        if (!CompactSnapshotFormat.isCompactFrame(body)) {
+            return body;
+        }
+        try {
+            return decoder.decode((byte[]) body);
+        } catch (IllegalStateException e) {
+            log.warn("Failed to decode compact snapshot from client {}, resync with full frame: {}",
+                    clientAddress, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 客户端断开时丢弃会话
+     *
+     * @param clientAddress 客户端地址
+     */
+    public void remove(String clientAddress) {
+        sessions.remove(clientAddress);
+    }
+}
@@ -0,0 +1,32 @@
+package com.izpan.infrastructure.server.codec;
+
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+
+/**
+ * 直接持有请求体对象的 {@link AdminRequestBody}
+ * <p>
+ * {@link AdminRequestBody} 构造时将请求体编码为 Hessian 字节、{@link #deserializeBody()} 时再解码，
+ * 经 {@link SchemaBinarySerializer} 传输时请求体已按二进制格式编解码，这两次 Hessian 往返是多余的。
+ * 本类由 {@link SchemaBinarySerializer} 解码时创建，也在请求使用该序列化器发送时由管理端创建，只能随该序列化器传输。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.DecodedAdminRequestBody
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class DecodedAdminRequestBody extends AdminRequestBody {
+
+    private final Object payload;
+
+    public DecodedAdminRequestBody(long id, AdminRequestTypeEnum requestType, Object payload) {
+        super(id, requestType, null);
+        this.payload = payload;
+    }
+
+    @Override
+    public Object deserializeBody() {
+        return payload;
+    }
+}
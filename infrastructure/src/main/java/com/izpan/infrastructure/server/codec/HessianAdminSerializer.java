@@ -0,0 +1,40 @@
+package com.izpan.infrastructure.server.codec;
+
+import com.alipay.remoting.exception.CodecException;
+import com.alipay.remoting.serialization.HessianSerializer;
+import com.alipay.remoting.serialization.SerializerManager;
+
+/**
+ * Hessian 序列化器，所有版本的客户端都支持，作为默认与回退的序列化方式
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.HessianAdminSerializer
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class HessianAdminSerializer implements AdminSerializer {
+
+    public static final String NAME = "hessian2";
+
+    private final HessianSerializer delegate = new HessianSerializer();
+
+    @Override
+    public byte code() {
+        return SerializerManager.Hessian2;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] serialize(Object obj) throws CodecException {
+        return delegate.serialize(obj);
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, String classOfT) throws CodecException {
+        return delegate.deserialize(data, classOfT);
+    }
+}
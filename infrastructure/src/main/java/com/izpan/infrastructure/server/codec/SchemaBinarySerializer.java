@@ -0,0 +1,328 @@
+package com.izpan.infrastructure.server.codec;
+
+import com.alipay.remoting.exception.CodecException;
+import com.alipay.remoting.serialization.HessianSerializer;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于固定 schema 的二进制序列化器
+ * <p>
+ * 帧结构：{@code magic(2) version(1) value}，value 为带类型标签的值：
+ * <ul>
+ *     <li>{@link AdminRequestBody}：id（zigzag varint）、请求类型名称、请求体 value。解码得到 {@link DecodedAdminRequestBody}，
+ *     编码 {@link DecodedAdminRequestBody} 时直接写入其持有的请求体，请求体不再经过 Hessian 往返</li>
+ *     <li>{@link ThreadPoolStats}：名称 / 别名 / 队列类型 / 拒绝策略、标志位（bit0 dynamic，bit1 fair）、
+ *     整型字段的 zigzag varint 与浮点字段的 8 字节原始位，按固定顺序写入，不写字段名</li>
+ *     <li>null、布尔、int、long、double、字符串、字节数组以及 {@code java.util} 下的 List / Map 直接编码</li>
+ *     <li>其余类型以内嵌的 Hessian 字节编码，保证任意请求体都能往返</li>
+ * </ul>
+ * 监控路径上的线程池列表因此不经过反射，也不重复输出类名与字段名。反序列化遇到非本格式的数据时交给 Hessian 处理。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.SchemaBinarySerializer
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class SchemaBinarySerializer implements AdminSerializer {
+
+    public static final byte CODE = 12;
+
+    public static final String NAME = "dtp-binary/1";
+
+    static final byte MAGIC_0 = (byte) 0xD7;
+
+    static final byte MAGIC_1 = (byte) 0x42;
+
+    static final byte VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+
+    private static final byte TAG_TRUE = 1;
+
+    private static final byte TAG_FALSE = 2;
+
+    private static final byte TAG_INT = 3;
+
+    private static final byte TAG_LONG = 4;
+
+    private static final byte TAG_DOUBLE = 5;
+
+    private static final byte TAG_STRING = 6;
+
+    private static final byte TAG_BYTES = 7;
+
+    private static final byte TAG_LIST = 8;
+
+    private static final byte TAG_MAP = 9;
+
+    private static final byte TAG_REQUEST_TYPE = 10;
+
+    private static final byte TAG_REQUEST = 11;
+
+    private static final byte TAG_POOL_STATS = 12;
+
+    private static final byte TAG_HESSIAN = 13;
+
+    /**
+     * 写缓冲区按线程复用，Bolt 在调用方线程上同步序列化
+     */
+    private static final ThreadLocal<VarintWriter> WRITER = ThreadLocal.withInitial(() -> new VarintWriter(4096));
+
+    private final HessianSerializer fallback = new HessianSerializer();
+
+    @Override
+    public byte code() {
+        return CODE;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] serialize(Object obj) throws CodecException {
+        VarintWriter writer = WRITER.get();
+        writer.reset();
+        writer.writeByte(MAGIC_0);
+        writer.writeByte(MAGIC_1);
+        writer.writeByte(VERSION);
+        writeValue(writer, obj);
+        return writer.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] data, String classOfT) throws CodecException {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        if (!isBinaryFrame(data)) {
+            return fallback.deserialize(data, classOfT);
+        }
+        if (data[2] != VERSION) {
+            throw new CodecException("Unsupported binary frame version: " + data[2]);
+        }
+        try {
+            return (T) readValue(new VarintReader(data, 3));
+        } catch (IllegalStateException | ClassCastException e) {
+            throw new CodecException("Malformed binary frame", e);
+        }
+    }
+
+    /**
+     * 数据是否为本格式的帧
+     *
+     * @param data 数据
+     * @return 是返回 true
+     */
+    public static boolean isBinaryFrame(byte[] data) {
+        return data != null && data.length >= 3 && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+    }
+
+    private void writeValue(VarintWriter writer, Object value) throws CodecException {
+        if (value == null) {
+            writer.writeByte(TAG_NULL);
+        } else if (value instanceof String string) {
+            writer.writeByte(TAG_STRING);
+            writer.writeString(string);
+        } else if (value instanceof Boolean bool) {
+            writer.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer number) {
+            writer.writeByte(TAG_INT);
+            writer.writeVarLong(CompactSnapshotFormat.zigzag(number));
+        } else if (value instanceof Long number) {
+            writer.writeByte(TAG_LONG);
+            writer.writeVarLong(CompactSnapshotFormat.zigzag(number));
+        } else if (value instanceof Double number) {
+            writer.writeByte(TAG_DOUBLE);
+            writer.writeFixedLong(Double.doubleToRawLongBits(number));
+        } else if (value instanceof byte[] bytes) {
+            writer.writeByte(TAG_BYTES);
+            writer.writeVarLong(bytes.length);
+            writer.writeBytes(bytes);
+        } else if (value instanceof AdminRequestTypeEnum requestType) {
+            writer.writeByte(TAG_REQUEST_TYPE);
+            writer.writeString(requestType.name());
+        } else if (value.getClass() == ThreadPoolStats.class) {
+            writer.writeByte(TAG_POOL_STATS);
+            writeStats(writer, (ThreadPoolStats) value);
+        } else if (value.getClass() == AdminRequestBody.class || value.getClass() == DecodedAdminRequestBody.class) {
+            AdminRequestBody request = (AdminRequestBody) value;
+            writer.writeByte(TAG_REQUEST);
+            writer.writeVarLong(CompactSnapshotFormat.zigzag(request.getId()));
+            writer.writeString(request.getRequestType() == null ? null : request.getRequestType().name());
+            // DecodedAdminRequestBody 直接返回持有的对象，普通 AdminRequestBody 需要解码一次 Hessian 字节
+            writeValue(writer, request.deserializeBody());
+        } else if (value instanceof List<?> list && isJdkCollection(list)) {
+            writer.writeByte(TAG_LIST);
+            writer.writeVarLong(list.size());
+            for (Object element : list) {
+                writeValue(writer, element);
+            }
+        } else if (value instanceof Map<?, ?> map && isJdkCollection(map)) {
+            writer.writeByte(TAG_MAP);
+            writer.writeVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(writer, entry.getKey());
+                writeValue(writer, entry.getValue());
+            }
+        } else {
+            byte[] bytes = fallback.serialize(value);
+            writer.writeByte(TAG_HESSIAN);
+            writer.writeVarLong(bytes.length);
+            writer.writeBytes(bytes);
+        }
+    }
+
+    private Object readValue(VarintReader reader) throws CodecException {
+        byte tag = reader.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_INT:
+                return (int) CompactSnapshotFormat.unzigzag(reader.readVarLong());
+            case TAG_LONG:
+                return CompactSnapshotFormat.unzigzag(reader.readVarLong());
+            case TAG_DOUBLE:
+                return Double.longBitsToDouble(reader.readFixedLong());
+            case TAG_STRING:
+                return reader.readString();
+            case TAG_BYTES:
+                return reader.readBytes(reader.readVarInt());
+            case TAG_REQUEST_TYPE:
+                return AdminRequestTypeEnum.valueOf(reader.readString());
+            case TAG_POOL_STATS:
+                return readStats(reader);
+            case TAG_REQUEST: {
+                long id = CompactSnapshotFormat.unzigzag(reader.readVarLong());
+                String requestType = reader.readString();
+                Object body = readValue(reader);
+                return new DecodedAdminRequestBody(id,
+                        requestType == null ? null : AdminRequestTypeEnum.valueOf(requestType), body);
+            }
+            case TAG_LIST: {
+                int size = reader.readVarInt();
+                List<Object> list = new ArrayList<>(Math.min(size, 1024));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(reader));
+                }
+                return list;
+            }
+            case TAG_MAP: {
+                int size = reader.readVarInt();
+                Map<Object, Object> map = LinkedHashMap.newLinkedHashMap(Math.min(size, 1024));
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(reader), readValue(reader));
+                }
+                return map;
+            }
+            case TAG_HESSIAN:
+                return fallback.deserialize(reader.readBytes(reader.readVarInt()), null);
+            default:
+                throw new IllegalStateException("Unknown value tag in binary frame: " + tag);
+        }
+    }
+
+    private static void writeStats(VarintWriter writer, ThreadPoolStats stats) {
+        writer.writeString(stats.getPoolName());
+        writer.writeString(stats.getPoolAliasName());
+        writer.writeString(stats.getQueueType());
+        writer.writeString(stats.getRejectHandlerName());
+        writer.writeByte(CompactSnapshotEncoder.flagsOf(stats));
+        writeLong(writer, stats.getCorePoolSize());
+        writeLong(writer, stats.getMaximumPoolSize());
+        writeLong(writer, stats.getKeepAliveTime());
+        writeLong(writer, stats.getQueueCapacity());
+        writeLong(writer, stats.getQueueSize());
+        writeLong(writer, stats.getQueueRemainingCapacity());
+        writeLong(writer, stats.getActiveCount());
+        writeLong(writer, stats.getTaskCount());
+        writeLong(writer, stats.getCompletedTaskCount());
+        writeLong(writer, stats.getLargestPoolSize());
+        writeLong(writer, stats.getPoolSize());
+        writeLong(writer, stats.getWaitTaskCount());
+        writeLong(writer, stats.getRejectCount());
+        writeLong(writer, stats.getRunTimeoutCount());
+        writeLong(writer, stats.getQueueTimeoutCount());
+        writeLong(writer, stats.getMaxRt());
+        writeLong(writer, stats.getMinRt());
+        writeDouble(writer, stats.getTps());
+        writeDouble(writer, stats.getAvg());
+        writeDouble(writer, stats.getTp50());
+        writeDouble(writer, stats.getTp75());
+        writeDouble(writer, stats.getTp90());
+        writeDouble(writer, stats.getTp95());
+        writeDouble(writer, stats.getTp99());
+        writeDouble(writer, stats.getTp999());
+    }
+
+    private static ThreadPoolStats readStats(VarintReader reader) {
+        ThreadPoolStats stats = new ThreadPoolStats();
+        stats.setPoolName(reader.readString());
+        stats.setPoolAliasName(reader.readString());
+        stats.setQueueType(reader.readString());
+        stats.setRejectHandlerName(reader.readString());
+        byte flags = reader.readByte();
+        stats.setDynamic((flags & 1) != 0);
+        stats.setFair((flags & 2) != 0);
+        stats.setCorePoolSize((int) readLong(reader));
+        stats.setMaximumPoolSize((int) readLong(reader));
+        stats.setKeepAliveTime(readLong(reader));
+        stats.setQueueCapacity((int) readLong(reader));
+        stats.setQueueSize((int) readLong(reader));
+        stats.setQueueRemainingCapacity((int) readLong(reader));
+        stats.setActiveCount((int) readLong(reader));
+        stats.setTaskCount(readLong(reader));
+        stats.setCompletedTaskCount(readLong(reader));
+        stats.setLargestPoolSize((int) readLong(reader));
+        stats.setPoolSize((int) readLong(reader));
+        stats.setWaitTaskCount((int) readLong(reader));
+        stats.setRejectCount(readLong(reader));
+        stats.setRunTimeoutCount(readLong(reader));
+        stats.setQueueTimeoutCount(readLong(reader));
+        stats.setMaxRt(readLong(reader));
+        stats.setMinRt(readLong(reader));
+        stats.setTps(readDouble(reader));
+        stats.setAvg(readDouble(reader));
+        stats.setTp50(readDouble(reader));
+        stats.setTp75(readDouble(reader));
+        stats.setTp90(readDouble(reader));
+        stats.setTp95(readDouble(reader));
+        stats.setTp99(readDouble(reader));
+        stats.setTp999(readDouble(reader));
+        return stats;
+    }
+
+    private static boolean isJdkCollection(Object value) {
+        return value.getClass().getName().startsWith("java.util.");
+    }
+
+    private static void writeLong(VarintWriter writer, long value) {
+        writer.writeVarLong(CompactSnapshotFormat.zigzag(value));
+    }
+
+    private static long readLong(VarintReader reader) {
+        return CompactSnapshotFormat.unzigzag(reader.readVarLong());
+    }
+
+    private static void writeDouble(VarintWriter writer, double value) {
+        writer.writeFixedLong(Double.doubleToRawLongBits(value));
+    }
+
+    private static double readDouble(VarintReader reader) {
+        return Double.longBitsToDouble(reader.readFixedLong());
+    }
+}
@@ -0,0 +1,153 @@
+package com.izpan.infrastructure.server.codec;
+
+import com.alipay.remoting.exception.CodecException;
+import com.alipay.remoting.serialization.SerializerManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按连接协商序列化方式
+ * <p>
+ * 启动时注册内置的 Hessian 与 {@link SchemaBinarySerializer}，以及通过 {@link ServiceLoader} 声明的 {@link AdminSerializer}。
+ * 管理端发往客户端的请求默认使用 Hessian；客户端以其他已注册的序列化器发起过请求，说明它同样支持该编码，
+ * 此后发往该连接的请求改用该序列化器。编解码失败时该连接回退到 Hessian，直至重新连接前不再升级。
+ * 旧版客户端只会使用 Hessian，不受影响。
+ * </p>
+ * <p>
+ * 协商由客户端发起：客户端需要以相同编码（{@link SchemaBinarySerializer#CODE} 为 12）注册对应的序列化器并用它发送请求，
+ * 现有的 dynamic-tp 客户端只发送 Hessian，因此开启协商本身不会改变任何连接的编码。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.SerializerNegotiator
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class SerializerNegotiator {
+
+    public static final byte DEFAULT_CODE = SerializerManager.Hessian2;
+
+    private final boolean enabled;
+
+    private final Map<Byte, AdminSerializer> serializers = new LinkedHashMap<>();
+
+    /**
+     * 客户端地址 -> 协商出的序列化器编码，未协商的客户端使用 {@link #DEFAULT_CODE}
+     */
+    private final Map<String, Byte> negotiated = new ConcurrentHashMap<>();
+
+    /**
+     * 编解码失败后固定使用 Hessian 的客户端
+     */
+    private final Set<String> pinned = ConcurrentHashMap.newKeySet();
+
+    public SerializerNegotiator(boolean enabled) {
+        this.enabled = enabled;
+        register(new HessianAdminSerializer());
+        register(new SchemaBinarySerializer());
+        try {
+            for (AdminSerializer serializer : ServiceLoader.load(AdminSerializer.class)) {
+                register(serializer);
+            }
+        } catch (ServiceConfigurationError e) {
+            log.error("Failed to load admin serializer providers", e);
+        }
+        log.info("Admin serializers registered: {}, per-connection negotiation {}", serializers.values().stream()
+                .map(s -> s.name() + "(" + s.code() + ")").toList(), enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * 注册序列化器，包装为 {@link ByteCountingSerializer} 以统计报文字节数
+     */
+    private void register(AdminSerializer serializer) {
+        if (serializers.containsKey(serializer.code())) {
+            log.warn("Admin serializer {} ignored, code {} is already registered by {}", serializer.name(),
+                    serializer.code(), serializers.get(serializer.code()).name());
+            return;
+        }
+        SerializerManager.addSerializer(serializer.code(), new ByteCountingSerializer(serializer));
+        serializers.put(serializer.code(), serializer);
+    }
+
+    /**
+     * 发往指定客户端的请求应使用的序列化器编码
+     *
+     * @param clientAddress 客户端地址
+     * @return 序列化器编码
+     */
+    public byte serializerFor(String clientAddress) {
+        return negotiated.getOrDefault(clientAddress, DEFAULT_CODE);
+    }
+
+    /**
+     * 发往客户端的请求使用的序列化器名称
+     *
+     * @param clientAddress 客户端地址
+     * @return 序列化器名称
+     */
+    public String nameOf(String clientAddress) {
+        AdminSerializer serializer = serializers.get(serializerFor(clientAddress));
+        return serializer == null ? HessianAdminSerializer.NAME : serializer.name();
+    }
+
+    /**
+     * 记录客户端发起请求时使用的序列化器，在请求处理线程上调用
+     *
+     * @param clientAddress 客户端地址
+     * @param code          {@link ByteCountingSerializer#takeDeserializerCode()} 取得的编码，-1 表示未知
+     */
+    public void onRequest(String clientAddress, int code) {
+        if (!enabled || clientAddress == null || code < 0 || code == DEFAULT_CODE
+                || !serializers.containsKey((byte) code) || pinned.contains(clientAddress)) {
+            return;
+        }
+        Byte previous = negotiated.put(clientAddress, (byte) code);
+        if (previous == null || previous != code) {
+            log.info("Client {} negotiated serializer {}", clientAddress, serializers.get((byte) code).name());
+        }
+    }
+
+    /**
+     * 请求失败时判断是否由编解码引起，是则将该客户端回退到 Hessian
+     *
+     * @param clientAddress 客户端地址
+     * @param code          失败请求使用的序列化器编码
+     * @param error         失败原因
+     */
+    public void onFailure(String clientAddress, byte code, Throwable error) {
+        if (code == DEFAULT_CODE || !isCodecFailure(error)) {
+            return;
+        }
+        pinned.add(clientAddress);
+        if (negotiated.remove(clientAddress) != null) {
+            log.warn("Client {} falls back to {} after codec failure with {}: {}", clientAddress,
+                    HessianAdminSerializer.NAME, serializers.get(code).name(), error.getMessage());
+        }
+    }
+
+    /**
+     * 移除客户端的协商结果，连接断开时调用
+     *
+     * @param clientAddress 客户端地址
+     */
+    public void remove(String clientAddress) {
+        negotiated.remove(clientAddress);
+        pinned.remove(clientAddress);
+    }
+
+    private static boolean isCodecFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CodecException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.izpan.infrastructure.server.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * varint 读游标，直接在原始字节数组上解析
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.codec.VarintReader
+ * @CreateTime 2026/10/18 - 10:00
+ */
+final class VarintReader {
+
+    private final byte[] buffer;
+
+    private int position;
+
+    VarintReader(byte[] buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    byte readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalStateException("Compact snapshot frame truncated at " + position);
+        }
+        return buffer[position++];
+    }
+
+    long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in compact snapshot frame");
+    }
+
+    int readVarInt() {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Varint out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    long readFixedLong() {
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | (readByte() & 0xFF);
+        }
+        return result;
+    }
+
+    byte[] readBytes(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalStateException("Compact snapshot frame truncated at " + position);
+        }
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        int bytes = length - 1;
+        if (position + bytes > buffer.length) {
+            throw new IllegalStateException("Compact snapshot frame truncated at " + position);
+        }
+        String value = new String(buffer, position, bytes, StandardCharsets.UTF_8);
+        position += bytes;
+        return value;
+    }
+}
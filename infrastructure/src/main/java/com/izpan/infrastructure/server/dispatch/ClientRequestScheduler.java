@@ -0,0 +1,303 @@
+package com.izpan.infrastructure.server.dispatch;
+
+import com.izpan.infrastructure.server.AdminServerProperties;
+import com.izpan.infrastructure.server.ClientResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 按客户端隔离的请求调度器
+ * <p>
+ * 每个客户端一条通道：同时在途的请求数不超过上限，超出部分进入有界 FIFO 队列，队列已满时直接以失败响应拒绝，
+ * 避免突发的面板查询或批量刷新压垮慢客户端的连接。可合并的请求（无请求体的 {@code EXECUTOR_MONITOR}）
+ * 在同一客户端已有同类请求排队或在途、且其截止时间不早于本次请求时不再单独发送，所有等待方共享同一次 RPC 的结果；
+ * 共享结果只在 RPC 结束时完成，每个等待方在各自的截止时间到达时单独以超时返回，互不影响。
+ * 通道内的状态变更只在该通道上加锁，不同客户端之间互不影响。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.dispatch.ClientRequestScheduler
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class ClientRequestScheduler {
+
+    private final int maxInFlight;
+
+    private final int queueCapacity;
+
+    private final boolean coalesceEnabled;
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    public ClientRequestScheduler(AdminServerProperties.Scheduler config) {
+        if (config.getMaxInFlightPerClient() <= 0) {
+            throw new IllegalArgumentException("maxInFlightPerClient must be positive: "
+                    + config.getMaxInFlightPerClient());
+        }
+        this.maxInFlight = config.getMaxInFlightPerClient();
+        this.queueCapacity = Math.max(0, config.getQueueCapacityPerClient());
+        this.coalesceEnabled = config.isCoalesceMonitor();
+    }
+
+    /**
+     * 提交单个客户端请求
+     *
+     * @param clientAddress 客户端地址
+     * @param coalescible   是否可与同一客户端的同类请求合并
+     * @param deadlineNanos 截止时间（{@link System#nanoTime()} 基准）
+     * @param call          实际发送请求，轮到该请求时才调用
+     * @return 客户端响应，该 future 总是正常完成，失败、超时与拒绝体现在 {@link ClientResponse} 中
+     */
+    public CompletableFuture<ClientResponse> submit(String clientAddress, boolean coalescible, long deadlineNanos,
+                                                    Supplier<CompletableFuture<ClientResponse>> call) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMillis <= 0) {
+            return CompletableFuture.completedFuture(ClientResponse.timeout(clientAddress, 0));
+        }
+        return lanes.computeIfAbsent(clientAddress, Lane::new)
+                .submit(coalesceEnabled && coalescible, deadlineNanos, remainingMillis, call);
+    }
+
+    /**
+     * 客户端断开时移除通道，排队中的请求以失败完成
+     *
+     * @param clientAddress 客户端地址
+     */
+    public void remove(String clientAddress) {
+        Lane lane = lanes.remove(clientAddress);
+        if (lane != null) {
+            lane.abort();
+        }
+    }
+
+    /**
+     * 指定客户端当前在途请求数
+     *
+     * @param clientAddress 客户端地址
+     * @return 在途请求数
+     */
+    public int getInFlightCount(String clientAddress) {
+        Lane lane = lanes.get(clientAddress);
+        return lane == null ? 0 : lane.inFlight();
+    }
+
+    /**
+     * 指定客户端当前排队请求数
+     *
+     * @param clientAddress 客户端地址
+     * @return 排队请求数
+     */
+    public int getQueuedCount(String clientAddress) {
+        Lane lane = lanes.get(clientAddress);
+        return lane == null ? 0 : lane.queued();
+    }
+
+    /**
+     * 因队列已满被拒绝的请求总数
+     *
+     * @return 拒绝数
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 被合并到已有请求的请求总数
+     *
+     * @return 合并数
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 单个客户端的请求通道
+     */
+    private final class Lane {
+
+        private final String clientAddress;
+
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+
+        private int inFlight;
+
+        /**
+         * 排队或在途的可合并请求
+         */
+        private Task shared;
+
+        private Lane(String clientAddress) {
+            this.clientAddress = clientAddress;
+        }
+
+        private CompletableFuture<ClientResponse> submit(boolean coalescible, long deadlineNanos, long remainingMillis,
+                                                         Supplier<CompletableFuture<ClientResponse>> call) {
+            Task task = new Task(call, coalescible, deadlineNanos);
+            boolean start;
+            synchronized (this) {
+                // 共享请求的截止时间更早时不合并，否则其超时会提前结束本次请求
+                if (coalescible && shared != null && !shared.future.isDone()
+                        && shared.deadlineNanos - deadlineNanos >= 0) {
+                    coalesced.increment();
+                    return waiter(shared, remainingMillis);
+                }
+                start = inFlight < maxInFlight;
+                if (start) {
+                    inFlight++;
+                } else if (queue.size() >= queueCapacity) {
+                    rejected.increment();
+                    log.warn("Request queue full for client: {}, in flight: {}, queued: {}",
+                            clientAddress, inFlight, queue.size());
+                    return CompletableFuture.completedFuture(ClientResponse.failure(clientAddress,
+                            new RejectedExecutionException("Request queue full for client: " + clientAddress), 0));
+                } else {
+                    queue.offer(task);
+                }
+                if (coalescible) {
+                    shared = task;
+                }
+            }
+            CompletableFuture<ClientResponse> waiter = waiter(task, remainingMillis);
+            if (start) {
+                start(task);
+            }
+            return waiter;
+        }
+
+        /**
+         * 等待方各自的结果：截止时间到达时以超时完成，无论请求仍在排队还是在途，不影响共享同一请求的其他等待方
+         */
+        private CompletableFuture<ClientResponse> waiter(Task task, long remainingMillis) {
+            return task.future.copy().completeOnTimeout(ClientResponse.timeout(clientAddress, remainingMillis),
+                    remainingMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * 从指定请求开始依次发送，请求同步完成（已完成、排队期间已过期或调用返回已完成的结果）时在本循环中继续取下一个，
+         * 不递归调用，同时过期的大量排队请求不会撑爆调用栈
+         */
+        private void start(Task task) {
+            Task current = task;
+            while (current != null && runSync(current)) {
+                current = release(current);
+            }
+        }
+
+        /**
+         * 发送单个请求
+         *
+         * @return 请求已同步完成返回 true，由调用方释放槽位；否则在响应回调中释放
+         */
+        private boolean runSync(Task task) {
+            if (task.future.isDone()) {
+                return true;
+            }
+            // 排队期间所有等待方都已超时，不再发送
+            if (System.nanoTime() - task.deadlineNanos >= 0) {
+                task.future.complete(ClientResponse.timeout(clientAddress, 0));
+                return true;
+            }
+            CompletableFuture<ClientResponse> response;
+            try {
+                response = task.call.get();
+            } catch (RuntimeException e) {
+                task.future.complete(ClientResponse.failure(clientAddress, e, 0));
+                return true;
+            }
+            if (response.isDone()) {
+                task.future.complete(outcome(response));
+                return true;
+            }
+            response.whenComplete((result, throwable) -> {
+                task.future.complete(throwable == null ? result : ClientResponse.failure(clientAddress, throwable, 0));
+                start(release(task));
+            });
+            return false;
+        }
+
+        private ClientResponse outcome(CompletableFuture<ClientResponse> response) {
+            try {
+                return response.join();
+            } catch (CompletionException | CancellationException e) {
+                return ClientResponse.failure(clientAddress, e.getCause() == null ? e : e.getCause(), 0);
+            }
+        }
+
+        /**
+         * 释放请求占用的槽位，有排队请求时槽位直接转交给它
+         *
+         * @return 接着发送的排队请求，没有时为 {@code null}
+         */
+        private synchronized Task release(Task task) {
+            if (task.coalescible && shared == task) {
+                shared = null;
+            }
+            Task next = queue.poll();
+            if (next == null) {
+                inFlight--;
+            }
+            return next;
+        }
+
+        private void abort() {
+            List<Task> tasks;
+            synchronized (this) {
+                tasks = List.copyOf(queue);
+                queue.clear();
+            }
+            IllegalStateException error = new IllegalStateException("Client disconnected: " + clientAddress);
+            tasks.forEach(task -> task.future.complete(ClientResponse.failure(clientAddress, error, 0)));
+        }
+
+        private synchronized int inFlight() {
+            return inFlight;
+        }
+
+        private synchronized int queued() {
+            return queue.size();
+        }
+    }
+
+    /**
+     * 排队或在途的单个请求
+     */
+    private static final class Task {
+
+        private final Supplier<CompletableFuture<ClientResponse>> call;
+
+        private final boolean coalescible;
+
+        /**
+         * 截止时间（{@link System#nanoTime()} 基准），合并进来的等待方不会晚于该时间
+         */
+        private final long deadlineNanos;
+
+        /**
+         * RPC 结果，只在请求结束或通道中止时完成
+         */
+        private final CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+
+        private Task(Supplier<CompletableFuture<ClientResponse>> call, boolean coalescible, long deadlineNanos) {
+            this.call = call;
+            this.coalescible = coalescible;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.izpan.infrastructure.server.dispatch;
+
+import com.alipay.remoting.InvokeCallback;
+import com.alipay.remoting.InvokeContext;
+import com.alipay.remoting.rpc.RpcServer;
+import com.alipay.remoting.rpc.exception.InvokeTimeoutException;
+import com.izpan.infrastructure.server.ClientResponse;
+import com.izpan.infrastructure.server.codec.ByteCountingSerializer;
+import com.izpan.infrastructure.server.stats.RpcMetrics;
+import com.izpan.infrastructure.server.stats.RpcStats;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 非阻塞扇出调度器
+ * <p>
+ * 基于 Bolt {@code invokeWithCallback} 发送请求，等待期间不占用任何线程；
+ * 通过信号量限制同时在途的请求数，超出部分进入待发送队列，在前序请求完成后补发。
+ * 每个客户端请求都有独立的截止时间，到期未返回的请求以超时响应完成，广播返回部分结果。
+ * 每次实际发出的 RPC 的耗时、结果与报文字节数记录到 {@link RpcMetrics}。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.dispatch.FanOutDispatcher
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class FanOutDispatcher {
+
+    private final RpcServer server;
+
+    private final int maxInFlight;
+
+    private final Semaphore permits;
+
+    private final Queue<PendingCall> pending = new ConcurrentLinkedQueue<>();
+
+    private final RpcMetrics rpcMetrics;
+
+    public FanOutDispatcher(RpcServer server, int maxInFlight, RpcMetrics rpcMetrics) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.server = server;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+        this.rpcMetrics = rpcMetrics;
+    }
+
+    /**
+     * 等待一组客户端响应全部完成后合并为映射
+     *
+     * @param futures 客户端响应，均须总是正常完成
+     * @return 客户端地址到响应的映射，按 futures 顺序排列
+     */
+    public static CompletableFuture<Map<String, ClientResponse>> collect(List<CompletableFuture<ClientResponse>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<String, ClientResponse> results = LinkedHashMap.newLinkedHashMap(futures.size());
+                    for (CompletableFuture<ClientResponse> future : futures) {
+                        ClientResponse response = future.join();
+                        results.put(response.getClientAddress(), response);
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * 提交单个客户端请求
+     *
+     * @param clientAddress 客户端地址
+     * @param request       请求体
+     * @param deadlineNanos 截止时间（{@link System#nanoTime()} 基准）
+     * @param serializer    请求使用的 Bolt 序列化器编码，响应沿用该编码
+     * @return 客户端响应，该 future 总是正常完成，失败与超时体现在 {@link ClientResponse} 中
+     */
+    public CompletableFuture<ClientResponse> submit(String clientAddress, AdminRequestBody request, long deadlineNanos,
+                                                    byte serializer) {
+        PendingCall call = new PendingCall(clientAddress, request, deadlineNanos, serializer);
+        long remainingMillis = call.remainingMillis();
+        if (remainingMillis <= 0) {
+            call.future.complete(ClientResponse.timeout(clientAddress, 0));
+            return call.future;
+        }
+        // 截止时间到达时直接以超时完成，无论请求是否仍在排队或在途
+        call.future.completeOnTimeout(ClientResponse.timeout(clientAddress, remainingMillis),
+                remainingMillis, TimeUnit.MILLISECONDS);
+        pending.offer(call);
+        drain();
+        return call.future;
+    }
+
+    /**
+     * 当前在途请求数
+     *
+     * @return 在途请求数
+     */
+    public int getInFlightCount() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * 当前排队等待发送的请求数
+     *
+     * @return 排队请求数
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 在有空闲许可时从队列中取出请求发送；入队方与释放许可方都会调用，保证不会遗漏唤醒
+     */
+    private void drain() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            PendingCall call = pending.poll();
+            if (call == null) {
+                permits.release();
+                return;
+            }
+            if (!send(call)) {
+                // 同步失败的请求直接归还许可并在本循环内继续，不经 release 递归，调用栈深度与排队数无关
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * 发送请求
+     *
+     * @return 请求已发出返回 true，同步失败（已过期或发送异常）返回 false，此时由调用方归还许可
+     */
+    private boolean send(PendingCall call) {
+        long remainingMillis = call.remainingMillis();
+        if (call.future.isDone() || remainingMillis <= 0) {
+            call.future.complete(ClientResponse.timeout(call.clientAddress, call.elapsedMillis()));
+            call.record(RpcStats.RpcOutcome.TIMEOUT, 0);
+            return false;
+        }
+        call.sendNanos = System.nanoTime();
+        ByteCountingSerializer.takeSerializedBytes();
+        try {
+            InvokeContext invokeContext = new InvokeContext();
+            invokeContext.put(InvokeContext.BOLT_CUSTOM_SERIALIZER, call.serializer);
+            server.invokeWithCallback(call.clientAddress, call.request, invokeContext, call,
+                    (int) Math.min(Integer.MAX_VALUE, remainingMillis));
+            // 请求在发送方线程上同步序列化
+            rpcMetrics.recordRequestBytes(call.clientAddress, call.request.getRequestType(),
+                    ByteCountingSerializer.takeSerializedBytes());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to send request to client: {}", call.clientAddress, e);
+            call.future.complete(ClientResponse.failure(call.clientAddress, e, call.elapsedMillis()));
+            call.record(RpcStats.RpcOutcome.ERROR, 0);
+            return false;
+        }
+    }
+
+    private void release() {
+        permits.release();
+        drain();
+    }
+
+    /**
+     * 待发送 / 在途的单个请求，同时作为 Bolt 回调
+     */
+    private final class PendingCall implements InvokeCallback {
+
+        private final String clientAddress;
+
+        private final AdminRequestBody request;
+
+        private final long deadlineNanos;
+
+        private final byte serializer;
+
+        private final CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+
+        private final long submitNanos = System.nanoTime();
+
+        private volatile long sendNanos;
+
+        private PendingCall(String clientAddress, AdminRequestBody request, long deadlineNanos, byte serializer) {
+            this.clientAddress = clientAddress;
+            this.request = request;
+            this.deadlineNanos = deadlineNanos;
+            this.serializer = serializer;
+        }
+
+        private long remainingMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        }
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitNanos);
+        }
+
+        private long latencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (sendNanos == 0 ? submitNanos : sendNanos));
+        }
+
+        private void record(RpcStats.RpcOutcome outcome, long responseBytes) {
+            long startNanos = sendNanos == 0 ? submitNanos : sendNanos;
+            rpcMetrics.record(clientAddress, request.getRequestType(), outcome, System.nanoTime() - startNanos,
+                    responseBytes);
+        }
+
+        @Override
+        public void onResponse(Object result) {
+            // 响应在回调线程上先反序列化再回调
+            record(RpcStats.RpcOutcome.SUCCESS, ByteCountingSerializer.takeDeserializedBytes());
+            future.complete(ClientResponse.success(clientAddress, result, latencyMillis()));
+            release();
+        }
+
+        @Override
+        public void onException(Throwable e) {
+            if (e instanceof InvokeTimeoutException) {
+                record(RpcStats.RpcOutcome.TIMEOUT, 0);
+                future.complete(ClientResponse.timeout(clientAddress, latencyMillis()));
+            } else {
+                record(RpcStats.RpcOutcome.ERROR, 0);
+                log.warn("Request to client {} failed: {}", clientAddress, e.getMessage());
+                future.complete(ClientResponse.failure(clientAddress, e, latencyMillis()));
+            }
+            release();
+        }
+
+        @Override
+        public Executor getExecutor() {
+            // 回调逻辑极轻，直接在 Bolt 回调线程执行
+            return null;
+        }
+    }
+}
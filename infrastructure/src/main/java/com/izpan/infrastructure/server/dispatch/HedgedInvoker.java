@@ -0,0 +1,84 @@
+package com.izpan.infrastructure.server.dispatch;
+
+import com.izpan.infrastructure.server.ClientResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 对冲请求
+ * <p>
+ * 首个请求在对冲延迟内未返回、或在截止时间前失败时，再发送一次请求，取先成功者。
+ * 第二次请求的目标由调用方决定，应为另一个可提供相同数据的客户端（如同一应用的另一实例），
+ * 避免在客户端已经变慢时向它加倍施压。仅用于幂等读请求；两次请求均失败时返回后完成的失败响应。
+ * 对冲延迟由调用方提供的专用调度线程计时，首个请求先完成时取消。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.dispatch.HedgedInvoker
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public final class HedgedInvoker {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    private HedgedInvoker() {
+    }
+
+    /**
+     * 发起对冲请求
+     *
+     * @param attempt     按尝试序号（0 为首个请求）发送请求
+     * @param delayMillis 对冲延迟（毫秒）
+     * @param scheduler   对冲延迟计时器
+     * @return 先成功的响应
+     */
+    public static CompletableFuture<ClientResponse> invoke(IntFunction<CompletableFuture<ClientResponse>> attempt,
+                                                           long delayMillis, ScheduledExecutorService scheduler) {
+        CompletableFuture<ClientResponse> result = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        Runnable fire = new Runnable() {
+            @Override
+            public void run() {
+                int index = started.getAndIncrement();
+                if (index >= MAX_ATTEMPTS || result.isDone()) {
+                    return;
+                }
+                attempt.apply(index).whenComplete((response, throwable) -> {
+                    boolean last = finished.incrementAndGet() >= MAX_ATTEMPTS;
+                    if (throwable != null) {
+                        if (last) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            run();
+                        }
+                    } else if (response.isSuccess() || last) {
+                        result.complete(response);
+                    } else if (!response.isTimeout()) {
+                        // 首个请求快速失败时立即补发，不必等待对冲延迟
+                        run();
+                    } else {
+                        result.complete(response);
+                    }
+                });
+            }
+        };
+        fire.run();
+        if (!result.isDone()) {
+            try {
+                ScheduledFuture<?> hedge = scheduler.schedule(fire, delayMillis, TimeUnit.MILLISECONDS);
+                result.whenComplete((response, throwable) -> hedge.cancel(false));
+            } catch (RejectedExecutionException e) {
+                // 服务关闭中，不再对冲
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.izpan.infrastructure.server.dispatch;
+
+import com.izpan.infrastructure.holder.RequestDeadlineHolder;
+import com.izpan.infrastructure.server.AdminServerProperties;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+
+/**
+ * 客户端请求超时预算
+ * <p>
+ * 实际超时取请求类型预算、调用方指定超时与当前 HTTP 请求剩余时间三者中的最小值。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.dispatch.TimeoutBudget
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class TimeoutBudget {
+
+    private final AdminServerProperties.Timeout config;
+
+    public TimeoutBudget(AdminServerProperties.Timeout config) {
+        this.config = config;
+    }
+
+    /**
+     * 请求类型的超时预算
+     *
+     * @param requestType 请求类型
+     * @return 超时时间（毫秒）
+     */
+    public long of(AdminRequestTypeEnum requestType) {
+        Long millis = config.getRequestTypes().get(requestType);
+        return millis == null ? config.getDefaultMillis() : millis;
+    }
+
+    /**
+     * 计算本次请求的实际超时
+     *
+     * @param requestType     请求类型
+     * @param requestedMillis 调用方指定的超时（毫秒），小于等于 0 表示不指定
+     * @return 实际超时（毫秒），可能小于等于 0 表示预算已耗尽
+     */
+    public long resolve(AdminRequestTypeEnum requestType, long requestedMillis) {
+        long budget = of(requestType);
+        if (requestedMillis > 0) {
+            budget = Math.min(budget, requestedMillis);
+        }
+        return Math.min(budget, RequestDeadlineHolder.remainingMillis());
+    }
+}
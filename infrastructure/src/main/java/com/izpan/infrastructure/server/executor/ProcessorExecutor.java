@@ -0,0 +1,234 @@
+package com.izpan.infrastructure.server.executor;
+
+import com.izpan.infrastructure.server.AdminServerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 管理端请求处理执行器
+ * <p>
+ * 饱和时直接拒绝，由 Bolt 向客户端返回线程池繁忙响应，不会退化为在 IO 线程上执行；
+ * 记录排队深度、拒绝次数与请求耗时（排队 + 执行），并可导出为 {@link ThreadPoolStats} 在面板上展示。
+ * 虚拟线程模式下以信号量限制排队与执行中的请求总数。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.executor.ProcessorExecutor
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class ProcessorExecutor implements Executor {
+
+    public static final String POOL_NAME = "dynamic-tp-admin-processor";
+
+    private static final String POOL_ALIAS_NAME = "管理端请求处理线程池";
+
+    private final AdminServerProperties.Processor config;
+
+    private final ThreadPoolExecutor platformExecutor;
+
+    private final ExecutorService virtualExecutor;
+
+    private final Semaphore virtualPermits;
+
+    private final AtomicInteger threadCounter = new AtomicInteger(1);
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicInteger largestActive = new AtomicInteger();
+
+    private final LongAdder submitted = new LongAdder();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder totalLatencyNanos = new LongAdder();
+
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private final AtomicLong minLatencyNanos = new AtomicLong(Long.MAX_VALUE);
+
+    private long lastCompleted;
+
+    private long lastSampleNanos = System.nanoTime();
+
+    public ProcessorExecutor(AdminServerProperties.Processor config) {
+        this.config = config;
+        if (config.isVirtualThreads()) {
+            this.platformExecutor = null;
+            this.virtualExecutor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("AdminServerProcessor-v-", 1).factory());
+            this.virtualPermits = new Semaphore(Math.max(1, config.getQueueCapacity()));
+        } else {
+            this.platformExecutor = new ThreadPoolExecutor(
+                    config.getCorePoolSize(),
+                    Math.max(config.getCorePoolSize(), config.getMaximumPoolSize()),
+                    config.getKeepAliveSeconds(),
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                    r -> {
+                        Thread t = new Thread(r, "AdminServerProcessor-" + threadCounter.getAndIncrement());
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+            this.virtualExecutor = null;
+            this.virtualPermits = null;
+        }
+        log.info("AdminServer processor executor created: virtualThreads={}, core={}, max={}, queue={}",
+                config.isVirtualThreads(), config.getCorePoolSize(), config.getMaximumPoolSize(),
+                config.getQueueCapacity());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        long submitNanos = System.nanoTime();
+        if (virtualExecutor != null && !virtualPermits.tryAcquire()) {
+            reject();
+        }
+        try {
+            Runnable task = () -> run(command, submitNanos);
+            if (virtualExecutor != null) {
+                virtualExecutor.execute(task);
+            } else {
+                platformExecutor.execute(task);
+            }
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            if (virtualPermits != null) {
+                virtualPermits.release();
+            }
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    private void reject() {
+        rejected.increment();
+        throw new RejectedExecutionException("AdminServer processor saturated, in-flight limit "
+                + config.getQueueCapacity());
+    }
+
+    private void run(Runnable command, long submitNanos) {
+        int running = active.incrementAndGet();
+        largestActive.accumulateAndGet(running, Math::max);
+        try {
+            command.run();
+        } finally {
+            active.decrementAndGet();
+            if (virtualPermits != null) {
+                virtualPermits.release();
+            }
+            long latency = System.nanoTime() - submitNanos;
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            minLatencyNanos.accumulateAndGet(latency, Math::min);
+            completed.increment();
+        }
+    }
+
+    /**
+     * 排队等待执行的请求数
+     *
+     * @return 排队数
+     */
+    public int getQueueSize() {
+        if (platformExecutor != null) {
+            return platformExecutor.getQueue().size();
+        }
+        return Math.max(0, config.getQueueCapacity() - virtualPermits.availablePermits() - active.get());
+    }
+
+    /**
+     * 被拒绝的请求数
+     *
+     * @return 拒绝数
+     */
+    public long getRejectCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 导出为 dynamic-tp 线程池指标，TPS 按两次导出之间完成的请求数计算
+     *
+     * @return 线程池指标
+     */
+    public synchronized ThreadPoolStats toThreadPoolStats() {
+        long completedCount = completed.sum();
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastSampleNanos) / 1_000_000_000d;
+        double tps = elapsedSeconds > 0 ? (completedCount - lastCompleted) / elapsedSeconds : 0;
+        lastCompleted = completedCount;
+        lastSampleNanos = now;
+
+        int queueSize = getQueueSize();
+        int queueCapacity = Math.max(1, config.getQueueCapacity());
+        ThreadPoolStats stats = new ThreadPoolStats();
+        stats.setPoolName(POOL_NAME);
+        stats.setPoolAliasName(POOL_ALIAS_NAME);
+        stats.setDynamic(false);
+        stats.setRejectHandlerName(platformExecutor != null ? "AbortPolicy" : "InFlightLimitPolicy");
+        stats.setQueueType(platformExecutor != null ? "LinkedBlockingQueue" : "VirtualThreadPerTask");
+        stats.setQueueCapacity(queueCapacity);
+        stats.setQueueSize(queueSize);
+        stats.setQueueRemainingCapacity(Math.max(0, queueCapacity - queueSize));
+        stats.setWaitTaskCount(queueSize);
+        stats.setActiveCount(active.get());
+        stats.setTaskCount(submitted.sum());
+        stats.setCompletedTaskCount(completedCount);
+        stats.setRejectCount(rejected.sum());
+        stats.setKeepAliveTime(TimeUnit.SECONDS.toMillis(config.getKeepAliveSeconds()));
+        if (platformExecutor != null) {
+            stats.setCorePoolSize(platformExecutor.getCorePoolSize());
+            stats.setMaximumPoolSize(platformExecutor.getMaximumPoolSize());
+            stats.setPoolSize(platformExecutor.getPoolSize());
+            stats.setLargestPoolSize(platformExecutor.getLargestPoolSize());
+        } else {
+            stats.setCorePoolSize(0);
+            stats.setMaximumPoolSize(queueCapacity);
+            stats.setPoolSize(active.get());
+            stats.setLargestPoolSize(largestActive.get());
+        }
+        stats.setTps(tps);
+        stats.setAvg(completedCount == 0 ? 0 : totalLatencyNanos.sum() / 1_000_000d / completedCount);
+        stats.setMaxRt(TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+        long min = minLatencyNanos.get();
+        stats.setMinRt(min == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(min));
+        return stats;
+    }
+
+    /**
+     * 关闭执行器
+     */
+    public void shutdown() {
+        ExecutorService executor = platformExecutor != null ? platformExecutor : virtualExecutor;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isShutdown() {
+        ExecutorService executor = platformExecutor != null ? platformExecutor : virtualExecutor;
+        return executor.isShutdown();
+    }
+}
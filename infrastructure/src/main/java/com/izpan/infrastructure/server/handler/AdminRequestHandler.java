@@ -0,0 +1,36 @@
+package com.izpan.infrastructure.server.handler;
+
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+
+/**
+ * 客户端主动上报请求处理器
+ * <p>
+ * 实现类注册为 Spring Bean 后由 {@link com.izpan.infrastructure.config.AdminConfiguration} 自动注册到
+ * {@link com.izpan.infrastructure.server.AdminServer}，每种请求类型只保留一个处理器。
+ * 处理逻辑运行在 {@code AdminServerUserProcessor} 的业务线程池中，应尽快返回。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.handler.AdminRequestHandler
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface AdminRequestHandler {
+
+    /**
+     * 处理的请求类型
+     *
+     * @return 请求类型
+     */
+    AdminRequestTypeEnum requestType();
+
+    /**
+     * 处理客户端上报的请求
+     *
+     * @param clientAddress 客户端地址
+     * @param requestBody   请求体
+     * @return 返回给客户端的响应，可为 {@code null}
+     */
+    Object handle(String clientAddress, AdminRequestBody requestBody);
+}
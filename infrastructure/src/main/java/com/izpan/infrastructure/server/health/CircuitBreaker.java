@@ -0,0 +1,107 @@
+package com.izpan.infrastructure.server.health;
+
+import lombok.Getter;
+
+/**
+ * 单个客户端的熔断器
+ * <p>
+ * CLOSED 状态下连续失败达到阈值后进入 OPEN；OPEN 持续时间到期后进入 HALF_OPEN 并只放行一个试探请求，
+ * 试探成功回到 CLOSED，失败则重新 OPEN 且持续时间翻倍（不超过上限）。
+ * 状态变更频率很低，方法整体加锁即可。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.health.CircuitBreaker
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public final class CircuitBreaker {
+
+    private final int failureThreshold;
+
+    private final long openMillis;
+
+    private final long maxOpenMillis;
+
+    @Getter
+    private volatile CircuitState state = CircuitState.CLOSED;
+
+    private int consecutiveFailures;
+
+    private long currentOpenMillis;
+
+    private long openUntil;
+
+    private long halfOpenAt;
+
+    /**
+     * 最近一次从 CLOSED 进入 OPEN 的时间，期间的半开试探失败不刷新，用于判断是否应当驱逐
+     */
+    @Getter
+    private volatile long openedAt;
+
+    CircuitBreaker(int failureThreshold, long openMillis, long maxOpenMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(1, openMillis);
+        this.maxOpenMillis = Math.max(this.openMillis, maxOpenMillis);
+        this.currentOpenMillis = this.openMillis;
+    }
+
+    /**
+     * 是否放行请求，OPEN 到期时转为 HALF_OPEN 并放行本次请求作为试探
+     *
+     * @param now 当前时间（毫秒时间戳）
+     * @return 放行返回 true
+     */
+    public synchronized boolean allowRequest(long now) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now >= openUntil) {
+                    state = CircuitState.HALF_OPEN;
+                    halfOpenAt = now;
+                    return true;
+                }
+                return false;
+            default:
+                // 试探请求迟迟没有结果（如调用方被中断）时重新放行一次，避免永久停留在半开状态
+                if (now - halfOpenAt >= currentOpenMillis) {
+                    halfOpenAt = now;
+                    return true;
+                }
+                return false;
+        }
+    }
+
+    /**
+     * 记录成功
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        currentOpenMillis = openMillis;
+        openedAt = 0;
+        state = CircuitState.CLOSED;
+    }
+
+    /**
+     * 记录失败或超时
+     *
+     * @param now 当前时间（毫秒时间戳）
+     */
+    public synchronized void onFailure(long now) {
+        consecutiveFailures++;
+        if (state == CircuitState.HALF_OPEN) {
+            currentOpenMillis = Math.min(maxOpenMillis, currentOpenMillis * 2);
+            open(now);
+        } else if (state == CircuitState.CLOSED && consecutiveFailures >= failureThreshold) {
+            openedAt = now;
+            open(now);
+        }
+    }
+
+    private void open(long now) {
+        openUntil = now + currentOpenMillis;
+        state = CircuitState.OPEN;
+    }
+}
@@ -0,0 +1,23 @@
+package com.izpan.infrastructure.server.health;
+
+import com.alipay.remoting.exception.RemotingException;
+
+import java.io.Serial;
+
+/**
+ * 客户端处于熔断状态，请求未发送
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.health.CircuitOpenException
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class CircuitOpenException extends RemotingException {
+
+    @Serial
+    private static final long serialVersionUID = -6032574919276603142L;
+
+    public CircuitOpenException(String clientAddress) {
+        super("Circuit open for client: " + clientAddress);
+    }
+}
@@ -0,0 +1,27 @@
+package com.izpan.infrastructure.server.health;
+
+/**
+ * 客户端熔断状态
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.health.CircuitState
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public enum CircuitState {
+
+    /**
+     * 正常放行
+     */
+    CLOSED,
+
+    /**
+     * 熔断中，请求直接失败
+     */
+    OPEN,
+
+    /**
+     * 熔断到期，只放行一个试探请求
+     */
+    HALF_OPEN
+}
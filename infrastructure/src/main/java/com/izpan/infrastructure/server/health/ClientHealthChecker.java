@@ -0,0 +1,170 @@
+package com.izpan.infrastructure.server.health;
+
+import com.alipay.remoting.Connection;
+import com.izpan.infrastructure.server.AdminServerProperties;
+import com.izpan.infrastructure.server.ClientResponse;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import com.izpan.infrastructure.server.registry.ClientRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 客户端健康检查
+ * <p>
+ * 每个客户端持有一个 {@link CircuitBreaker}，所有请求结果都会反馈给熔断器；
+ * 定时任务对连接通道已失效的客户端直接关闭连接，只对熔断中且到达半开试探时间的客户端发送探测请求；
+ * 熔断关闭的客户端不额外探测，连接存活由 Bolt 心跳与服务端空闲检测保证，请求结果本身即反馈健康状况。
+ * 熔断持续超过驱逐时长的客户端视为死连接并主动关闭，由连接关闭事件完成注册表清理。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.health.ClientHealthChecker
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class ClientHealthChecker {
+
+    private final AdminServerProperties.Health config;
+
+    private final ClientRegistry clientRegistry;
+
+    /**
+     * 探测请求发送方式：客户端地址、超时时间（毫秒）-> 响应
+     */
+    private final BiFunction<String, Long, CompletableFuture<ClientResponse>> prober;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    public ClientHealthChecker(AdminServerProperties.Health config, ClientRegistry clientRegistry,
+                               BiFunction<String, Long, CompletableFuture<ClientResponse>> prober) {
+        this.config = config;
+        this.clientRegistry = clientRegistry;
+        this.prober = prober;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "DynamicTpAdminHealthChecker");
+            t.setDaemon(true);
+            return t;
+        });
+        if (config.isEnabled()) {
+            scheduler.scheduleWithFixedDelay(this::check, config.getProbeIntervalMillis(),
+                    config.getProbeIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 是否允许向客户端发送请求
+     *
+     * @param clientAddress 客户端地址
+     * @return 熔断中返回 false
+     */
+    public boolean allowRequest(String clientAddress) {
+        return !config.isEnabled() || breaker(clientAddress).allowRequest(System.currentTimeMillis());
+    }
+
+    /**
+     * 客户端当前熔断状态
+     *
+     * @param clientAddress 客户端地址
+     * @return 熔断状态
+     */
+    public CircuitState getState(String clientAddress) {
+        CircuitBreaker breaker = breakers.get(clientAddress);
+        return breaker == null ? CircuitState.CLOSED : breaker.getState();
+    }
+
+    /**
+     * 根据请求结果更新熔断器，熔断跳过的请求不计入
+     *
+     * @param response 客户端响应
+     */
+    public void record(ClientResponse response) {
+        if (!config.isEnabled() || response.getError() instanceof CircuitOpenException
+                || !clientRegistry.contains(response.getClientAddress())) {
+            return;
+        }
+        CircuitBreaker breaker = breaker(response.getClientAddress());
+        CircuitState before = breaker.getState();
+        if (response.isSuccess()) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure(System.currentTimeMillis());
+        }
+        if (before != breaker.getState()) {
+            log.warn("DynamicTp client {} circuit {} -> {}", response.getClientAddress(), before, breaker.getState());
+        }
+    }
+
+    /**
+     * 客户端断开时移除熔断器
+     *
+     * @param clientAddress 客户端地址
+     */
+    public void remove(String clientAddress) {
+        breakers.remove(clientAddress);
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private CircuitBreaker breaker(String clientAddress) {
+        return breakers.computeIfAbsent(clientAddress, key -> new CircuitBreaker(config.getFailureThreshold(),
+                config.getOpenMillis(), config.getMaxOpenMillis()));
+    }
+
+    private void check() {
+        long now = System.currentTimeMillis();
+        for (ClientInfo info : clientRegistry.all()) {
+            try {
+                check(info, now);
+            } catch (Exception e) {
+                log.error("Failed to check health of DynamicTp client: {}", info.getAddress(), e);
+            }
+        }
+    }
+
+    private void check(ClientInfo info, long now) {
+        String clientAddress = info.getAddress();
+        Connection connection = info.getConnection();
+        if (connection != null && !connection.isFine()) {
+            evict(info, "connection channel is no longer active");
+            return;
+        }
+        CircuitBreaker breaker = breaker(clientAddress);
+        if (breaker.getState() != CircuitState.CLOSED && breaker.getOpenedAt() > 0
+                && now - breaker.getOpenedAt() >= config.getEvictAfterMillis()) {
+            evict(info, "circuit open for " + (now - breaker.getOpenedAt()) + "ms");
+            return;
+        }
+        // 熔断关闭的客户端由正常请求反馈健康状况，不额外探测；熔断中的客户端到达试探时间后探测一次
+        if (breaker.getState() == CircuitState.CLOSED || !breaker.allowRequest(now)) {
+            return;
+        }
+        prober.apply(clientAddress, config.getProbeTimeoutMillis()).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                record(ClientResponse.failure(clientAddress, throwable, config.getProbeTimeoutMillis()));
+            }
+        });
+    }
+
+    private void evict(ClientInfo info, String reason) {
+        log.warn("Evicting DynamicTp client {}: {}", info.getAddress(), reason);
+        Connection connection = info.getConnection();
+        if (connection != null) {
+            // 关闭连接会触发 CLOSE 事件，由断开处理器清理注册表与编解码会话
+            connection.close();
+        }
+        clientRegistry.remove(info.getAddress());
+        breakers.remove(info.getAddress());
+    }
+}
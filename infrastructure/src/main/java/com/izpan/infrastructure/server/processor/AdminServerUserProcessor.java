@@ -1,52 +1,55 @@
 package com.izpan.infrastructure.server.processor;
 
 import com.alipay.remoting.BizContext;
+import com.alipay.remoting.Connection;
 import com.alipay.remoting.rpc.protocol.SyncUserProcessor;
+import com.izpan.infrastructure.server.AdminServerProperties;
+import com.izpan.infrastructure.server.codec.ByteCountingSerializer;
+import com.izpan.infrastructure.server.codec.SerializerNegotiator;
+import com.izpan.infrastructure.server.executor.ProcessorExecutor;
+import com.izpan.infrastructure.server.handler.AdminRequestHandler;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import com.izpan.infrastructure.server.registry.ClientRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
 import org.dromara.dynamictp.common.entity.AdminRequestBody;
 
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
 import java.util.Set;
-import java.util.HashSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 @Slf4j
 public class AdminServerUserProcessor extends SyncUserProcessor<AdminRequestBody> {
 
-    private final ExecutorService executor;
-
-    // 使用线程安全的Set来管理多个客户端连接
-    private final Set<String> connectedClients = ConcurrentHashMap.newKeySet();
-
-    // 线程池名称计数器
-    private final AtomicInteger threadCounter = new AtomicInteger(1);
-
-    public AdminServerUserProcessor() {
-        // 使用多线程执行器，支持并发处理多个客户端请求
-        this.executor = new ThreadPoolExecutor(
-                2, // 核心线程数
-                10, // 最大线程数
-                60L, // 空闲线程存活时间
-                TimeUnit.SECONDS,
-                new LinkedBlockingQueue<>(100), // 工作队列
-                r -> {
-                    Thread t = new Thread(r, "AdminServerProcessor-" + threadCounter.getAndIncrement());
-                    t.setDaemon(true);
-                    return t;
-                },
-                new ThreadPoolExecutor.CallerRunsPolicy() // 拒绝策略：调用者运行
-        );
+    // 请求处理执行器，饱和时拒绝而非在 IO 线程上执行
+    private final ProcessorExecutor executor;
+
+    // 客户端注册表，按地址索引并维护应用索引
+    @Getter
+    private final ClientRegistry clientRegistry = new ClientRegistry();
+
+    // 按请求类型注册的上报处理器
+    private final Map<AdminRequestTypeEnum, AdminRequestHandler> requestHandlers = new ConcurrentHashMap<>();
+
+    // 按连接协商的序列化方式，根据客户端发起请求时使用的序列化器升级
+    private final SerializerNegotiator serializerNegotiator;
+
+    public AdminServerUserProcessor(AdminServerProperties.Processor processorProperties,
+                                    SerializerNegotiator serializerNegotiator) {
+        this.executor = new ProcessorExecutor(processorProperties);
+        this.serializerNegotiator = serializerNegotiator;
     }
 
     /**
      * 安全地添加客户端连接
      * 
-     * @param bizContext 业务上下文
+     * @param bizContext       业务上下文
+     * @param adminRequestBody 请求体，首次请求时从中提取应用元数据
      * @return 客户端地址
      */
-    private String addClientConnection(BizContext bizContext) {
+    private String addClientConnection(BizContext bizContext, AdminRequestBody adminRequestBody) {
         if (bizContext == null) {
             log.warn("BizContext is null, cannot add client connection");
             return null;
@@ -56,8 +59,19 @@ public class AdminServerUserProcessor extends SyncUserProcessor<AdminRequestBody
             String clientAddress = bizContext.getRemoteAddress();
             if (clientAddress != null && !clientAddress.trim().isEmpty()) {
                 clientAddress = clientAddress.trim();
-                connectedClients.add(clientAddress);
-                log.info("Client connected: {}, total connected clients: {}", clientAddress, connectedClients.size());
+                ClientInfo info = clientRegistry.touch(clientAddress);
+                if (info == null) {
+                    // 连接事件异步派发，首个请求可能先于 CONNECT 事件到达；连接已关闭时不再注册，避免残留条目
+                    Connection connection = bizContext.getConnection();
+                    if (connection == null || !connection.isFine()) {
+                        return clientAddress;
+                    }
+                    info = clientRegistry.register(clientAddress, connection);
+                    info.touch(System.currentTimeMillis());
+                }
+                if (!info.hasMetadata() && info.probeMetadata()) {
+                    clientRegistry.describe(clientAddress, adminRequestBody.deserializeBody());
+                }
                 return clientAddress;
             } else {
                 log.warn("Remote address from BizContext is null or empty");
@@ -70,42 +84,49 @@ public class AdminServerUserProcessor extends SyncUserProcessor<AdminRequestBody
     }
 
     /**
-     * 移除客户端连接
-     * 
+     * 连接建立时注册客户端
+     *
      * @param clientAddress 客户端地址
+     * @param connection    Bolt 连接
      */
-    public void removeClientConnection(String clientAddress) {
-        if (clientAddress != null && connectedClients.remove(clientAddress)) {
-            log.info("Client disconnected: {}, remaining clients: {}", clientAddress, connectedClients.size());
+    public void registerClientConnection(String clientAddress, Connection connection) {
+        if (clientAddress != null) {
+            clientRegistry.register(clientAddress, connection);
+            log.info("Client connected: {}, total connected clients: {}", clientAddress, clientRegistry.size());
         }
     }
 
     /**
-     * 获取所有已连接的客户端
+     * 移除客户端连接
      * 
-     * @return 客户端地址集合
+     * @param clientAddress 客户端地址
      */
-    public Set<String> getConnectedClients() {
-        return new HashSet<>(connectedClients);
+    public void removeClientConnection(String clientAddress) {
+        if (clientAddress != null && clientRegistry.remove(clientAddress) != null) {
+            log.info("Client disconnected: {}, remaining clients: {}", clientAddress, clientRegistry.size());
+        }
     }
 
     /**
-     * 获取第一个可用的客户端地址（用于向后兼容）
+     * 获取所有已连接的客户端
      * 
-     * @return 第一个客户端地址，如果没有则返回默认值
+     * @return 客户端地址集合的只读视图
      */
-    public String getFirstAvailableClient() {
-        return connectedClients.stream().findFirst().orElse("NOT-CONNECT");
+    public Set<String> getConnectedClients() {
+        return clientRegistry.addresses();
     }
 
     @Override
     public Object handleRequest(BizContext bizContext, AdminRequestBody adminRequestBody) throws Exception {
+        // 请求内容在当前线程上反序列化后才进入本方法
+        int serializerCode = ByteCountingSerializer.takeDeserializerCode();
         log.info("DynamicTp admin request received:{} from client: {}",
                 adminRequestBody.getRequestType().getValue(),
                 bizContext != null ? bizContext.getRemoteAddress() : "unknown");
 
         // 添加客户端连接
-        String clientAddress = addClientConnection(bizContext);
+        String clientAddress = addClientConnection(bizContext, adminRequestBody);
+        serializerNegotiator.onRequest(clientAddress, serializerCode);
 
         // 检查超时状态
         if (bizContext != null && bizContext.isRequestTimeout()) {
@@ -113,25 +134,34 @@ public class AdminServerUserProcessor extends SyncUserProcessor<AdminRequestBody
                     bizContext.getClientTimeout(), clientAddress);
         }
 
-        return doHandleRequest(adminRequestBody);
+        return doHandleRequest(clientAddress, adminRequestBody);
     }
 
-    private Object doHandleRequest(AdminRequestBody adminRequestBody) {
+    private Object doHandleRequest(String clientAddress, AdminRequestBody adminRequestBody) {
         switch (adminRequestBody.getRequestType()) {
-            case EXECUTOR_MONITOR:
-                return handleExecutorMonitorRequest(adminRequestBody);
-            case EXECUTOR_REFRESH:
-                return handleExecutorRefreshRequest(adminRequestBody);
-            case ALARM_MANAGE:
-                return handleAlarmManageRequest(adminRequestBody);
-            case LOG_MANAGE:
-                return handleLogManageRequest(adminRequestBody);
+            case EXECUTOR_MONITOR, EXECUTOR_REFRESH, ALARM_MANAGE, LOG_MANAGE:
+                return dispatch(clientAddress, adminRequestBody);
             default:
                 throw new IllegalArgumentException("DynamicTp admin request type "
                         + adminRequestBody.getRequestType().getValue() + " is not supported");
         }
     }
 
+    /**
+     * 注册上报处理器，同一请求类型重复注册时后者覆盖前者
+     *
+     * @param handler 处理器
+     */
+    public void registerRequestHandler(AdminRequestHandler handler) {
+        AdminRequestHandler previous = requestHandlers.put(handler.requestType(), handler);
+        if (previous != null && previous != handler) {
+            log.warn("DynamicTp admin request handler for {} replaced: {} -> {}", handler.requestType(),
+                    previous.getClass().getSimpleName(), handler.getClass().getSimpleName());
+        }
+        log.info("DynamicTp admin request handler registered: {} -> {}", handler.requestType(),
+                handler.getClass().getSimpleName());
+    }
+
     @Override
     public String interest() {
         return AdminRequestBody.class.getName();
@@ -142,20 +172,23 @@ public class AdminServerUserProcessor extends SyncUserProcessor<AdminRequestBody
         return executor;
     }
 
-    private Object handleExecutorMonitorRequest(AdminRequestBody adminRequestBody) {
-        return null;
-    }
-
-    private Object handleExecutorRefreshRequest(AdminRequestBody adminRequestBody) {
-        return null;
-    }
-
-    private Object handleAlarmManageRequest(AdminRequestBody adminRequestBody) {
-        return null;
+    /**
+     * 获取请求处理执行器，用于导出执行器指标
+     *
+     * @return 请求处理执行器
+     */
+    public ProcessorExecutor getProcessorExecutor() {
+        return executor;
     }
 
-    private Object handleLogManageRequest(AdminRequestBody adminRequestBody) {
-        return null;
+    private Object dispatch(String clientAddress, AdminRequestBody adminRequestBody) {
+        AdminRequestHandler handler = requestHandlers.get(adminRequestBody.getRequestType());
+        if (handler == null) {
+            log.debug("No handler registered for DynamicTp admin request: {}",
+                    adminRequestBody.getRequestType().getValue());
+            return null;
+        }
+        return handler.handle(clientAddress, adminRequestBody);
     }
 
     /**
@@ -165,16 +198,8 @@ public class AdminServerUserProcessor extends SyncUserProcessor<AdminRequestBody
     public void shutdown() {
         if (executor != null && !executor.isShutdown()) {
             executor.shutdown();
-            try {
-                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
-                    executor.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                executor.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
         }
-        connectedClients.clear();
+        clientRegistry.clear();
         log.info("AdminServerUserProcessor shutdown completed");
     }
 }
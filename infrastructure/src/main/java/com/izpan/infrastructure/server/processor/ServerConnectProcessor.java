@@ -16,5 +16,6 @@ public class ServerConnectProcessor implements ConnectionEventProcessor {
     @Override
     public void onEvent(String remoteAddress, Connection connection) {
         log.info("DynamicTp admin server connected, remoteAddress: {}", remoteAddress);
+        adminServerUserProcessor.registerClientConnection(remoteAddress, connection);
     }
 }
@@ -0,0 +1,186 @@
+package com.izpan.infrastructure.server.registry;
+
+import com.alipay.remoting.Connection;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 已连接客户端的元数据
+ * <p>
+ * 读取均为无锁的 volatile 读；写入来自 Bolt IO / 回调线程，RTT 平滑值的更新以实例为粒度串行化。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.registry.ClientInfo
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+public final class ClientInfo {
+
+    /**
+     * RTT 指数加权平均的平滑系数
+     */
+    private static final double RTT_ALPHA = 0.2d;
+
+    /**
+     * 客户端地址（ip:port）
+     */
+    private final String address;
+
+    /**
+     * 连接建立时间
+     */
+    private final long connectTime;
+
+    /**
+     * Bolt 连接，连接事件之前先收到请求时为 {@code null}
+     */
+    private volatile Connection connection;
+
+    /**
+     * 应用名称，客户端未上报时为 {@code null}
+     */
+    private volatile String appName;
+
+    /**
+     * 实例标识，客户端未上报时与地址相同
+     */
+    private volatile String instanceId;
+
+    /**
+     * 最近一次收到请求或响应的时间
+     */
+    private volatile long lastSeen;
+
+    /**
+     * 请求往返耗时的指数加权平均（毫秒），尚无样本时为 -1
+     */
+    private volatile double rttEwmaMillis = -1;
+
+    /**
+     * 最近一次采集到的线程池数量
+     */
+    private volatile int poolCount;
+
+    /**
+     * 最近一次请求超时的时间，从未超时为 0
+     */
+    private volatile long lastTimeoutAt;
+
+    /**
+     * 连续超时次数，成功响应后清零
+     */
+    private volatile int consecutiveTimeouts;
+
+    /**
+     * 尚未取得元数据时最多尝试提取的请求数
+     * <p>
+     * 客户端先发送的通常是监控上报等不含元数据的请求，只探测首个请求会错过随后携带 {@code appName} 的请求；
+     * 超过该次数仍未取得时停止，避免对每个请求重复反序列化。
+     * </p>
+     */
+    static final int MAX_METADATA_PROBES = 16;
+
+    /**
+     * 剩余可尝试提取元数据的请求数
+     */
+    private final AtomicInteger metadataProbes = new AtomicInteger(MAX_METADATA_PROBES);
+
+    ClientInfo(String address, Connection connection, long now) {
+        this.address = address;
+        this.connection = connection;
+        this.instanceId = address;
+        this.connectTime = now;
+        this.lastSeen = now;
+    }
+
+    /**
+     * 客户端 IP
+     *
+     * @return IP
+     */
+    public String getIp() {
+        int index = address.lastIndexOf(':');
+        return index < 0 ? address : address.substring(0, index);
+    }
+
+    /**
+     * 客户端端口
+     *
+     * @return 端口，无法解析时为 0
+     */
+    public int getPort() {
+        int index = address.lastIndexOf(':');
+        if (index < 0) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(address.substring(index + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 是否已上报应用元数据
+     *
+     * @return 已上报返回 true
+     */
+    public boolean hasMetadata() {
+        return appName != null;
+    }
+
+    /**
+     * 最近一段时间内是否发生过超时
+     *
+     * @param now          当前时间
+     * @param windowMillis 观察窗口（毫秒）
+     * @return 窗口内存在未被成功响应抵消的超时返回 true
+     */
+    public boolean isTimedOutRecently(long now, long windowMillis) {
+        return consecutiveTimeouts > 0 && now - lastTimeoutAt < windowMillis;
+    }
+
+    /**
+     * 占用一次元数据提取机会，在尚未取得元数据时调用；取得 {@code appName} 后 {@link #hasMetadata()} 为 true，不再探测
+     *
+     * @return 仍有剩余次数返回 true
+     */
+    public boolean probeMetadata() {
+        return metadataProbes.getAndUpdate(left -> left > 0 ? left - 1 : 0) > 0;
+    }
+
+    void attach(Connection connection) {
+        if (connection != null) {
+            this.connection = connection;
+        }
+    }
+
+    void touch(long now) {
+        this.lastSeen = now;
+    }
+
+    void describe(String appName, String instanceId) {
+        this.appName = appName;
+        if (instanceId != null) {
+            this.instanceId = instanceId;
+        }
+    }
+
+    synchronized void recordRtt(long rttMillis) {
+        double current = rttEwmaMillis;
+        rttEwmaMillis = current < 0 ? rttMillis : current + RTT_ALPHA * (rttMillis - current);
+        consecutiveTimeouts = 0;
+    }
+
+    synchronized void recordTimeout(long now) {
+        lastTimeoutAt = now;
+        consecutiveTimeouts++;
+    }
+
+    void setPoolCount(int poolCount) {
+        this.poolCount = poolCount;
+    }
+}
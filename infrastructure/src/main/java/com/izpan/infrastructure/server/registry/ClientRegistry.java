@@ -0,0 +1,236 @@
+package com.izpan.infrastructure.server.registry;
+
+import com.alipay.remoting.Connection;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 客户端注册表
+ * <p>
+ * 以地址为键保存 {@link ClientInfo}，并维护应用名称到地址的二级索引。
+ * 对外暴露的地址集合与客户端集合均为只读视图，调用方无需复制即可遍历或判断包含关系。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.registry.ClientRegistry
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class ClientRegistry {
+
+    /**
+     * 客户端元数据上报约定中的应用名称键
+     */
+    public static final String APP_NAME_KEY = "appName";
+
+    /**
+     * 客户端元数据上报约定中的实例标识键
+     */
+    public static final String INSTANCE_ID_KEY = "instanceId";
+
+    private final Map<String, ClientInfo> clients = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> appIndex = new ConcurrentHashMap<>();
+
+    private final Set<String> addressView = Collections.unmodifiableSet(clients.keySet());
+
+    private final Collection<ClientInfo> clientView = Collections.unmodifiableCollection(clients.values());
+
+    /**
+     * 连接建立时注册客户端，已存在时仅更新连接
+     *
+     * @param address    客户端地址
+     * @param connection Bolt 连接
+     * @return 客户端信息
+     */
+    public ClientInfo register(String address, Connection connection) {
+        ClientInfo info = clients.computeIfAbsent(address, key -> {
+            log.info("Client registered: {}", key);
+            return new ClientInfo(key, connection, System.currentTimeMillis());
+        });
+        info.attach(connection);
+        return info;
+    }
+
+    /**
+     * 收到客户端请求时刷新最近活跃时间，只更新已注册的客户端
+     * <p>
+     * 不在此处补注册：连接关闭事件之后才处理完的请求会留下没有连接、也不会再被移除的条目
+     * </p>
+     *
+     * @param address 客户端地址
+     * @return 客户端信息，未注册时为 {@code null}
+     */
+    public ClientInfo touch(String address) {
+        ClientInfo info = clients.get(address);
+        if (info != null) {
+            info.touch(System.currentTimeMillis());
+        }
+        return info;
+    }
+
+    /**
+     * 记录应用元数据并更新应用索引
+     *
+     * @param address    客户端地址
+     * @param appName    应用名称
+     * @param instanceId 实例标识，可为 {@code null}
+     */
+    public void describe(String address, String appName, String instanceId) {
+        ClientInfo info = clients.get(address);
+        if (info == null || appName == null || appName.isBlank()) {
+            return;
+        }
+        String previous = info.getAppName();
+        info.describe(appName, instanceId);
+        if (!appName.equals(previous)) {
+            unindex(previous, address);
+            appIndex.compute(appName, (key, addresses) -> {
+                Set<String> target = addresses == null ? ConcurrentHashMap.newKeySet() : addresses;
+                target.add(address);
+                return target;
+            });
+            log.info("Client {} identified as application: {}, instance: {}", address, appName, info.getInstanceId());
+        }
+    }
+
+    /**
+     * 从客户端上报的请求体中提取元数据，约定为包含 {@value #APP_NAME_KEY} 的 Map
+     *
+     * @param address 客户端地址
+     * @param body    请求体
+     */
+    public void describe(String address, Object body) {
+        if (body instanceof Map<?, ?> map && map.get(APP_NAME_KEY) instanceof String appName) {
+            Object instanceId = map.get(INSTANCE_ID_KEY);
+            describe(address, appName, instanceId == null ? null : instanceId.toString());
+        }
+    }
+
+    /**
+     * 记录一次成功请求的往返耗时
+     *
+     * @param address   客户端地址
+     * @param rttMillis 往返耗时（毫秒）
+     */
+    public void recordRtt(String address, long rttMillis) {
+        ClientInfo info = clients.get(address);
+        if (info != null) {
+            info.touch(System.currentTimeMillis());
+            info.recordRtt(rttMillis);
+        }
+    }
+
+    /**
+     * 记录一次请求超时
+     *
+     * @param address 客户端地址
+     */
+    public void recordTimeout(String address) {
+        ClientInfo info = clients.get(address);
+        if (info != null) {
+            info.recordTimeout(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 记录最近一次采集到的线程池数量
+     *
+     * @param address   客户端地址
+     * @param poolCount 线程池数量
+     */
+    public void updatePoolCount(String address, int poolCount) {
+        ClientInfo info = clients.get(address);
+        if (info != null) {
+            info.setPoolCount(poolCount);
+        }
+    }
+
+    /**
+     * 连接断开时移除客户端
+     *
+     * @param address 客户端地址
+     * @return 被移除的客户端信息，不存在时为 {@code null}
+     */
+    public ClientInfo remove(String address) {
+        ClientInfo info = clients.remove(address);
+        if (info != null) {
+            unindex(info.getAppName(), address);
+        }
+        return info;
+    }
+
+    public ClientInfo get(String address) {
+        return clients.get(address);
+    }
+
+    public boolean contains(String address) {
+        return clients.containsKey(address);
+    }
+
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * 所有客户端地址的只读视图
+     *
+     * @return 地址集合
+     */
+    public Set<String> addresses() {
+        return addressView;
+    }
+
+    /**
+     * 所有客户端的只读视图
+     *
+     * @return 客户端集合
+     */
+    public Collection<ClientInfo> all() {
+        return clientView;
+    }
+
+    /**
+     * 指定应用下的客户端地址
+     *
+     * @param appName 应用名称
+     * @return 地址集合的只读视图，不存在时为空集合
+     */
+    public Set<String> addressesOf(String appName) {
+        Set<String> addresses = appIndex.get(appName);
+        return addresses == null ? Set.of() : Collections.unmodifiableSet(addresses);
+    }
+
+    /**
+     * 已上报的应用名称
+     *
+     * @return 应用名称集合的只读视图
+     */
+    public Set<String> appNames() {
+        return Collections.unmodifiableSet(appIndex.keySet());
+    }
+
+    /**
+     * 清空注册表
+     */
+    public void clear() {
+        clients.clear();
+        appIndex.clear();
+    }
+
+    private void unindex(String appName, String address) {
+        if (appName == null) {
+            return;
+        }
+        appIndex.computeIfPresent(appName, (key, addresses) -> {
+            addresses.remove(address);
+            return addresses.isEmpty() ? null : addresses;
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.izpan.infrastructure.server.routing;
+
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import com.izpan.infrastructure.server.registry.ClientRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 客户端路由
+ * <p>
+ * 按应用名称或实例标识选取单个目标客户端，熔断未关闭的实例不参与选择，并跳过最近发生超时的实例；
+ * 未熔断的候选实例最近全部超时时退化为在这些实例中选择，保证请求仍有去处。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.routing.ClientRouter
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class ClientRouter {
+
+    /**
+     * 超时后被摘除的观察窗口（毫秒）
+     */
+    private static final long TIMEOUT_WINDOW_MILLIS = 30000;
+
+    private final ClientRegistry clientRegistry;
+
+    /**
+     * 客户端地址 -> 熔断是否关闭
+     */
+    private final Predicate<String> circuitClosed;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ClientRouter(ClientRegistry clientRegistry, Predicate<String> circuitClosed) {
+        this.clientRegistry = clientRegistry;
+        this.circuitClosed = circuitClosed;
+    }
+
+    /**
+     * 在全部客户端中选择目标
+     *
+     * @param strategy 选择策略
+     * @return 客户端地址，无可用客户端时为 {@code null}
+     */
+    public String route(RoutingStrategy strategy) {
+        return select(clientRegistry.all(), strategy);
+    }
+
+    /**
+     * 在指定应用的实例中选择目标
+     *
+     * @param appName  应用名称
+     * @param strategy 选择策略
+     * @return 客户端地址，无可用实例时为 {@code null}
+     */
+    public String routeToApp(String appName, RoutingStrategy strategy) {
+        return routeToApp(appName, strategy, null);
+    }
+
+    /**
+     * 在指定应用除某个实例外的其他实例中选择目标，用于对冲请求
+     *
+     * @param appName  应用名称
+     * @param strategy 选择策略
+     * @param excluded 排除的客户端地址，可为 {@code null}
+     * @return 客户端地址，无其他可用实例时为 {@code null}
+     */
+    public String routeToApp(String appName, RoutingStrategy strategy, String excluded) {
+        Collection<String> addresses = clientRegistry.addressesOf(appName);
+        List<ClientInfo> candidates = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            ClientInfo info = address.equals(excluded) ? null : clientRegistry.get(address);
+            if (info != null) {
+                candidates.add(info);
+            }
+        }
+        return select(candidates, strategy);
+    }
+
+    /**
+     * 按实例标识定位客户端，实例标识未上报时可直接传入客户端地址
+     *
+     * @param instanceId 实例标识
+     * @return 客户端地址，不存在时为 {@code null}
+     */
+    public String routeToInstance(String instanceId) {
+        if (clientRegistry.contains(instanceId)) {
+            return instanceId;
+        }
+        for (ClientInfo info : clientRegistry.all()) {
+            if (instanceId.equals(info.getInstanceId())) {
+                return info.getAddress();
+            }
+        }
+        return null;
+    }
+
+    private String select(Collection<ClientInfo> candidates, RoutingStrategy strategy) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        List<ClientInfo> closed = new ArrayList<>(candidates.size());
+        List<ClientInfo> healthy = new ArrayList<>(candidates.size());
+        for (ClientInfo info : candidates) {
+            if (!circuitClosed.test(info.getAddress())) {
+                continue;
+            }
+            closed.add(info);
+            if (!info.isTimedOutRecently(now, TIMEOUT_WINDOW_MILLIS)) {
+                healthy.add(info);
+            }
+        }
+        List<ClientInfo> pool = healthy.isEmpty() ? closed : healthy;
+        if (pool.isEmpty()) {
+            return null;
+        }
+        return switch (strategy) {
+            case ROUND_ROBIN -> pool.get(Math.floorMod(cursor.getAndIncrement(), pool.size())).getAddress();
+            case LEAST_LATENCY -> leastLatency(pool).getAddress();
+        };
+    }
+
+    private static ClientInfo leastLatency(List<ClientInfo> pool) {
+        ClientInfo best = pool.get(0);
+        for (int i = 1; i < pool.size(); i++) {
+            ClientInfo info = pool.get(i);
+            if (info.getRttEwmaMillis() < best.getRttEwmaMillis()) {
+                best = info;
+            }
+        }
+        return best;
+    }
+}
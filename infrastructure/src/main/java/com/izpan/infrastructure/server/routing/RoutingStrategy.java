@@ -0,0 +1,22 @@
+package com.izpan.infrastructure.server.routing;
+
+/**
+ * 单目标请求的客户端选择策略
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.routing.RoutingStrategy
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public enum RoutingStrategy {
+
+    /**
+     * 在健康实例间轮询
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 选择 RTT 平滑值最低的健康实例，尚无 RTT 样本的实例优先
+     */
+    LEAST_LATENCY
+}
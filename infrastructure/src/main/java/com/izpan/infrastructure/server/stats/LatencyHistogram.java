@@ -0,0 +1,128 @@
+package com.izpan.infrastructure.server.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁延迟直方图
+ * <p>
+ * 与 HdrHistogram 相同的对数-线性分桶：每个 2 的幂区间再等分为 8 个子桶，相对误差不超过 12.5%，
+ * 以微秒记录，覆盖 0 ~ 约 71 分钟，共 {@value #BUCKET_COUNT} 个桶。
+ * 记录只做一次桶下标计算与原子自增，不加锁、不分配对象；分位数在读取时遍历桶计数得出。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.stats.LatencyHistogram
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int MAX_EXPONENT = 31;
+
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一次延迟
+     *
+     * @param micros 延迟（微秒）
+     */
+    public void record(long micros) {
+        long value = Math.clamp(micros, 0, MAX_VALUE);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // 并发更新最大值时重试
+        }
+    }
+
+    /**
+     * 记录次数
+     *
+     * @return 次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 最大延迟
+     *
+     * @return 最大延迟（微秒）
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 平均延迟
+     *
+     * @return 平均延迟（微秒），没有记录时为 0
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * 计算分位数，取所在桶的上界，不超过记录到的最大值
+     *
+     * @param quantile 分位（0-1）
+     * @return 分位延迟（微秒），没有记录时为 0
+     */
+    public long quantile(double quantile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.clamp(quantile, 0, 1) * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int index(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    static long upperBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lower = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
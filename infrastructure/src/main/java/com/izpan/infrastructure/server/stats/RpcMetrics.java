@@ -0,0 +1,203 @@
+package com.izpan.infrastructure.server.stats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 管理端到客户端的 RPC 统计
+ * <p>
+ * 按客户端、请求类型记录延迟直方图、超时 / 失败次数与报文字节数。客户端首次出现时一次性创建其全部请求类型的统计，
+ * 之后的记录只有一次 Map 查找与若干原子累加，不加锁、不分配对象。
+ * 作为 {@link MeterBinder} 注册到 Micrometer，客户端断开时同时移除对应指标。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.stats.RpcMetrics
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public class RpcMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "dynamic.tp.admin.rpc";
+
+    private static final AdminRequestTypeEnum[] REQUEST_TYPES = AdminRequestTypeEnum.values();
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private static final double MICROS_PER_MILLI = 1000d;
+
+    private final boolean micrometerEnabled;
+
+    private final Map<String, ClientStats> clients = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry meterRegistry;
+
+    public RpcMetrics(boolean micrometerEnabled) {
+        this.micrometerEnabled = micrometerEnabled;
+    }
+
+    /**
+     * 记录一次 RPC
+     *
+     * @param clientAddress 客户端地址
+     * @param requestType   请求类型
+     * @param outcome       结果
+     * @param latencyNanos  耗时（纳秒）
+     * @param responseBytes 响应字节数，未知时为 0
+     */
+    public void record(String clientAddress, AdminRequestTypeEnum requestType, RpcStats.RpcOutcome outcome,
+                       long latencyNanos, long responseBytes) {
+        RpcStats stats = stats(clientAddress, requestType);
+        if (stats != null) {
+            stats.record(outcome, latencyNanos / 1000, responseBytes);
+        }
+    }
+
+    /**
+     * 记录已发出请求的字节数；请求发出后即记录，不等待响应
+     *
+     * @param clientAddress 客户端地址
+     * @param requestType   请求类型
+     * @param requestBytes  请求字节数，未知时为 0
+     */
+    public void recordRequestBytes(String clientAddress, AdminRequestTypeEnum requestType, long requestBytes) {
+        RpcStats stats = requestBytes > 0 ? stats(clientAddress, requestType) : null;
+        if (stats != null) {
+            stats.getRequestBytes().add(requestBytes);
+        }
+    }
+
+    private RpcStats stats(String clientAddress, AdminRequestTypeEnum requestType) {
+        if (clientAddress == null || requestType == null) {
+            return null;
+        }
+        ClientStats stats = clients.get(clientAddress);
+        if (stats == null) {
+            stats = clients.computeIfAbsent(clientAddress, this::createClientStats);
+        }
+        return stats.types[requestType.ordinal()];
+    }
+
+    /**
+     * 客户端断开时移除统计与指标
+     *
+     * @param clientAddress 客户端地址
+     */
+    public void remove(String clientAddress) {
+        ClientStats stats = clients.remove(clientAddress);
+        MeterRegistry registry = meterRegistry;
+        if (stats != null && registry != null) {
+            stats.meters.forEach(registry::remove);
+        }
+    }
+
+    /**
+     * 统计快照
+     *
+     * @param clientAddress 客户端地址，为空时返回全部客户端
+     * @return 有过请求的客户端与请求类型的统计
+     */
+    public List<RpcStatsSnapshot> snapshot(String clientAddress) {
+        List<RpcStatsSnapshot> snapshots = new ArrayList<>();
+        clients.forEach((address, stats) -> {
+            if (clientAddress != null && !clientAddress.equals(address)) {
+                return;
+            }
+            for (AdminRequestTypeEnum requestType : REQUEST_TYPES) {
+                RpcStats rpcStats = stats.types[requestType.ordinal()];
+                long requests = rpcStats.getRequests().sum();
+                if (requests == 0) {
+                    continue;
+                }
+                LatencyHistogram latency = rpcStats.getLatency();
+                snapshots.add(new RpcStatsSnapshot(address, requestType.name(), requests,
+                        rpcStats.getErrors().sum(), rpcStats.getTimeouts().sum(), rpcStats.getRequestBytes().sum(),
+                        rpcStats.getResponseBytes().sum(), latency.getMean() / MICROS_PER_MILLI,
+                        latency.quantile(0.5) / MICROS_PER_MILLI, latency.quantile(0.9) / MICROS_PER_MILLI,
+                        latency.quantile(0.99) / MICROS_PER_MILLI, latency.getMax() / MICROS_PER_MILLI));
+            }
+        });
+        return snapshots;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (!micrometerEnabled) {
+            return;
+        }
+        this.meterRegistry = registry;
+        clients.values().forEach(stats -> register(registry, stats));
+    }
+
+    private ClientStats createClientStats(String clientAddress) {
+        ClientStats stats = new ClientStats(clientAddress);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            register(registry, stats);
+        }
+        return stats;
+    }
+
+    private static void register(MeterRegistry registry, ClientStats stats) {
+        if (!stats.meters.isEmpty()) {
+            return;
+        }
+        for (AdminRequestTypeEnum requestType : REQUEST_TYPES) {
+            RpcStats rpcStats = stats.types[requestType.ordinal()];
+            Tags tags = Tags.of("client", stats.clientAddress, "type", requestType.name());
+            stats.meters.add(counter(registry, "requests", tags, rpcStats, s -> s.getRequests().sum()));
+            stats.meters.add(counter(registry, "errors", tags, rpcStats, s -> s.getErrors().sum()));
+            stats.meters.add(counter(registry, "timeouts", tags, rpcStats, s -> s.getTimeouts().sum()));
+            stats.meters.add(FunctionCounter.builder(METRIC_PREFIX + ".request.bytes", rpcStats,
+                    s -> s.getRequestBytes().sum()).tags(tags).baseUnit("bytes").register(registry));
+            stats.meters.add(FunctionCounter.builder(METRIC_PREFIX + ".response.bytes", rpcStats,
+                    s -> s.getResponseBytes().sum()).tags(tags).baseUnit("bytes").register(registry));
+            for (double quantile : QUANTILES) {
+                stats.meters.add(Gauge.builder(METRIC_PREFIX + ".latency", rpcStats,
+                                s -> s.getLatency().quantile(quantile) / MICROS_PER_MILLI)
+                        .tags(tags.and("quantile", String.valueOf(quantile))).baseUnit("milliseconds")
+                        .register(registry));
+            }
+            stats.meters.add(Gauge.builder(METRIC_PREFIX + ".latency.max", rpcStats,
+                    s -> s.getLatency().getMax() / MICROS_PER_MILLI).tags(tags).baseUnit("milliseconds")
+                    .register(registry));
+        }
+    }
+
+    private static Meter counter(MeterRegistry registry, String name, Tags tags, RpcStats stats,
+                                 ToDoubleFunction<RpcStats> value) {
+        return FunctionCounter.builder(METRIC_PREFIX + "." + name, stats, value).tags(tags).register(registry);
+    }
+
+    /**
+     * 单个客户端的统计，按请求类型下标存放
+     */
+    private static final class ClientStats {
+
+        private final String clientAddress;
+
+        private final RpcStats[] types = new RpcStats[REQUEST_TYPES.length];
+
+        private final List<Meter> meters = new CopyOnWriteArrayList<>();
+
+        private ClientStats(String clientAddress) {
+            this.clientAddress = clientAddress;
+            for (int i = 0; i < types.length; i++) {
+                types[i] = new RpcStats();
+            }
+        }
+    }
+}
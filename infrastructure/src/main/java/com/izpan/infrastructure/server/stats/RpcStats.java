@@ -0,0 +1,56 @@
+package com.izpan.infrastructure.server.stats;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个客户端、单个请求类型的 RPC 统计
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.stats.RpcStats
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+public final class RpcStats {
+
+    /**
+     * 成功请求的延迟分布（微秒）
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private final LongAdder requestBytes = new LongAdder();
+
+    private final LongAdder responseBytes = new LongAdder();
+
+    void record(RpcOutcome outcome, long latencyMicros, long responseBytes) {
+        requests.increment();
+        switch (outcome) {
+            case SUCCESS -> latency.record(latencyMicros);
+            case TIMEOUT -> timeouts.increment();
+            default -> errors.increment();
+        }
+        if (responseBytes > 0) {
+            this.responseBytes.add(responseBytes);
+        }
+    }
+
+    /**
+     * 单次 RPC 的结果
+     */
+    public enum RpcOutcome {
+
+        SUCCESS,
+
+        TIMEOUT,
+
+        ERROR
+    }
+}
@@ -0,0 +1,26 @@
+package com.izpan.infrastructure.server.stats;
+
+/**
+ * RPC 统计快照，延迟单位为毫秒
+ *
+ * @param clientId      客户端地址
+ * @param requestType   请求类型
+ * @param requests      请求数
+ * @param errors        失败数
+ * @param timeouts      超时数
+ * @param requestBytes  请求字节数
+ * @param responseBytes 响应字节数
+ * @param mean          平均延迟
+ * @param p50           50 分位延迟
+ * @param p90           90 分位延迟
+ * @param p99           99 分位延迟
+ * @param max           最大延迟
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.infrastructure.server.stats.RpcStatsSnapshot
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public record RpcStatsSnapshot(String clientId, String requestType, long requests, long errors, long timeouts,
+                               long requestBytes, long responseBytes, double mean, double p50, double p90,
+                               double p99, double max) {
+}
@@ -0,0 +1,305 @@
+package com.izpan.modules.monitor.alarm;
+
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+import com.izpan.modules.monitor.metrics.ThreadPoolAggregator;
+import com.izpan.modules.monitor.metrics.ThreadPoolMonitorProperties;
+import com.izpan.modules.monitor.metrics.ThreadPoolSnapshot;
+import com.izpan.modules.monitor.metrics.ThreadPoolSnapshotListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池告警规则引擎
+ * <p>
+ * 作为快照监听器在 ingest 线程中增量求值：规则在配置变化时编译为基本类型数组，
+ * 每个（客户端, 线程池）持有一组按规则下标排列的计数数组，即每个（线程池, 规则）O(1) 状态；
+ * 求值过程只读写这些数组与一个复用的指标缓冲区，除触发告警外不分配对象。
+ * </p>
+ * <p>
+ * 告警在连续满足条件达到采样次数时触发，持续期间按规则的静默时长去重，条件恢复时记录一次恢复事件；
+ * 事件交给 {@link AlarmEventSink} 异步批量落库。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.alarm.AlarmEngine
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmEngine implements ThreadPoolSnapshotListener {
+
+  public static final String STATUS_FIRING = "FIRING";
+
+  public static final String STATUS_RESOLVED = "RESOLVED";
+
+  public static final String SOURCE_RULE = "RULE";
+
+  private static final int METRIC_COUNT = AlarmMetric.values().length;
+
+  private final ThreadPoolMonitorProperties properties;
+
+  private final ThreadPoolAggregator aggregator;
+
+  private final AlarmEventSink eventSink;
+
+  /**
+   * 客户端 -> 线程池 -> 规则状态，仅在 ingest 线程读写
+   */
+  private final Map<String, Map<String, PoolState>> states = new HashMap<>();
+
+  /**
+   * 手动静默，键为 {@code clientId \n poolName \n ruleName}，值为静默截止时间（毫秒时间戳）
+   */
+  private final Map<String, Long> silences = new ConcurrentHashMap<>();
+
+  /**
+   * 复用的指标缓冲区，按 {@link AlarmMetric} 序号存放当前线程池的指标值
+   */
+  private final double[] metricValues = new double[METRIC_COUNT];
+
+  private volatile CompiledRules compiled = CompiledRules.EMPTY;
+
+  @Override
+  public void onSnapshot(ThreadPoolSnapshot snapshot) {
+    if (!properties.getAlarm().isEnabled()) {
+      return;
+    }
+    CompiledRules rules = compile();
+    if (rules.size == 0) {
+      return;
+    }
+    Map<String, PoolState> clientStates = states.get(snapshot.getClientAddress());
+    if (clientStates == null) {
+      clientStates = new HashMap<>();
+      states.put(snapshot.getClientAddress(), clientStates);
+    }
+    long now = snapshot.getCollectTime();
+    for (ThreadPoolStats pool : snapshot.getPools()) {
+      PoolState state = clientStates.get(pool.getPoolName());
+      if (state == null) {
+        state = new PoolState(rules.size);
+        clientStates.put(pool.getPoolName(), state);
+      }
+      evaluate(rules, snapshot.getClientAddress(), pool, state, now);
+    }
+  }
+
+  @Override
+  public void onClientRemoved(String clientAddress) {
+    states.remove(clientAddress);
+  }
+
+  /**
+   * 当前生效的规则
+   *
+   * @return 规则列表
+   */
+  public List<AlarmRule> getRules() {
+    return properties.getAlarm().getRules();
+  }
+
+  /**
+   * 手动静默告警
+   *
+   * @param clientId       客户端ID
+   * @param poolName       线程池名称
+   * @param ruleName       规则名称
+   * @param silenceSeconds 静默时长（秒），小于等于 0 时取消静默
+   */
+  public void silence(String clientId, String poolName, String ruleName, long silenceSeconds) {
+    String key = silenceKey(clientId, poolName, ruleName);
+    if (silenceSeconds <= 0) {
+      silences.remove(key);
+    } else {
+      silences.put(key, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(silenceSeconds));
+    }
+  }
+
+  private void evaluate(CompiledRules rules, String clientId, ThreadPoolStats pool, PoolState state, long now) {
+    for (int m = 0; m < METRIC_COUNT; m++) {
+      metricValues[m] = (rules.usedMetrics & (1L << m)) == 0 ? 0 : rules.metrics[m].value(pool);
+    }
+    long elapsed = now - state.previousTime;
+    boolean hasPrevious = state.previousTime > 0 && elapsed > 0;
+    for (int r = 0; r < rules.size; r++) {
+      if (rules.poolFilters[r] != null
+          && (pool.getPoolName() == null || !pool.getPoolName().contains(rules.poolFilters[r]))) {
+        continue;
+      }
+      int metric = rules.metricIndex[r];
+      double value;
+      if (rules.rate[r]) {
+        if (!hasPrevious) {
+          continue;
+        }
+        value = (metricValues[metric] - state.previous[metric]) * 1000d / elapsed;
+      } else {
+        value = metricValues[metric];
+      }
+      boolean breached = rules.greaterThan[r] ? value > rules.thresholds[r] : value < rules.thresholds[r];
+      if (breached) {
+        if (state.consecutive[r] < Integer.MAX_VALUE) {
+          state.consecutive[r]++;
+        }
+        if (state.consecutive[r] >= rules.samples[r]
+            && (!state.firing[r] || now - state.notifiedAt[r] >= rules.silenceMillis[r])) {
+          state.firing[r] = true;
+          state.notifiedAt[r] = now;
+          emit(rules, r, clientId, pool, value, STATUS_FIRING, now);
+        }
+      } else {
+        if (state.firing[r]) {
+          state.firing[r] = false;
+          emit(rules, r, clientId, pool, value, STATUS_RESOLVED, now);
+        }
+        state.consecutive[r] = 0;
+      }
+    }
+    System.arraycopy(metricValues, 0, state.previous, 0, METRIC_COUNT);
+    state.previousTime = now;
+  }
+
+  private void emit(CompiledRules rules, int r, String clientId, ThreadPoolStats pool, double value, String status,
+                    long now) {
+    if (STATUS_FIRING.equals(status) && !silences.isEmpty()) {
+      Long until = silences.get(silenceKey(clientId, pool.getPoolName(), rules.names[r]));
+      if (until != null && until > now) {
+        return;
+      }
+    }
+    eventSink.offer(MonThreadPoolAlarm.builder()
+        .clientId(clientId)
+        .appName(aggregator.resolveAppName(clientId))
+        .poolName(pool.getPoolName())
+        .ruleName(rules.names[r])
+        .metric(rules.metrics[rules.metricIndex[r]].name())
+        .level(rules.levels[r])
+        .status(status)
+        .source(SOURCE_RULE)
+        .metricValue(value)
+        .threshold(rules.thresholds[r])
+        .alarmTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()))
+        .build());
+  }
+
+  private static String silenceKey(String clientId, String poolName, String ruleName) {
+    return clientId + '\n' + poolName + '\n' + ruleName;
+  }
+
+  /**
+   * 配置的规则列表变化时重新编译，规则下标随之变化，已有状态全部丢弃
+   */
+  private CompiledRules compile() {
+    List<AlarmRule> source = properties.getAlarm().getRules();
+    CompiledRules current = compiled;
+    if (current.source == source) {
+      return current;
+    }
+    CompiledRules rules = new CompiledRules(source);
+    states.clear();
+    compiled = rules;
+    log.info("Thread pool alarm rules compiled: {}", Arrays.toString(rules.names));
+    return rules;
+  }
+
+  /**
+   * 单个（客户端, 线程池）的规则状态
+   */
+  private static final class PoolState {
+
+    private final int[] consecutive;
+
+    private final boolean[] firing;
+
+    private final long[] notifiedAt;
+
+    private final double[] previous = new double[METRIC_COUNT];
+
+    private long previousTime;
+
+    private PoolState(int ruleCount) {
+      this.consecutive = new int[ruleCount];
+      this.firing = new boolean[ruleCount];
+      this.notifiedAt = new long[ruleCount];
+    }
+  }
+
+  /**
+   * 编译后的规则，按规则下标展开为基本类型数组
+   */
+  private static final class CompiledRules {
+
+    private static final CompiledRules EMPTY = new CompiledRules(List.of());
+
+    private final List<AlarmRule> source;
+
+    private final int size;
+
+    private final AlarmMetric[] metrics = AlarmMetric.values();
+
+    private final long usedMetrics;
+
+    private final String[] names;
+
+    private final String[] levels;
+
+    private final String[] poolFilters;
+
+    private final int[] metricIndex;
+
+    private final boolean[] rate;
+
+    private final boolean[] greaterThan;
+
+    private final double[] thresholds;
+
+    private final int[] samples;
+
+    private final long[] silenceMillis;
+
+    private CompiledRules(List<AlarmRule> source) {
+      List<AlarmRule> valid = source == null ? List.of()
+          : source.stream().filter(rule -> rule.getName() != null && rule.getMetric() != null).toList();
+      this.source = source;
+      this.size = valid.size();
+      this.names = new String[size];
+      this.levels = new String[size];
+      this.poolFilters = new String[size];
+      this.metricIndex = new int[size];
+      this.rate = new boolean[size];
+      this.greaterThan = new boolean[size];
+      this.thresholds = new double[size];
+      this.samples = new int[size];
+      this.silenceMillis = new long[size];
+      long used = 0;
+      for (int i = 0; i < size; i++) {
+        AlarmRule rule = valid.get(i);
+        names[i] = rule.getName();
+        levels[i] = rule.getLevel();
+        poolFilters[i] = rule.getPoolName() == null || rule.getPoolName().isBlank() ? null : rule.getPoolName();
+        metricIndex[i] = rule.getMetric().ordinal();
+        rate[i] = rule.getMode() == AlarmRule.Mode.RATE;
+        greaterThan[i] = rule.getOperator() != AlarmRule.Operator.LT;
+        thresholds[i] = rule.getThreshold();
+        samples[i] = Math.max(1, rule.getSamples());
+        silenceMillis[i] = TimeUnit.SECONDS.toMillis(Math.max(0, rule.getSilenceSeconds()));
+        used |= 1L << metricIndex[i];
+      }
+      this.usedMetrics = used;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.izpan.modules.monitor.alarm;
+
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+import com.izpan.modules.monitor.metrics.ThreadPoolMonitorProperties;
+import com.izpan.modules.monitor.service.IMonThreadPoolAlarmService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 告警事件落库缓冲
+ * <p>
+ * 规则引擎与客户端上报只负责入队，独立的写入线程定时批量写入 {@code mon_thread_pool_alarm}，
+ * 数据库变慢不会阻塞快照 ingest 线程，也不会占用 Spring 共享的定时任务线程而推迟快照采集；
+ * 队列满时丢弃新事件，写入失败时丢弃该批次，均计入丢弃数。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.alarm.AlarmEventSink
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+public class AlarmEventSink {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final ObjectProvider<IMonThreadPoolAlarmService> alarmServiceProvider;
+
+  private final BlockingQueue<MonThreadPoolAlarm> pending;
+
+  private final LongAdder dropped = new LongAdder();
+
+  private final ScheduledExecutorService writer;
+
+  public AlarmEventSink(ThreadPoolMonitorProperties properties,
+                        ObjectProvider<IMonThreadPoolAlarmService> alarmServiceProvider) {
+    this.alarmServiceProvider = alarmServiceProvider;
+    this.pending = new ArrayBlockingQueue<>(Math.max(1, properties.getAlarm().getMaxPendingEvents()));
+    this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "AlarmEventSink");
+      t.setDaemon(true);
+      return t;
+    });
+    long flushIntervalMillis = Math.max(100, properties.getAlarm().getFlushIntervalMillis());
+    writer.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 提交告警事件
+   *
+   * @param alarm 告警事件
+   */
+  public void offer(MonThreadPoolAlarm alarm) {
+    log.warn("Thread pool alarm {}: client={}, pool={}, rule={}, value={}", alarm.getStatus(), alarm.getClientId(),
+        alarm.getPoolName(), alarm.getRuleName(), alarm.getMetricValue());
+    if (!pending.offer(alarm)) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * 因队列已满或写入失败被丢弃的事件数
+   *
+   * @return 丢弃数
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * 批量写入待落库的告警事件，只在写入线程（或关闭时）执行
+   */
+  private void flush() {
+    List<MonThreadPoolAlarm> batch = new ArrayList<>(Math.min(BATCH_SIZE, pending.size()));
+    while (pending.drainTo(batch, BATCH_SIZE) > 0) {
+      try {
+        alarmServiceProvider.getObject().saveBatch(batch);
+      } catch (Exception e) {
+        // 与指标归档一致，失败的批次计入丢弃数后继续处理剩余事件，避免数据库不可用时积压
+        dropped.add(batch.size());
+        log.error("Failed to persist {} thread pool alarm events", batch.size(), e);
+      }
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+        writer.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+}
@@ -0,0 +1,113 @@
+package com.izpan.modules.monitor.alarm;
+
+import com.izpan.modules.monitor.metrics.ThreadPoolQueryEngine;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+/**
+ * 告警规则可引用的线程池指标
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.alarm.AlarmMetric
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public enum AlarmMetric {
+
+  /**
+   * 队列使用率（0 ~ 1）
+   */
+  QUEUE_USAGE {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return ThreadPoolQueryEngine.queueUsage(stats);
+    }
+  },
+
+  /**
+   * 活跃线程占比（0 ~ 1）
+   */
+  ACTIVE_USAGE {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return ThreadPoolQueryEngine.poolUsage(stats);
+    }
+  },
+
+  /**
+   * 活跃线程数
+   */
+  ACTIVE_COUNT {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return stats.getActiveCount();
+    }
+  },
+
+  /**
+   * 队列任务数
+   */
+  QUEUE_SIZE {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return stats.getQueueSize();
+    }
+  },
+
+  /**
+   * 拒绝任务数（累计值，配合 RATE 模式即为拒绝速率）
+   */
+  REJECT_COUNT {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return stats.getRejectCount();
+    }
+  },
+
+  /**
+   * 执行超时任务数（累计值）
+   */
+  RUN_TIMEOUT_COUNT {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return stats.getRunTimeoutCount();
+    }
+  },
+
+  /**
+   * 排队超时任务数（累计值）
+   */
+  QUEUE_TIMEOUT_COUNT {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return stats.getQueueTimeoutCount();
+    }
+  },
+
+  /**
+   * tp99（毫秒）
+   */
+  TP99 {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return stats.getTp99();
+    }
+  },
+
+  /**
+   * tps
+   */
+  TPS {
+    @Override
+    public double value(ThreadPoolStats stats) {
+      return stats.getTps();
+    }
+  };
+
+  /**
+   * 取线程池的指标值
+   *
+   * @param stats 线程池数据
+   * @return 指标值
+   */
+  public abstract double value(ThreadPoolStats stats);
+}
@@ -0,0 +1,91 @@
+package com.izpan.modules.monitor.alarm;
+
+import lombok.Data;
+
+/**
+ * 告警规则配置
+ * <p>
+ * THRESHOLD 模式直接比较指标值；RATE 模式比较相邻两次快照之间的每秒变化量，
+ * 如 {@code metric: REJECT_COUNT, mode: RATE, threshold: 5} 表示拒绝速率超过 5 次/秒。
+ * 连续 {@link #samples} 次满足条件才触发，触发后在 {@link #silenceSeconds} 内不再重复通知。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.alarm.AlarmRule
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+public class AlarmRule {
+
+  /**
+   * 规则名称，需唯一
+   */
+  private String name;
+
+  /**
+   * 指标
+   */
+  private AlarmMetric metric;
+
+  /**
+   * 比较模式
+   */
+  private Mode mode = Mode.THRESHOLD;
+
+  /**
+   * 比较方向
+   */
+  private Operator operator = Operator.GT;
+
+  /**
+   * 阈值
+   */
+  private double threshold;
+
+  /**
+   * 连续满足条件的采样次数
+   */
+  private int samples = 1;
+
+  /**
+   * 静默时长（秒），告警持续期间每隔该时长重复通知一次
+   */
+  private long silenceSeconds = 300;
+
+  /**
+   * 告警级别
+   */
+  private String level = "WARNING";
+
+  /**
+   * 仅对名称包含该值的线程池生效，为空时对全部线程池生效
+   */
+  private String poolName;
+
+  public enum Mode {
+
+    /**
+     * 比较指标值
+     */
+    THRESHOLD,
+
+    /**
+     * 比较每秒变化量
+     */
+    RATE
+  }
+
+  public enum Operator {
+
+    /**
+     * 大于阈值
+     */
+    GT,
+
+    /**
+     * 小于阈值
+     */
+    LT
+  }
+}
@@ -0,0 +1,66 @@
+package com.izpan.modules.monitor.alarm;
+
+import com.izpan.infrastructure.server.handler.AdminRequestHandler;
+import com.izpan.infrastructure.util.JacksonUtil;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+import com.izpan.modules.monitor.metrics.ThreadPoolAggregator;
+import lombok.RequiredArgsConstructor;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 客户端主动上报告警处理器，将 {@code ALARM_MANAGE} 内容作为客户端告警事件落库
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.alarm.ClientAlarmReportHandler
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientAlarmReportHandler implements AdminRequestHandler {
+
+  public static final String SOURCE_CLIENT = "CLIENT";
+
+  private final AlarmEventSink eventSink;
+
+  private final ThreadPoolAggregator aggregator;
+
+  @Override
+  public AdminRequestTypeEnum requestType() {
+    return AdminRequestTypeEnum.ALARM_MANAGE;
+  }
+
+  @Override
+  public Object handle(String clientAddress, AdminRequestBody requestBody) {
+    Object body = requestBody.deserializeBody();
+    MonThreadPoolAlarm.MonThreadPoolAlarmBuilder<?, ?> alarm = MonThreadPoolAlarm.builder()
+        .clientId(clientAddress)
+        .appName(aggregator.resolveAppName(clientAddress))
+        .status(AlarmEngine.STATUS_FIRING)
+        .source(SOURCE_CLIENT)
+        .alarmTime(LocalDateTime.now())
+        .content(body instanceof String text ? text : JacksonUtil.toJson(body));
+    if (body instanceof Map<?, ?> map) {
+      alarm.poolName(text(map, "poolName", "threadPoolName"))
+          .ruleName(text(map, "notifyItem", "alarmType", "type"))
+          .level(text(map, "level"));
+    }
+    eventSink.offer(alarm.build());
+    return null;
+  }
+
+  private static String text(Map<?, ?> map, String... keys) {
+    for (String key : keys) {
+      Object value = map.get(key);
+      if (value != null) {
+        return value.toString();
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,38 @@
+package com.izpan.modules.monitor.domain.bo;
+
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+import lombok.Data;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 线程池告警事件 BO 业务处理对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.bo.MonThreadPoolAlarmBO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+public class MonThreadPoolAlarmBO extends MonThreadPoolAlarm {
+
+  @Serial
+  private static final long serialVersionUID = -3318045260941187736L;
+
+  /**
+   * Ids
+   */
+  private List<Long> ids;
+
+  /**
+   * 告警时间起
+   */
+  private LocalDateTime startTime;
+
+  /**
+   * 告警时间止
+   */
+  private LocalDateTime endTime;
+}
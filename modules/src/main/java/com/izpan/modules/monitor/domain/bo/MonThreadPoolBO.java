@@ -1,5 +1,6 @@
 package com.izpan.modules.monitor.domain.bo;
 
+import com.izpan.modules.monitor.metrics.ThreadPoolSortField;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -14,6 +15,12 @@ import lombok.Data;
 @Schema(name = "MonThreadPoolBO", description = "线程池监控 BO 对象")
 public class MonThreadPoolBO {
 
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "应用名称")
+  private String appName;
+
   @Schema(description = "线程池名称")
   private String poolName;
 
@@ -46,4 +53,13 @@ public class MonThreadPoolBO {
 
   @Schema(description = "最大线程池使用率")
   private Double maxPoolUsageRate;
+
+  @Schema(description = "排序字段，为空时按客户端ID、线程池名称排序")
+  private ThreadPoolSortField sortField;
+
+  @Schema(description = "排序方向：asc / desc，默认 desc")
+  private String sortOrder;
+
+  @Schema(description = "分页游标，取上一页返回的 nextCursor")
+  private String cursor;
 }
\ No newline at end of file
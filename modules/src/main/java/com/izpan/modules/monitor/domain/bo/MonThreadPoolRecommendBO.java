@@ -0,0 +1,31 @@
+package com.izpan.modules.monitor.domain.bo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 线程池容量建议 BO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.bo.MonThreadPoolRecommendBO
+ */
+@Data
+@Schema(name = "MonThreadPoolRecommendBO", description = "线程池容量建议 BO 对象")
+public class MonThreadPoolRecommendBO {
+
+  @Schema(description = "客户端ID，为空时为全部客户端")
+  private String clientId;
+
+  @Schema(description = "线程池名称，为空时为全部线程池")
+  private String poolName;
+
+  @Schema(description = "统计窗口（分钟）")
+  private Integer windowMinutes;
+
+  @Schema(description = "是否试运行")
+  private Boolean dryRun;
+
+  @Schema(description = "整体超时时间（毫秒）")
+  private Long timeoutMillis;
+}
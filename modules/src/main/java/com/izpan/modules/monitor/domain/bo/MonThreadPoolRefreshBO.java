@@ -0,0 +1,34 @@
+package com.izpan.modules.monitor.domain.bo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * 线程池刷新目标 BO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.bo.MonThreadPoolRefreshBO
+ */
+@Data
+@Schema(name = "MonThreadPoolRefreshBO", description = "线程池刷新目标 BO 对象")
+public class MonThreadPoolRefreshBO {
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "核心线程数")
+  private Integer corePoolSize;
+
+  @Schema(description = "最大线程数")
+  private Integer maximumPoolSize;
+
+  @Schema(description = "队列容量")
+  private Integer queueCapacity;
+
+  @Schema(description = "空闲线程存活时间")
+  private Long keepAliveTime;
+}
@@ -0,0 +1,29 @@
+package com.izpan.modules.monitor.domain.dto.alarm;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 线程池告警事件 删除 DTO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmDeleteDTO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+@Setter
+@Schema(name = "MonThreadPoolAlarmDeleteDTO", description = "线程池告警事件 删除 DTO 对象")
+public class MonThreadPoolAlarmDeleteDTO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -7025639481377916208L;
+
+  @Schema(description = "IDs")
+  private List<Long> ids;
+}
@@ -0,0 +1,56 @@
+package com.izpan.modules.monitor.domain.dto.alarm;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 线程池告警事件 查询 DTO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSearchDTO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+@Setter
+@Schema(name = "MonThreadPoolAlarmSearchDTO", description = "线程池告警事件 查询 DTO 对象")
+public class MonThreadPoolAlarmSearchDTO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 1607293418660251457L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "应用名称")
+  private String appName;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "规则名称")
+  private String ruleName;
+
+  @Schema(description = "告警级别")
+  private String level;
+
+  @Schema(description = "状态：FIRING / RESOLVED")
+  private String status;
+
+  @Schema(description = "来源：RULE / CLIENT")
+  private String source;
+
+  @Schema(description = "告警时间起")
+  @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+  private LocalDateTime startTime;
+
+  @Schema(description = "告警时间止")
+  @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+  private LocalDateTime endTime;
+}
@@ -0,0 +1,43 @@
+package com.izpan.modules.monitor.domain.dto.alarm;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池告警静默 DTO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSilenceDTO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+@Setter
+@Schema(name = "MonThreadPoolAlarmSilenceDTO", description = "线程池告警静默 DTO 对象")
+public class MonThreadPoolAlarmSilenceDTO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 4482190367315209874L;
+
+  @NotBlank(message = "客户端ID不能为空")
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @NotBlank(message = "线程池名称不能为空")
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @NotBlank(message = "规则名称不能为空")
+  @Schema(description = "规则名称")
+  private String ruleName;
+
+  @NotNull(message = "静默时长不能为空")
+  @Schema(description = "静默时长（秒），小于等于 0 时取消静默")
+  private Long silenceSeconds;
+}
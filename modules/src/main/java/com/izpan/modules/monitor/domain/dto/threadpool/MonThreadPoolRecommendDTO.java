@@ -0,0 +1,42 @@
+package com.izpan.modules.monitor.domain.dto.threadpool;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池容量建议下发 DTO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRecommendDTO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+@Setter
+@Schema(name = "MonThreadPoolRecommendDTO", description = "线程池容量建议下发 DTO 对象")
+public class MonThreadPoolRecommendDTO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 2961478305527716390L;
+
+  @Schema(description = "客户端ID，为空时为全部客户端")
+  private String clientId;
+
+  @Schema(description = "线程池名称，为空时为全部线程池")
+  private String poolName;
+
+  @Positive
+  @Schema(description = "统计窗口（分钟），为空时使用配置值")
+  private Integer windowMinutes;
+
+  @Schema(description = "是否试运行，试运行只计算建议与刷新内容，不下发到客户端，默认 true")
+  private Boolean dryRun = Boolean.TRUE;
+
+  @Schema(description = "整体超时时间（毫秒），为空时按 EXECUTOR_REFRESH 超时预算")
+  private Long timeoutMillis;
+}
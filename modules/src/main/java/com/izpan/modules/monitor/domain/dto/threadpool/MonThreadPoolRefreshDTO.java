@@ -0,0 +1,36 @@
+package com.izpan.modules.monitor.domain.dto.threadpool;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 线程池批量刷新 DTO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRefreshDTO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+@Setter
+@Schema(name = "MonThreadPoolRefreshDTO", description = "线程池批量刷新 DTO 对象")
+public class MonThreadPoolRefreshDTO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 7720418895316294521L;
+
+  @Valid
+  @NotEmpty(message = "刷新目标不能为空")
+  @Schema(description = "刷新目标列表")
+  private List<MonThreadPoolRefreshTargetDTO> targets;
+
+  @Schema(description = "整体超时时间（毫秒），为空时按 EXECUTOR_REFRESH 超时预算")
+  private Long timeoutMillis;
+}
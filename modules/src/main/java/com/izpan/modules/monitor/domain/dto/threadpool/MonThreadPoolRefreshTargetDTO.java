@@ -0,0 +1,52 @@
+package com.izpan.modules.monitor.domain.dto.threadpool;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池刷新目标 DTO 对象，未填写的参数保持不变
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRefreshTargetDTO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+@Setter
+@Schema(name = "MonThreadPoolRefreshTargetDTO", description = "线程池刷新目标 DTO 对象")
+public class MonThreadPoolRefreshTargetDTO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -3160947528804427713L;
+
+  @NotBlank(message = "客户端ID不能为空")
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @NotBlank(message = "线程池名称不能为空")
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @PositiveOrZero
+  @Schema(description = "核心线程数")
+  private Integer corePoolSize;
+
+  @Positive
+  @Schema(description = "最大线程数")
+  private Integer maximumPoolSize;
+
+  @Positive
+  @Schema(description = "队列容量")
+  private Integer queueCapacity;
+
+  @PositiveOrZero
+  @Schema(description = "空闲线程存活时间")
+  private Long keepAliveTime;
+}
@@ -0,0 +1,90 @@
+package com.izpan.modules.monitor.domain.entity;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.izpan.infrastructure.domain.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+
+/**
+ * 线程池告警事件 Entity 实体类
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("mon_thread_pool_alarm")
+public class MonThreadPoolAlarm extends BaseEntity {
+
+  @Serial
+  private static final long serialVersionUID = 5208714397718804361L;
+
+  /**
+   * 客户端ID
+   */
+  private String clientId;
+
+  /**
+   * 应用名称
+   */
+  private String appName;
+
+  /**
+   * 线程池名称
+   */
+  private String poolName;
+
+  /**
+   * 规则名称
+   */
+  private String ruleName;
+
+  /**
+   * 指标
+   */
+  private String metric;
+
+  /**
+   * 告警级别
+   */
+  private String level;
+
+  /**
+   * 状态：FIRING / RESOLVED
+   */
+  private String status;
+
+  /**
+   * 来源：RULE 管理端规则 / CLIENT 客户端上报
+   */
+  private String source;
+
+  /**
+   * 触发时的指标值
+   */
+  private Double metricValue;
+
+  /**
+   * 阈值
+   */
+  private Double threshold;
+
+  /**
+   * 告警内容，客户端上报时为原始内容
+   */
+  private String content;
+
+  /**
+   * 告警时间
+   */
+  private LocalDateTime alarmTime;
+}
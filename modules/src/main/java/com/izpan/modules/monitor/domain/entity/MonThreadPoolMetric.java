@@ -0,0 +1,132 @@
+package com.izpan.modules.monitor.domain.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 线程池指标归档 Entity 实体类
+ * <p>
+ * 只追加、按时间清理的明细表，不继承 {@code BaseEntity}：不需要审计字段，也不能使用逻辑删除，
+ * 否则清理任务会退化为 UPDATE 并保留全部数据。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.entity.MonThreadPoolMetric
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("mon_thread_pool_metric")
+public class MonThreadPoolMetric implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -3817640922187404512L;
+
+  /**
+   * ID
+   */
+  @TableId(type = IdType.ASSIGN_ID)
+  private Long id;
+
+  /**
+   * 客户端ID
+   */
+  private String clientId;
+
+  /**
+   * 应用名称
+   */
+  private String appName;
+
+  /**
+   * 线程池名称
+   */
+  private String poolName;
+
+  /**
+   * 采集时间
+   */
+  private LocalDateTime collectTime;
+
+  /**
+   * 核心线程数
+   */
+  private Integer corePoolSize;
+
+  /**
+   * 最大线程数
+   */
+  private Integer maximumPoolSize;
+
+  /**
+   * 当前线程数
+   */
+  private Integer poolSize;
+
+  /**
+   * 活跃线程数
+   */
+  private Integer activeCount;
+
+  /**
+   * 队列任务数
+   */
+  private Integer queueSize;
+
+  /**
+   * 队列容量
+   */
+  private Integer queueCapacity;
+
+  /**
+   * 任务总数
+   */
+  private Long taskCount;
+
+  /**
+   * 已完成任务数
+   */
+  private Long completedTaskCount;
+
+  /**
+   * 拒绝任务数
+   */
+  private Long rejectCount;
+
+  /**
+   * 执行超时任务数
+   */
+  private Long runTimeoutCount;
+
+  /**
+   * 排队超时任务数
+   */
+  private Long queueTimeoutCount;
+
+  /**
+   * 每秒处理任务数
+   */
+  private Double tps;
+
+  /**
+   * 平均执行耗时（毫秒）
+   */
+  private Double avg;
+
+  /**
+   * tp99 执行耗时（毫秒）
+   */
+  private Double tp99;
+}
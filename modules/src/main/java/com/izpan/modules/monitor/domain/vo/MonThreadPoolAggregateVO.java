@@ -0,0 +1,76 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池汇总 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolAggregateVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolAggregateVO", description = "线程池汇总 VO 对象")
+public class MonThreadPoolAggregateVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -4785311098275402126L;
+
+  @Schema(description = "汇总键：应用名 / 客户端ID / 线程池名称，全局汇总为空")
+  private String key;
+
+  @Schema(description = "线程池数量")
+  private Integer poolCount;
+
+  @Schema(description = "核心线程数之和")
+  private Long corePoolSize;
+
+  @Schema(description = "最大线程数之和")
+  private Long maximumPoolSize;
+
+  @Schema(description = "当前线程数之和")
+  private Long poolSize;
+
+  @Schema(description = "活跃线程数之和")
+  private Long activeCount;
+
+  @Schema(description = "队列任务数之和")
+  private Long queueSize;
+
+  @Schema(description = "队列容量之和")
+  private Long queueCapacity;
+
+  @Schema(description = "任务总数")
+  private Long taskCount;
+
+  @Schema(description = "已完成任务数")
+  private Long completedTaskCount;
+
+  @Schema(description = "拒绝任务数")
+  private Long rejectCount;
+
+  @Schema(description = "执行超时任务数")
+  private Long runTimeoutCount;
+
+  @Schema(description = "排队超时任务数")
+  private Long queueTimeoutCount;
+
+  @Schema(description = "tps 之和")
+  private Double tps;
+
+  @Schema(description = "最大队列使用率（0 ~ 1）")
+  private Double maxQueueUtilization;
+
+  @Schema(description = "按 tps 加权的 tp99（毫秒）")
+  private Double tp99;
+
+  @Schema(description = "拒绝率（0 ~ 1）")
+  private Double rejectRate;
+}
@@ -0,0 +1,66 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import com.izpan.infrastructure.domain.BaseVO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+
+/**
+ * 线程池告警事件 VO 展示类
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolAlarmVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "MonThreadPoolAlarmVO", description = "线程池告警事件 VO 对象")
+public class MonThreadPoolAlarmVO extends BaseVO {
+
+  @Serial
+  private static final long serialVersionUID = -2960357718416832095L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "应用名称")
+  private String appName;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "规则名称")
+  private String ruleName;
+
+  @Schema(description = "指标")
+  private String metric;
+
+  @Schema(description = "告警级别")
+  private String level;
+
+  @Schema(description = "状态：FIRING / RESOLVED")
+  private String status;
+
+  @Schema(description = "来源：RULE / CLIENT")
+  private String source;
+
+  @Schema(description = "触发时的指标值")
+  private Double metricValue;
+
+  @Schema(description = "阈值")
+  private Double threshold;
+
+  @Schema(description = "告警内容")
+  private String content;
+
+  @Schema(description = "告警时间")
+  private LocalDateTime alarmTime;
+}
@@ -0,0 +1,37 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池指标实例分布 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolDistributionVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolDistributionVO", description = "线程池指标实例分布 VO 对象")
+public class MonThreadPoolDistributionVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -2650196263417720861L;
+
+  @Schema(description = "最小值")
+  private Double min;
+
+  @Schema(description = "平均值")
+  private Double avg;
+
+  @Schema(description = "最大值")
+  private Double max;
+
+  @Schema(description = "95 分位")
+  private Double p95;
+}
@@ -0,0 +1,49 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 跨实例线程池分组 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolGroupVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolGroupVO", description = "跨实例线程池分组 VO 对象")
+public class MonThreadPoolGroupVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 4179265033815207741L;
+
+  @Schema(description = "应用名称")
+  private String appName;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "线程池别名")
+  private String poolAliasName;
+
+  @Schema(description = "实例数")
+  private Integer instanceCount;
+
+  @Schema(description = "队列任务数分布")
+  private MonThreadPoolDistributionVO queueSize;
+
+  @Schema(description = "活跃线程数分布")
+  private MonThreadPoolDistributionVO activeCount;
+
+  @Schema(description = "tp99 分布（毫秒）")
+  private MonThreadPoolDistributionVO tp99;
+
+  @Schema(description = "最近一次更新的采集时间（毫秒时间戳）")
+  private Long updateTime;
+}
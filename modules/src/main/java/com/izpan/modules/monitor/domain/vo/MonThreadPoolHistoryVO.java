@@ -0,0 +1,44 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * 线程池历史指标 VO 对象（列式）
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolHistoryVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolHistoryVO", description = "线程池历史指标 VO 对象")
+public class MonThreadPoolHistoryVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -2281590419375214986L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "分辨率：RAW / MINUTE / HOUR")
+  private String resolution;
+
+  @Schema(description = "时间戳（毫秒）")
+  private long[] timestamps;
+
+  @Schema(description = "各指标均值，计数类指标为桶内最后值，key 为指标名")
+  private transient Map<String, float[]> values;
+
+  @Schema(description = "各指标桶内最大值，key 为指标名")
+  private transient Map<String, float[]> peaks;
+}
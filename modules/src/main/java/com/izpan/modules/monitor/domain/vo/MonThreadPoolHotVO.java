@@ -0,0 +1,52 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 热点线程池 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolHotVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolHotVO", description = "热点线程池 VO 对象")
+public class MonThreadPoolHotVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 7391056248811530462L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "线程池别名")
+  private String poolAliasName;
+
+  @Schema(description = "压力分")
+  private Double score;
+
+  @Schema(description = "队列使用率（%）")
+  private Double queueUsageRate;
+
+  @Schema(description = "线程池使用率（%）")
+  private Double poolUsageRate;
+
+  @Schema(description = "拒绝速率（次/秒）")
+  private Double rejectPerSecond;
+
+  @Schema(description = "tp99（毫秒）")
+  private Double tp99;
+
+  @Schema(description = "采集时间（毫秒时间戳）")
+  private Long collectTime;
+}
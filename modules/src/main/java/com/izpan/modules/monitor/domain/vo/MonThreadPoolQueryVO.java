@@ -0,0 +1,35 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 线程池游标查询结果 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolQueryVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolQueryVO", description = "线程池游标查询结果 VO 对象")
+public class MonThreadPoolQueryVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -1579362204738516634L;
+
+  @Schema(description = "当前页数据")
+  private List<MonThreadPoolRowVO> records;
+
+  @Schema(description = "满足条件的总数")
+  private Long total;
+
+  @Schema(description = "下一页游标，没有更多数据时为空")
+  private String nextCursor;
+}
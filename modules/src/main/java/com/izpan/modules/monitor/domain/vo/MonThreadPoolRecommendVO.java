@@ -0,0 +1,92 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 线程池容量建议 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolRecommendVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolRecommendVO", description = "线程池容量建议 VO 对象")
+public class MonThreadPoolRecommendVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -5034128817297716405L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "线程池别名")
+  private String poolAliasName;
+
+  @Schema(description = "窗口内采样数")
+  private Integer samples;
+
+  @Schema(description = "历史数据分辨率")
+  private String resolution;
+
+  @Schema(description = "平均 tps")
+  private Double meanTps;
+
+  @Schema(description = "tps 峰值 p95")
+  private Double p95Tps;
+
+  @Schema(description = "按 tps 加权的平均耗时（毫秒）")
+  private Double meanRtMillis;
+
+  @Schema(description = "活跃线程峰值")
+  private Double peakActive;
+
+  @Schema(description = "估算的平均排队时间（毫秒）")
+  private Double queueWaitMillis;
+
+  @Schema(description = "窗口内拒绝次数")
+  private Long rejectCount;
+
+  @Schema(description = "当前核心线程数")
+  private Integer corePoolSize;
+
+  @Schema(description = "当前最大线程数")
+  private Integer maximumPoolSize;
+
+  @Schema(description = "当前队列容量")
+  private Integer queueCapacity;
+
+  @Schema(description = "建议核心线程数")
+  private Integer recommendedCorePoolSize;
+
+  @Schema(description = "建议最大线程数")
+  private Integer recommendedMaximumPoolSize;
+
+  @Schema(description = "建议队列容量")
+  private Integer recommendedQueueCapacity;
+
+  @Schema(description = "建议值是否与当前配置不同")
+  private Boolean changed;
+
+  @Schema(description = "依据说明")
+  private List<String> reasons;
+
+  @Schema(description = "是否已下发到客户端")
+  private Boolean applied;
+
+  @Schema(description = "下发是否成功，未下发时为空")
+  private Boolean success;
+
+  @Schema(description = "下发结果说明")
+  private String message;
+}
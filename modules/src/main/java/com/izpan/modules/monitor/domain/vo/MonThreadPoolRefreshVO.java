@@ -0,0 +1,40 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池刷新结果 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolRefreshVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolRefreshVO", description = "线程池刷新结果 VO 对象")
+public class MonThreadPoolRefreshVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = -8822157430296173315L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "线程池名称")
+  private String poolName;
+
+  @Schema(description = "是否成功")
+  private Boolean success;
+
+  @Schema(description = "失败原因")
+  private String message;
+
+  @Schema(description = "客户端请求耗时（毫秒）")
+  private Long latencyMillis;
+}
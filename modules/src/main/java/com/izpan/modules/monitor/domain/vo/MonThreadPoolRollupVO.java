@@ -0,0 +1,38 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 线程池多维度汇总 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolRollupVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolRollupVO", description = "线程池多维度汇总 VO 对象")
+public class MonThreadPoolRollupVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 6218830475918350927L;
+
+  @Schema(description = "全局汇总")
+  private MonThreadPoolAggregateVO fleet;
+
+  @Schema(description = "按应用汇总")
+  private List<MonThreadPoolAggregateVO> apps;
+
+  @Schema(description = "按客户端汇总")
+  private List<MonThreadPoolAggregateVO> clients;
+
+  @Schema(description = "按线程池名称汇总")
+  private List<MonThreadPoolAggregateVO> pools;
+}
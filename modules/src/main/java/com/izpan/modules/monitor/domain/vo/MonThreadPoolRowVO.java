@@ -0,0 +1,44 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池查询结果行 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolRowVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolRowVO", description = "线程池查询结果行 VO 对象")
+public class MonThreadPoolRowVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 2804517296354118043L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "应用名称")
+  private String appName;
+
+  @Schema(description = "队列使用率（%）")
+  private Double queueUsageRate;
+
+  @Schema(description = "线程池使用率（%）")
+  private Double poolUsageRate;
+
+  @Schema(description = "热度")
+  private Double hotness;
+
+  @Schema(description = "线程池数据")
+  private ThreadPoolStats pool;
+}
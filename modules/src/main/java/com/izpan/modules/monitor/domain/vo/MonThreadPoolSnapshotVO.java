@@ -0,0 +1,46 @@
+package com.izpan.modules.monitor.domain.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 线程池快照状态 VO 对象
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.domain.vo.MonThreadPoolSnapshotVO
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Builder
+@Schema(name = "MonThreadPoolSnapshotVO", description = "线程池快照状态 VO 对象")
+public class MonThreadPoolSnapshotVO implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 3046207613856902147L;
+
+  @Schema(description = "客户端ID")
+  private String clientId;
+
+  @Schema(description = "线程池数量")
+  private Integer poolCount;
+
+  @Schema(description = "最近一次成功采集时间（毫秒时间戳）")
+  private Long collectTime;
+
+  @Schema(description = "快照年龄（毫秒）")
+  private Long ageMillis;
+
+  @Schema(description = "是否过期")
+  private Boolean stale;
+
+  @Schema(description = "最近一次采集耗时（毫秒）")
+  private Long latencyMillis;
+
+  @Schema(description = "最近一次采集失败原因")
+  private String errorMessage;
+}
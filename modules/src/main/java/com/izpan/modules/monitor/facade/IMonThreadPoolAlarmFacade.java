@@ -0,0 +1,72 @@
+package com.izpan.modules.monitor.facade;
+
+import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.infrastructure.page.RPage;
+import com.izpan.modules.monitor.alarm.AlarmRule;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmDeleteDTO;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSearchDTO;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSilenceDTO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolAlarmVO;
+
+import java.util.List;
+
+/**
+ * 线程池告警事件 门面接口层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.facade.IMonThreadPoolAlarmFacade
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface IMonThreadPoolAlarmFacade {
+
+  /**
+   * 线程池告警事件 - 分页查询
+   *
+   * @param pageQuery                   分页对象
+   * @param monThreadPoolAlarmSearchDTO 查询对象
+   * @return {@link RPage} 查询结果
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  RPage<MonThreadPoolAlarmVO> listMonThreadPoolAlarmPage(PageQuery pageQuery,
+                                                        MonThreadPoolAlarmSearchDTO monThreadPoolAlarmSearchDTO);
+
+  /**
+   * 根据 ID 获取详情信息
+   *
+   * @param id 告警事件ID
+   * @return {@link MonThreadPoolAlarmVO} 告警事件 VO 对象
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  MonThreadPoolAlarmVO get(Long id);
+
+  /**
+   * 批量删除告警事件
+   *
+   * @param monThreadPoolAlarmDeleteDTO 删除 DTO 对象
+   * @return {@link Boolean} 结果
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  boolean batchDelete(MonThreadPoolAlarmDeleteDTO monThreadPoolAlarmDeleteDTO);
+
+  /**
+   * 获取当前生效的告警规则
+   *
+   * @return {@link List<AlarmRule>} 告警规则
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<AlarmRule> listRules();
+
+  /**
+   * 静默或取消静默告警
+   *
+   * @param monThreadPoolAlarmSilenceDTO 静默 DTO 对象
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  void silence(MonThreadPoolAlarmSilenceDTO monThreadPoolAlarmSilenceDTO);
+}
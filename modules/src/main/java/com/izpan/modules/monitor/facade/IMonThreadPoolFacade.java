@@ -2,8 +2,21 @@ package com.izpan.modules.monitor.facade;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.infrastructure.server.routing.RoutingStrategy;
 import com.izpan.modules.monitor.domain.bo.MonThreadPoolBO;
+import com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRecommendDTO;
+import com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRefreshDTO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolGroupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHistoryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHotVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolQueryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRecommendVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRefreshVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRollupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolSnapshotVO;
+import com.izpan.modules.monitor.metrics.HistoryResolution;
 import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -29,6 +42,38 @@ public interface IMonThreadPoolFacade {
    */
   IPage<ThreadPoolStats> listMonThreadPoolPage(PageQuery pageQuery, MonThreadPoolBO monThreadPoolBO);
 
+  /**
+   * 线程池监控 - 过滤、排序与游标分页查询
+   *
+   * @param pageQuery       分页对象，仅使用 pageSize
+   * @param monThreadPoolBO BO 查询对象
+   * @return {@link MonThreadPoolQueryVO} 查询结果
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  MonThreadPoolQueryVO queryThreadPools(PageQuery pageQuery, MonThreadPoolBO monThreadPoolBO);
+
+  /**
+   * 获取当前压力最高的线程池
+   *
+   * @param limit 返回条数
+   * @return {@link List<MonThreadPoolHotVO>} 热点线程池
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<MonThreadPoolHotVO> listHotPools(int limit);
+
+  /**
+   * 按（应用名称, 线程池名称）聚合各实例的同名线程池
+   *
+   * @param appName  应用名称
+   * @param poolName 线程池名称关键字
+   * @return {@link List<MonThreadPoolGroupVO>} 逻辑线程池及其实例分布
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<MonThreadPoolGroupVO> listPoolGroups(String appName, String poolName);
+
   /**
    * 获取线程池统计数据
    *
@@ -38,6 +83,25 @@ public interface IMonThreadPoolFacade {
    */
   ThreadPoolStats getStatistics();
 
+  /**
+   * 获取指定客户端的线程池统计数据
+   *
+   * @param clientId 客户端ID
+   * @return {@link ThreadPoolStats} 统计数据
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  ThreadPoolStats getClientStatistics(String clientId);
+
+  /**
+   * 按全局 / 应用 / 客户端 / 线程池名称多维度汇总
+   *
+   * @return {@link MonThreadPoolRollupVO} 多维度汇总
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  MonThreadPoolRollupVO getRollup();
+
   /**
    * 获取实时指标
    *
@@ -57,4 +121,87 @@ public interface IMonThreadPoolFacade {
    */
   ThreadPoolStats getDetail(String poolName);
 
-}
\ No newline at end of file
+  /**
+   * 获取指定客户端的线程池数据
+   *
+   * @param clientId 客户端ID
+   * @return {@link List<ThreadPoolStats>} 线程池列表
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<ThreadPoolStats> getClientThreadPools(String clientId);
+
+  /**
+   * 按路由策略选择应用的一个健康实例，获取其线程池实时数据
+   *
+   * @param appName  应用名称
+   * @param strategy 实例选择策略，为空时轮询
+   * @return {@link List<ThreadPoolStats>} 线程池列表
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<ThreadPoolStats> getAppThreadPools(String appName, RoutingStrategy strategy);
+
+  /**
+   * 获取各客户端线程池快照状态
+   *
+   * @return {@link List<MonThreadPoolSnapshotVO>} 快照状态列表
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<MonThreadPoolSnapshotVO> listSnapshotStatus();
+
+  /**
+   * 获取线程池历史指标
+   *
+   * @param clientId   客户端ID
+   * @param poolName   线程池名称
+   * @param startTime  起始时间（毫秒时间戳）
+   * @param endTime    结束时间（毫秒时间戳）
+   * @param resolution 分辨率，为空时按时间跨度自动选择
+   * @return {@link MonThreadPoolHistoryVO} 历史指标
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  MonThreadPoolHistoryVO getHistory(String clientId, String poolName, Long startTime, Long endTime,
+                                    HistoryResolution resolution);
+
+
+  /**
+   * 批量刷新线程池配置
+   *
+   * @param monThreadPoolRefreshDTO 刷新目标
+   * @return 每个刷新目标的结果
+   */
+  List<MonThreadPoolRefreshVO> refreshThreadPools(MonThreadPoolRefreshDTO monThreadPoolRefreshDTO);
+
+  /**
+   * 根据历史指标计算线程池容量建议
+   *
+   * @param clientId      客户端ID
+   * @param poolName      线程池名称
+   * @param windowMinutes 统计窗口（分钟）
+   * @return {@link List<MonThreadPoolRecommendVO>} 容量建议
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<MonThreadPoolRecommendVO> listRecommendations(String clientId, String poolName, Integer windowMinutes);
+
+  /**
+   * 计算容量建议并下发，支持试运行
+   *
+   * @param monThreadPoolRecommendDTO 容量建议下发 DTO 对象
+   * @return {@link List<MonThreadPoolRecommendVO>} 容量建议及下发结果
+   * @author eachann
+   * @CreateTime 2026/10/18 - 10:00
+   */
+  List<MonThreadPoolRecommendVO> applyRecommendations(MonThreadPoolRecommendDTO monThreadPoolRecommendDTO);
+
+  /**
+   * 订阅线程池实时指标
+   *
+   * @param clientId 客户端ID，为空时订阅全部客户端
+   * @return SSE 连接
+   */
+  SseEmitter subscribeMetrics(String clientId);
+}
@@ -0,0 +1,74 @@
+package com.izpan.modules.monitor.facade.impl;
+
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.izpan.common.util.CglibUtil;
+import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.infrastructure.page.RPage;
+import com.izpan.modules.monitor.alarm.AlarmEngine;
+import com.izpan.modules.monitor.alarm.AlarmRule;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolAlarmBO;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmDeleteDTO;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSearchDTO;
+import com.izpan.modules.monitor.domain.dto.alarm.MonThreadPoolAlarmSilenceDTO;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolAlarmVO;
+import com.izpan.modules.monitor.facade.IMonThreadPoolAlarmFacade;
+import com.izpan.modules.monitor.service.IMonThreadPoolAlarmService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 线程池告警事件 门面接口实现层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.facade.impl.MonThreadPoolAlarmFacadeImpl
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Service
+@RequiredArgsConstructor
+public class MonThreadPoolAlarmFacadeImpl implements IMonThreadPoolAlarmFacade {
+
+  @NonNull
+  private IMonThreadPoolAlarmService monThreadPoolAlarmService;
+
+  @NonNull
+  private AlarmEngine alarmEngine;
+
+  @Override
+  public RPage<MonThreadPoolAlarmVO> listMonThreadPoolAlarmPage(PageQuery pageQuery,
+                                                               MonThreadPoolAlarmSearchDTO monThreadPoolAlarmSearchDTO) {
+    MonThreadPoolAlarmBO monThreadPoolAlarmBO = CglibUtil.convertObj(monThreadPoolAlarmSearchDTO,
+        MonThreadPoolAlarmBO::new);
+    IPage<MonThreadPoolAlarm> monThreadPoolAlarmIPage = monThreadPoolAlarmService.listMonThreadPoolAlarmPage(pageQuery,
+        monThreadPoolAlarmBO);
+    return RPage.build(monThreadPoolAlarmIPage, MonThreadPoolAlarmVO::new);
+  }
+
+  @Override
+  public MonThreadPoolAlarmVO get(Long id) {
+    MonThreadPoolAlarm byId = monThreadPoolAlarmService.getById(id);
+    return CglibUtil.convertObj(byId, MonThreadPoolAlarmVO::new);
+  }
+
+  @Override
+  public boolean batchDelete(MonThreadPoolAlarmDeleteDTO monThreadPoolAlarmDeleteDTO) {
+    MonThreadPoolAlarmBO monThreadPoolAlarmBO = CglibUtil.convertObj(monThreadPoolAlarmDeleteDTO,
+        MonThreadPoolAlarmBO::new);
+    return monThreadPoolAlarmService.removeBatchByIds(monThreadPoolAlarmBO.getIds(), true);
+  }
+
+  @Override
+  public List<AlarmRule> listRules() {
+    return alarmEngine.getRules();
+  }
+
+  @Override
+  public void silence(MonThreadPoolAlarmSilenceDTO monThreadPoolAlarmSilenceDTO) {
+    alarmEngine.silence(monThreadPoolAlarmSilenceDTO.getClientId(), monThreadPoolAlarmSilenceDTO.getPoolName(),
+        monThreadPoolAlarmSilenceDTO.getRuleName(), monThreadPoolAlarmSilenceDTO.getSilenceSeconds());
+  }
+}
@@ -1,16 +1,31 @@
 package com.izpan.modules.monitor.facade.impl;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.izpan.common.util.CglibUtil;
 import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.infrastructure.server.routing.RoutingStrategy;
 import com.izpan.modules.monitor.domain.bo.MonThreadPoolBO;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolRecommendBO;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolRefreshBO;
+import com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRecommendDTO;
+import com.izpan.modules.monitor.domain.dto.threadpool.MonThreadPoolRefreshDTO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolGroupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHistoryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHotVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolQueryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRecommendVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRefreshVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRollupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolSnapshotVO;
+import com.izpan.modules.monitor.metrics.HistoryResolution;
 import com.izpan.modules.monitor.facade.IMonThreadPoolFacade;
-import com.izpan.infrastructure.server.AdminServer;
 import com.izpan.modules.monitor.service.IMonThreadPoolService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dromara.dynamictp.common.entity.ThreadPoolStats;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -36,12 +51,42 @@ public class MonThreadPoolFacadeImpl implements IMonThreadPoolFacade {
     return monThreadPoolService.listMonThreadPoolPage(pageQuery, monThreadPoolBO);
   }
 
+  @Override
+  public MonThreadPoolQueryVO queryThreadPools(PageQuery pageQuery, MonThreadPoolBO monThreadPoolBO) {
+    log.info("线程池监控 - 游标查询，参数：pageSize={}, monThreadPoolBO={}", pageQuery.getPageSize(), monThreadPoolBO);
+    return monThreadPoolService.queryThreadPools(monThreadPoolBO, pageQuery.getPageSize());
+  }
+
+  @Override
+  public List<MonThreadPoolHotVO> listHotPools(int limit) {
+    log.info("获取热点线程池，limit={}", limit);
+    return monThreadPoolService.listHotPools(limit);
+  }
+
+  @Override
+  public List<MonThreadPoolGroupVO> listPoolGroups(String appName, String poolName) {
+    log.info("获取跨实例线程池分组，appName={}, poolName={}", appName, poolName);
+    return monThreadPoolService.listPoolGroups(appName, poolName);
+  }
+
   @Override
   public ThreadPoolStats getStatistics() {
     log.info("获取线程池统计数据");
     return monThreadPoolService.getStatistics();
   }
 
+  @Override
+  public ThreadPoolStats getClientStatistics(String clientId) {
+    log.info("获取客户端线程池统计数据，clientId={}", clientId);
+    return monThreadPoolService.getClientStatistics(clientId);
+  }
+
+  @Override
+  public MonThreadPoolRollupVO getRollup() {
+    log.info("获取线程池多维度汇总");
+    return monThreadPoolService.getRollup();
+  }
+
   @Override
   public List<ThreadPoolStats> getMetrics() {
     log.info("获取线程池实时指标");
@@ -53,4 +98,63 @@ public class MonThreadPoolFacadeImpl implements IMonThreadPoolFacade {
     log.info("获取线程池详情，poolName={}", poolName);
     return monThreadPoolService.getDetail(poolName);
   }
-}
\ No newline at end of file
+
+  @Override
+  public List<ThreadPoolStats> getClientThreadPools(String clientId) {
+    log.info("获取客户端线程池数据，clientId={}", clientId);
+    return monThreadPoolService.getClientThreadPools(clientId);
+  }
+
+  @Override
+  public List<ThreadPoolStats> getAppThreadPools(String appName, RoutingStrategy strategy) {
+    log.info("获取应用线程池数据，appName={}, strategy={}", appName, strategy);
+    return monThreadPoolService.getAppThreadPools(appName, strategy);
+  }
+
+  @Override
+  public List<MonThreadPoolSnapshotVO> listSnapshotStatus() {
+    log.info("获取线程池快照状态");
+    return monThreadPoolService.listSnapshotStatus();
+  }
+
+  @Override
+  public MonThreadPoolHistoryVO getHistory(String clientId, String poolName, Long startTime, Long endTime,
+                                           HistoryResolution resolution) {
+    log.info("获取线程池历史指标，clientId={}, poolName={}, startTime={}, endTime={}, resolution={}",
+        clientId, poolName, startTime, endTime, resolution);
+    return monThreadPoolService.getHistory(clientId, poolName, startTime, endTime, resolution);
+  }
+
+  @Override
+  public List<MonThreadPoolRefreshVO> refreshThreadPools(MonThreadPoolRefreshDTO monThreadPoolRefreshDTO) {
+    log.info("批量刷新线程池配置，目标数={}", monThreadPoolRefreshDTO.getTargets().size());
+    List<MonThreadPoolRefreshBO> targets = CglibUtil.convertList(monThreadPoolRefreshDTO.getTargets(),
+        MonThreadPoolRefreshBO::new);
+    return monThreadPoolService.refreshThreadPools(targets, monThreadPoolRefreshDTO.getTimeoutMillis());
+  }
+
+  @Override
+  public List<MonThreadPoolRecommendVO> listRecommendations(String clientId, String poolName, Integer windowMinutes) {
+    log.info("获取线程池容量建议，clientId={}, poolName={}, windowMinutes={}", clientId, poolName, windowMinutes);
+    MonThreadPoolRecommendBO monThreadPoolRecommendBO = new MonThreadPoolRecommendBO();
+    monThreadPoolRecommendBO.setClientId(clientId);
+    monThreadPoolRecommendBO.setPoolName(poolName);
+    monThreadPoolRecommendBO.setWindowMinutes(windowMinutes);
+    return monThreadPoolService.listRecommendations(monThreadPoolRecommendBO);
+  }
+
+  @Override
+  public List<MonThreadPoolRecommendVO> applyRecommendations(MonThreadPoolRecommendDTO monThreadPoolRecommendDTO) {
+    log.info("下发线程池容量建议，clientId={}, poolName={}, dryRun={}", monThreadPoolRecommendDTO.getClientId(),
+        monThreadPoolRecommendDTO.getPoolName(), monThreadPoolRecommendDTO.getDryRun());
+    MonThreadPoolRecommendBO monThreadPoolRecommendBO = CglibUtil.convertObj(monThreadPoolRecommendDTO,
+        MonThreadPoolRecommendBO::new);
+    return monThreadPoolService.applyRecommendations(monThreadPoolRecommendBO);
+  }
+
+  @Override
+  public SseEmitter subscribeMetrics(String clientId) {
+    log.info("订阅线程池实时指标，clientId={}", clientId);
+    return monThreadPoolService.subscribeMetrics(clientId);
+  }
+}
@@ -0,0 +1,87 @@
+package com.izpan.modules.monitor.job;
+
+import com.izpan.modules.monitor.metrics.ThreadPoolMonitorProperties;
+import com.izpan.modules.monitor.service.IMonThreadPoolMetricService;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 线程池指标归档清理任务
+ * <p>
+ * 在调度管理中以 {@code com.izpan.modules.monitor.job.ThreadPoolMetricPurgeJob} 新建任务（建议每天凌晨执行），
+ * 维护 {@code mon_thread_pool_metric} 的按天分区：删除整天超过保留天数的分区，预建未来若干天的分区，
+ * 再分批删除残留的过期记录（未分区的表只做这一步）。任务参数 {@code retentionDays}、{@code chunkSize}、
+ * {@code partitionDaysAhead} 可覆盖 {@code dynamic-tp.admin.monitor.archive} 中的默认值。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.job.ThreadPoolMetricPurgeJob
+ * @CreateTime 2026/10/18 - 10:00
+ */
+
+@Slf4j
+@DisallowConcurrentExecution
+public class ThreadPoolMetricPurgeJob extends QuartzJobBean {
+
+    @Resource
+    private IMonThreadPoolMetricService monThreadPoolMetricService;
+
+    @Resource
+    private ThreadPoolMonitorProperties properties;
+
+    @Override
+    public void executeInternal(JobExecutionContext context) {
+        JobDataMap jobDataMap = context.getMergedJobDataMap();
+        ThreadPoolMonitorProperties.Archive archive = properties.getArchive();
+        int retentionDays = readInt(jobDataMap, "retentionDays", archive.getRetentionDays());
+        int chunkSize = readInt(jobDataMap, "chunkSize", archive.getPurgeChunkSize());
+        int partitionDaysAhead = readInt(jobDataMap, "partitionDaysAhead", archive.getPartitionDaysAhead());
+        if (retentionDays <= 0) {
+            log.warn("线程池指标归档清理跳过, retentionDays: {}", retentionDays);
+            return;
+        }
+        // 按自然日对齐，与按天划分的分区边界一致
+        LocalDate beforeDay = LocalDate.now().minusDays(retentionDays);
+        LocalDateTime before = beforeDay.atStartOfDay();
+        long start = System.currentTimeMillis();
+        List<String> dropped = List.of();
+        List<String> created = List.of();
+        try {
+            dropped = monThreadPoolMetricService.dropPartitionsBefore(beforeDay);
+        } catch (Exception e) {
+            log.warn("线程池指标过期分区删除失败，改为按行删除", e);
+        }
+        long deleted = monThreadPoolMetricService.purgeBefore(before, chunkSize);
+        if (partitionDaysAhead >= 0) {
+            try {
+                created = monThreadPoolMetricService.createPartitions(partitionDaysAhead);
+            } catch (Exception e) {
+                log.error("线程池指标分区预建失败，新数据将写入 p_max", e);
+            }
+        }
+        log.info("线程池指标归档清理完成, before: {}, droppedPartitions: {}, deleted: {}, createdPartitions: {}, cost: {}ms",
+                before, dropped, deleted, created, System.currentTimeMillis() - start);
+    }
+
+    private static int readInt(JobDataMap jobDataMap, String key, int defaultValue) {
+        Object value = jobDataMap.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            log.warn("线程池指标归档清理参数 {} 无效: {}, 使用默认值 {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolMetric;
+import com.izpan.modules.monitor.service.IMonThreadPoolMetricService;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池容量建议
+ * <p>
+ * 从 {@link ThreadPoolMetricHistory} 读取线程池在滑动窗口内的历史指标；窗口超出内存历史的保留时长，
+ * 或内存中采样不足（如管理端重启后）且开启了指标归档时，改为读取 {@code mon_thread_pool_metric} 中的归档记录。
+ * 按以下规则给出核心线程数、最大线程数与队列容量建议：
+ * <ul>
+ *   <li>核心线程数：利特尔法则 {@code L = tps * 平均耗时}，取窗口均值除以目标利用率</li>
+ *   <li>最大线程数：各采样点 L 的 p95 除以目标利用率，且不低于窗口内活跃线程峰值；
+ *       出现拒绝或队列打满时再乘以放大系数</li>
+ *   <li>队列容量：峰值 tps 下排队不超过可接受等待时间，仅对可调整容量的队列生效</li>
+ * </ul>
+ * 建议值与当前值相差不足 {@code minChangeRatio} 时保持当前值。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.CapacityRecommender
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+public class CapacityRecommender {
+
+  private final ThreadPoolMonitorProperties properties;
+
+  private final ThreadPoolMetricHistory metricHistory;
+
+  private final ObjectProvider<IMonThreadPoolMetricService> metricServiceProvider;
+
+  public CapacityRecommender(ThreadPoolMonitorProperties properties, ThreadPoolMetricHistory metricHistory,
+                             ObjectProvider<IMonThreadPoolMetricService> metricServiceProvider) {
+    this.properties = properties;
+    this.metricHistory = metricHistory;
+    this.metricServiceProvider = metricServiceProvider;
+  }
+
+  /**
+   * 计算单个线程池的容量建议
+   *
+   * @param clientAddress 客户端地址
+   * @param current       线程池当前数据
+   * @param windowMillis  统计窗口（毫秒）
+   * @return 容量建议
+   */
+  public Recommendation recommend(String clientAddress, ThreadPoolStats current, long windowMillis) {
+    ThreadPoolMonitorProperties.Recommend config = properties.getRecommend();
+    long now = System.currentTimeMillis();
+    int minSamples = Math.max(1, config.getMinSamples());
+    List<String> reasons = new ArrayList<>();
+    Series series = windowMillis <= memoryRetentionMillis()
+        ? fromHistory(clientAddress, current.getPoolName(), now - windowMillis, now) : null;
+    if ((series == null || series.samples() < minSamples) && properties.getArchive().isEnabled()) {
+      Series archived = fromArchive(clientAddress, current.getPoolName(), now - windowMillis, now);
+      if (archived != null && (series == null || archived.samples() > series.samples())) {
+        series = archived;
+        reasons.add("读取归档指标 " + archived.samples() + " 条");
+      }
+    }
+    int samples = series == null ? 0 : series.samples();
+    if (samples < minSamples) {
+      reasons.add("窗口内采样数 " + samples + " 不足 " + config.getMinSamples() + "，保持当前配置");
+      return Recommendation.unchanged(clientAddress, current, samples, null, reasons);
+    }
+
+    float[] tps = series.tps();
+    float[] peakTps = series.peakTps();
+    float[] rt = series.rt();
+    float[] peakActive = series.peakActive();
+    float[] queueSize = series.queueSize();
+    float[] peakQueueSize = series.peakQueueSize();
+    float[] rejects = series.rejects();
+
+    double tpsSum = 0;
+    double weightedRt = 0;
+    double rtSum = 0;
+    double maxActive = 0;
+    double queueWaitSum = 0;
+    int queueWaitSamples = 0;
+    double[] concurrency = new double[samples];
+    double[] peaks = new double[samples];
+    for (int i = 0; i < samples; i++) {
+      tpsSum += tps[i];
+      weightedRt += tps[i] * rt[i];
+      rtSum += rt[i];
+      maxActive = Math.max(maxActive, peakActive[i]);
+      concurrency[i] = peakTps[i] * rt[i] / 1000d;
+      peaks[i] = peakTps[i];
+      if (tps[i] > 0) {
+        // 队列上的利特尔法则：平均排队时间 = 队列长度 / 出队速率
+        queueWaitSum += queueSize[i] / tps[i] * 1000d;
+        queueWaitSamples++;
+      }
+    }
+    double meanTps = tpsSum / samples;
+    double meanRt = tpsSum > 0 ? weightedRt / tpsSum : rtSum / samples;
+    double p95Tps = percentile(peaks, 0.95);
+    double p95Concurrency = percentile(concurrency, 0.95);
+    double queueWaitMillis = queueWaitSamples == 0 ? 0 : queueWaitSum / queueWaitSamples;
+    long rejectCount = counterIncrease(rejects);
+    int queueCapacity = current.getQueueCapacity();
+    boolean queueSaturated = queueCapacity > 0
+        && percentile(toDoubles(peakQueueSize), 0.95) >= queueCapacity * 0.9;
+    Observation observation = new Observation(meanTps, p95Tps, meanRt, maxActive, queueWaitMillis, rejectCount);
+
+    if (meanTps <= 0 && maxActive <= 0) {
+      reasons.add("窗口内无负载，保持当前配置");
+      return Recommendation.unchanged(clientAddress, current, samples, observation, reasons);
+    }
+
+    double utilization = Math.clamp(config.getTargetUtilization(), 0.1, 1);
+    int core = Math.max(1, (int) Math.ceil(meanTps * meanRt / 1000d / utilization));
+    reasons.add("平均并发 %.2f（tps %.2f × 平均耗时 %.2fms），目标利用率 %.0f%%".formatted(
+        meanTps * meanRt / 1000d, meanTps, meanRt, utilization * 100));
+
+    int maximum = Math.max(core, Math.max((int) Math.ceil(p95Concurrency / utilization), (int) Math.ceil(maxActive)));
+    if (rejectCount > 0 || queueSaturated) {
+      maximum = (int) Math.ceil(Math.max(maximum, current.getMaximumPoolSize())
+          * Math.max(1, config.getBurstFactor()));
+      reasons.add(rejectCount > 0 ? "窗口内拒绝 " + rejectCount + " 次，最大线程数按放大系数扩容"
+          : "队列 p95 接近打满，最大线程数按放大系数扩容");
+    }
+    maximum = Math.min(maximum, Math.max(1, config.getMaxPoolSizeLimit()));
+    core = Math.min(core, maximum);
+
+    Integer queue = null;
+    if (isResizableQueue(current.getQueueType())) {
+      queue = (int) Math.clamp((long) Math.ceil(p95Tps * config.getMaxQueueWaitMillis() / 1000d),
+          config.getMinQueueCapacity(), config.getMaxQueueCapacity());
+      if (queueWaitMillis > config.getMaxQueueWaitMillis()) {
+        reasons.add("平均排队 %.0fms 超过可接受的 %dms".formatted(queueWaitMillis, config.getMaxQueueWaitMillis()));
+      }
+    } else {
+      reasons.add("队列 " + current.getQueueType() + " 不支持动态调整容量，保持当前值");
+    }
+
+    int recommendedCore = stable(current.getCorePoolSize(), core, config.getMinChangeRatio());
+    int recommendedMaximum = Math.max(recommendedCore,
+        stable(current.getMaximumPoolSize(), maximum, config.getMinChangeRatio()));
+    int recommendedQueue = queue == null ? queueCapacity : stable(queueCapacity, queue, config.getMinChangeRatio());
+    return new Recommendation(clientAddress, current.getPoolName(), current.getPoolAliasName(), samples,
+        series.resolution(), observation, current.getCorePoolSize(), current.getMaximumPoolSize(), queueCapacity,
+        recommendedCore, recommendedMaximum, recommendedQueue, List.copyOf(reasons));
+  }
+
+  /**
+   * 内存历史最粗一级的保留时长，历史关闭时为 0
+   */
+  private long memoryRetentionMillis() {
+    ThreadPoolMonitorProperties.History history = properties.getHistory();
+    return history.isEnabled() ? TimeUnit.DAYS.toMillis(history.getHourRetentionDays()) : 0;
+  }
+
+  private Series fromHistory(String clientAddress, String poolName, long from, long to) {
+    ThreadPoolMetricHistory.HistoryRange range = metricHistory.query(clientAddress, poolName, from, to, null);
+    if (range == null) {
+      return null;
+    }
+    float[][] avg = range.avg();
+    float[][] max = range.max();
+    // 拒绝次数是累计计数，桶内取最大值即桶末的计数，取均值会低估增量
+    return new Series(range.timestamps().length, range.resolution(), avg[PoolMetric.TPS.ordinal()],
+        max[PoolMetric.TPS.ordinal()], avg[PoolMetric.AVG_RT.ordinal()], max[PoolMetric.ACTIVE_COUNT.ordinal()],
+        avg[PoolMetric.QUEUE_SIZE.ordinal()], max[PoolMetric.QUEUE_SIZE.ordinal()],
+        max[PoolMetric.REJECT_COUNT.ordinal()]);
+  }
+
+  /**
+   * 从归档表读取窗口内的记录，每条记录是一个原始采样点，均值与峰值相同
+   */
+  private Series fromArchive(String clientAddress, String poolName, long from, long to) {
+    IMonThreadPoolMetricService metricService = metricServiceProvider.getIfAvailable();
+    if (metricService == null) {
+      return null;
+    }
+    List<MonThreadPoolMetric> rows;
+    try {
+      rows = metricService.listSeries(clientAddress, poolName, toDateTime(from), toDateTime(to));
+    } catch (RuntimeException e) {
+      log.warn("Failed to load archived metrics of {} on {}: {}", poolName, clientAddress, e.getMessage());
+      return null;
+    }
+    int size = rows.size();
+    float[] tps = new float[size];
+    float[] rt = new float[size];
+    float[] active = new float[size];
+    float[] queueSize = new float[size];
+    float[] rejects = new float[size];
+    for (int i = 0; i < size; i++) {
+      MonThreadPoolMetric row = rows.get(i);
+      tps[i] = row.getTps() == null ? 0 : row.getTps().floatValue();
+      rt[i] = row.getAvg() == null ? 0 : row.getAvg().floatValue();
+      active[i] = row.getActiveCount() == null ? 0 : row.getActiveCount();
+      queueSize[i] = row.getQueueSize() == null ? 0 : row.getQueueSize();
+      rejects[i] = row.getRejectCount() == null ? 0 : row.getRejectCount();
+    }
+    return new Series(size, null, tps, tps, rt, active, queueSize, queueSize, rejects);
+  }
+
+  private static LocalDateTime toDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+
+  /**
+   * 可通过 EXECUTOR_REFRESH 调整容量的队列
+   */
+  private static boolean isResizableQueue(String queueType) {
+    return queueType != null
+        && (queueType.contains("VariableLinkedBlockingQueue") || queueType.contains("MemorySafeLinkedBlockingQueue"));
+  }
+
+  /**
+   * 变化不足指定比例时保持当前值
+   */
+  private static int stable(int current, int recommended, double minChangeRatio) {
+    return Math.abs(recommended - current) < Math.max(1, current) * minChangeRatio ? current : recommended;
+  }
+
+  /**
+   * 累计计数在窗口内的增量，计数回退（客户端重启）时从回退后的值重新累加
+   */
+  private static long counterIncrease(float[] values) {
+    long increase = 0;
+    for (int i = 1; i < values.length; i++) {
+      float delta = values[i] - values[i - 1];
+      increase += (long) (delta >= 0 ? delta : values[i]);
+    }
+    return increase;
+  }
+
+  private static double percentile(double[] values, double quantile) {
+    double[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(quantile * sorted.length);
+    return sorted[Math.max(0, rank - 1)];
+  }
+
+  private static double[] toDoubles(float[] values) {
+    double[] result = new double[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = values[i];
+    }
+    return result;
+  }
+
+  /**
+   * 窗口内按时间升序的指标序列
+   *
+   * @param samples       采样点数
+   * @param resolution    内存历史的分辨率，来自归档时为 {@code null}
+   * @param tps           tps 均值
+   * @param peakTps       tps 峰值
+   * @param rt            平均耗时
+   * @param peakActive    活跃线程峰值
+   * @param queueSize     队列长度均值
+   * @param peakQueueSize 队列长度峰值
+   * @param rejects       拒绝次数累计值
+   */
+  private record Series(int samples, HistoryResolution resolution, float[] tps, float[] peakTps, float[] rt,
+                        float[] peakActive, float[] queueSize, float[] peakQueueSize, float[] rejects) {
+  }
+
+  /**
+   * 窗口内的观测值
+   *
+   * @param meanTps         平均 tps
+   * @param p95Tps          tps 峰值的 p95
+   * @param meanRtMillis    按 tps 加权的平均耗时（毫秒）
+   * @param peakActive      活跃线程峰值
+   * @param queueWaitMillis 估算的平均排队时间（毫秒）
+   * @param rejectCount     拒绝次数
+   */
+  public record Observation(double meanTps, double p95Tps, double meanRtMillis, double peakActive,
+                            double queueWaitMillis, long rejectCount) {
+  }
+
+  /**
+   * 容量建议
+   *
+   * @param clientId                   客户端ID
+   * @param poolName                   线程池名称
+   * @param poolAliasName              线程池别名
+   * @param samples                    窗口内采样数
+   * @param resolution                 历史数据分辨率，采样不足或读取归档时为 {@code null}
+   * @param observation                观测值，采样不足时为 {@code null}
+   * @param corePoolSize               当前核心线程数
+   * @param maximumPoolSize            当前最大线程数
+   * @param queueCapacity              当前队列容量
+   * @param recommendedCorePoolSize    建议核心线程数
+   * @param recommendedMaximumPoolSize 建议最大线程数
+   * @param recommendedQueueCapacity   建议队列容量
+   * @param reasons                    依据说明
+   */
+  public record Recommendation(String clientId, String poolName, String poolAliasName, int samples,
+                               HistoryResolution resolution, Observation observation, int corePoolSize,
+                               int maximumPoolSize, int queueCapacity, int recommendedCorePoolSize,
+                               int recommendedMaximumPoolSize, int recommendedQueueCapacity, List<String> reasons) {
+
+    static Recommendation unchanged(String clientId, ThreadPoolStats current, int samples, Observation observation,
+                                    List<String> reasons) {
+      return new Recommendation(clientId, current.getPoolName(), current.getPoolAliasName(), samples, null,
+          observation, current.getCorePoolSize(), current.getMaximumPoolSize(), current.getQueueCapacity(),
+          current.getCorePoolSize(), current.getMaximumPoolSize(), current.getQueueCapacity(), List.copyOf(reasons));
+    }
+
+    /**
+     * 建议值是否与当前配置不同
+     *
+     * @return 不同返回 true
+     */
+    public boolean changed() {
+      return recommendedCorePoolSize != corePoolSize || recommendedMaximumPoolSize != maximumPoolSize
+          || recommendedQueueCapacity != queueCapacity;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.infrastructure.server.handler.AdminRequestHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+import org.springframework.stereotype.Component;
+
+/**
+ * 客户端主动上报日志处理器，将 {@code LOG_MANAGE} 内容带上客户端标识写入管理端日志
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ClientLogReportHandler
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+public class ClientLogReportHandler implements AdminRequestHandler {
+
+  @Override
+  public AdminRequestTypeEnum requestType() {
+    return AdminRequestTypeEnum.LOG_MANAGE;
+  }
+
+  @Override
+  public Object handle(String clientAddress, AdminRequestBody requestBody) {
+    log.info("[DynamicTp Client] {} : {}", clientAddress, requestBody.deserializeBody());
+    return null;
+  }
+}
@@ -0,0 +1,289 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.cluster.ClusterCoordinator;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import com.izpan.infrastructure.util.JacksonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 集群线程池快照视图
+ * <p>
+ * 集群模式下按采集间隔将本节点持有的客户端快照发布到集群注册中心，并拉取其他节点发布的快照；
+ * 查询接口通过本视图读取，任一节点都能看到全部客户端。本节点的数据总是实时读取 {@link ThreadPoolSnapshotStore}，
+ * 其他节点的数据最多滞后一个采集间隔。未开启集群时等同于本地快照。
+ * </p>
+ * <p>
+ * 每个节点发布一份只含客户端摘要（采集时间、延迟、线程池内容哈希等）的小报文，线程池数据按客户端分条目发布，
+ * 仅在内容哈希变化时重写；拉取方先读摘要，只拉取哈希与本地缓存不同的客户端条目，线程池没有变化的客户端不产生传输与解析。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ClusterSnapshotView
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterSnapshotView {
+
+  private static final String HEADER_KEY = "snapshot-headers";
+
+  private static final String POOLS_KEY = "snapshot-pools";
+
+  private final ThreadPoolSnapshotStore snapshotStore;
+
+  private final ClusterCoordinator clusterCoordinator;
+
+  private final AdminServer adminServer;
+
+  /**
+   * 其他节点的快照，客户端地址到快照的映射
+   */
+  private volatile Map<String, ThreadPoolSnapshot> peerSnapshots = Map.of();
+
+  /**
+   * 其他节点客户端的应用名称
+   */
+  private volatile Map<String, String> peerAppNames = Map.of();
+
+  /**
+   * 本节点已发布的线程池内容哈希，仅在交换线程中访问
+   */
+  private final Map<String, Integer> publishedHashes = new HashMap<>();
+
+  /**
+   * 已拉取的其他节点线程池数据，仅在交换线程中访问
+   */
+  private Map<String, PeerPools> peerPools = Map.of();
+
+  private final List<Consumer<Collection<ThreadPoolSnapshot>>> peerListeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * 发布本节点快照并拉取其他节点快照
+   */
+  @Scheduled(fixedDelayString = "${dynamic-tp.admin.monitor.refresh-interval-millis:10000}")
+  public void exchange() {
+    if (!clusterCoordinator.isEnabled()) {
+      return;
+    }
+    try {
+      publish();
+    } catch (Exception e) {
+      // 无法确认哪些条目已写入，下次全量发布
+      publishedHashes.clear();
+      log.error("Failed to publish thread pool snapshots to cluster peers", e);
+    }
+    try {
+      pull();
+    } catch (Exception e) {
+      log.error("Failed to pull thread pool snapshots from cluster peers", e);
+      return;
+    }
+    Collection<ThreadPoolSnapshot> snapshots = peerSnapshots.values();
+    for (Consumer<Collection<ThreadPoolSnapshot>> listener : peerListeners) {
+      listener.accept(snapshots);
+    }
+  }
+
+  /**
+   * 注册其他节点快照的监听器，每次拉取完成后在交换线程中以全部其他节点的快照回调
+   *
+   * @param listener 监听器
+   */
+  public void addPeerListener(Consumer<Collection<ThreadPoolSnapshot>> listener) {
+    peerListeners.add(listener);
+  }
+
+  /**
+   * 全部客户端的快照，本节点在前
+   *
+   * @return 快照集合
+   */
+  public Collection<ThreadPoolSnapshot> all() {
+    Map<String, ThreadPoolSnapshot> peers = peerSnapshots;
+    if (peers.isEmpty()) {
+      return snapshotStore.all();
+    }
+    Collection<ThreadPoolSnapshot> local = snapshotStore.all();
+    List<ThreadPoolSnapshot> snapshots = new ArrayList<>(local.size() + peers.size());
+    snapshots.addAll(local);
+    for (ThreadPoolSnapshot snapshot : peers.values()) {
+      // 客户端切换节点后以本节点数据为准
+      if (snapshotStore.get(snapshot.getClientAddress()) == null) {
+        snapshots.add(snapshot);
+      }
+    }
+    return snapshots;
+  }
+
+  /**
+   * 全部客户端的线程池
+   *
+   * @return 线程池列表
+   */
+  public List<ThreadPoolStats> allPools() {
+    if (peerSnapshots.isEmpty()) {
+      return snapshotStore.allPools();
+    }
+    List<ThreadPoolStats> pools = new ArrayList<>();
+    all().forEach(snapshot -> pools.addAll(snapshot.getPools()));
+    return pools;
+  }
+
+  /**
+   * 获取客户端快照，本节点没有时读取其他节点
+   *
+   * @param clientAddress 客户端地址
+   * @return 快照，不存在时返回 {@code null}
+   */
+  public ThreadPoolSnapshot get(String clientAddress) {
+    ThreadPoolSnapshot snapshot = snapshotStore.get(clientAddress);
+    return snapshot != null ? snapshot : peerSnapshots.get(clientAddress);
+  }
+
+  /**
+   * 其他节点客户端的应用名称
+   *
+   * @param clientAddress 客户端地址
+   * @return 应用名称，不是其他节点的客户端时返回 {@code null}
+   */
+  public String peerAppName(String clientAddress) {
+    return peerAppNames.get(clientAddress);
+  }
+
+  private void publish() {
+    Collection<ThreadPoolSnapshot> local = snapshotStore.all();
+    List<PeerHeader> headers = new ArrayList<>(local.size());
+    Map<String, String> changed = new HashMap<>();
+    Set<String> current = HashSet.newHashSet(local.size());
+    for (ThreadPoolSnapshot snapshot : local) {
+      String clientAddress = snapshot.getClientAddress();
+      // 管理端自身的标识在各节点相同，不参与共享
+      if (AdminServer.SELF_CLIENT_ID.equals(clientAddress)) {
+        continue;
+      }
+      ClientInfo info = adminServer.getClientRegistry().get(clientAddress);
+      int poolsHash = snapshot.getPools().hashCode();
+      headers.add(new PeerHeader(clientAddress, info == null ? null : info.getAppName(), snapshot.getCollectTime(),
+          snapshot.getLatencyMillis(), snapshot.getErrorMessage(), poolsHash));
+      current.add(clientAddress);
+      Integer published = publishedHashes.get(clientAddress);
+      if (published == null || published != poolsHash) {
+        changed.put(clientAddress, JacksonUtil.toJson(snapshot.getPools()));
+      }
+    }
+    List<String> removed = new ArrayList<>();
+    for (String clientAddress : publishedHashes.keySet()) {
+      if (!current.contains(clientAddress)) {
+        removed.add(clientAddress);
+      }
+    }
+    // 先写线程池条目再写摘要，其他节点读到新摘要时对应条目已经就绪
+    clusterCoordinator.publishEntries(POOLS_KEY, changed, removed);
+    clusterCoordinator.publish(HEADER_KEY, JacksonUtil.toJson(headers));
+    removed.forEach(publishedHashes::remove);
+    for (PeerHeader header : headers) {
+      publishedHashes.put(header.clientAddress(), header.poolsHash());
+    }
+  }
+
+  private void pull() {
+    Map<String, ThreadPoolSnapshot> snapshots = new HashMap<>();
+    Map<String, String> appNames = new HashMap<>();
+    Map<String, PeerPools> pools = new HashMap<>();
+    Map<String, PeerPools> cached = peerPools;
+    clusterCoordinator.collectPeers(HEADER_KEY).forEach((nodeId, json) -> {
+      PeerHeader[] headers;
+      try {
+        headers = JacksonUtil.jsonToObject(json, PeerHeader[].class);
+      } catch (RuntimeException e) {
+        log.warn("Discarding malformed thread pool snapshot headers from cluster node: {}", nodeId, e);
+        return;
+      }
+      List<String> stale = new ArrayList<>();
+      for (PeerHeader header : headers) {
+        PeerPools known = cached.get(header.clientAddress());
+        if (known == null || known.hash() != header.poolsHash()) {
+          stale.add(header.clientAddress());
+        }
+      }
+      Map<String, String> fetched = clusterCoordinator.collectEntries(nodeId, POOLS_KEY, stale);
+      for (PeerHeader header : headers) {
+        PeerPools peer = resolvePools(nodeId, header, cached.get(header.clientAddress()),
+            fetched.get(header.clientAddress()));
+        if (peer == null) {
+          continue;
+        }
+        pools.put(header.clientAddress(), peer);
+        snapshots.put(header.clientAddress(), new ThreadPoolSnapshot(header.clientAddress(),
+            ThreadPoolSnapshot.Source.PEER, peer.pools(), header.collectTime(), header.latencyMillis(),
+            header.errorMessage()));
+        if (header.appName() != null) {
+          appNames.put(header.clientAddress(), header.appName());
+        }
+      }
+    });
+    this.peerPools = pools;
+    this.peerSnapshots = snapshots;
+    this.peerAppNames = appNames;
+  }
+
+  /**
+   * 内容哈希未变化时沿用缓存，否则解析新拉取的条目；条目缺失或无法解析时本轮跳过该客户端
+   */
+  private static PeerPools resolvePools(String nodeId, PeerHeader header, PeerPools known, String json) {
+    if (known != null && known.hash() == header.poolsHash()) {
+      return known;
+    }
+    if (json == null) {
+      return null;
+    }
+    try {
+      ThreadPoolStats[] stats = JacksonUtil.jsonToObject(json, ThreadPoolStats[].class);
+      return new PeerPools(header.poolsHash(), stats == null ? List.of() : List.of(stats));
+    } catch (RuntimeException e) {
+      log.warn("Discarding malformed thread pools of client {} from cluster node: {}", header.clientAddress(),
+          nodeId, e);
+      return null;
+    }
+  }
+
+  /**
+   * 节点间共享的客户端摘要
+   *
+   * @param clientAddress 客户端地址
+   * @param appName       应用名称
+   * @param collectTime   采集时间（毫秒时间戳）
+   * @param latencyMillis 采集耗时（毫秒）
+   * @param errorMessage  采集失败原因
+   * @param poolsHash     线程池数据的内容哈希，变化时才需要重新拉取线程池条目
+   */
+  record PeerHeader(String clientAddress, String appName, long collectTime, long latencyMillis,
+                    String errorMessage, int poolsHash) {
+  }
+
+  /**
+   * 已拉取的其他节点客户端线程池数据
+   *
+   * @param hash  内容哈希
+   * @param pools 线程池列表
+   */
+  private record PeerPools(int hash, List<ThreadPoolStats> pools) {
+  }
+}
@@ -0,0 +1,39 @@
+package com.izpan.modules.monitor.metrics;
+
+import lombok.Getter;
+
+/**
+ * 历史指标分辨率
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.HistoryResolution
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+public enum HistoryResolution {
+
+  /**
+   * 原始采样
+   */
+  RAW(0),
+
+  /**
+   * 1 分钟降采样
+   */
+  MINUTE(60_000L),
+
+  /**
+   * 1 小时降采样
+   */
+  HOUR(3_600_000L);
+
+  /**
+   * 桶宽（毫秒），原始采样为 0
+   */
+  private final long bucketMillis;
+
+  HistoryResolution(long bucketMillis) {
+    this.bucketMillis = bucketMillis;
+  }
+}
@@ -0,0 +1,206 @@
+package com.izpan.modules.monitor.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 热点线程池检测器
+ * <p>
+ * 每次快照写入时计算该客户端各线程池的压力分：
+ * {@code queueWeight * 队列填充率 + activeWeight * 活跃线程占比 + rejectWeight * 拒绝速率归一值 + latencyWeight * tp99 归一值}，
+ * 其中拒绝速率为相邻两次快照拒绝数之差除以时间间隔，按 {@code 1 - e^(-x / scale)} 归一到 0 ~ 1，
+ * tp99 按 {@code tp99 / (tp99 + reference)} 归一。
+ * 每个客户端只保留本地 Top-K，写入只替换该客户端的结果并标记排名失效，复杂度与客户端数无关；
+ * 全局 Top-K 在查询时由各客户端的 Top-K 合并得到并缓存，排名未变化时直接返回缓存。
+ * </p>
+ * <p>
+ * 压力分同时用于线程池列表的 {@link ThreadPoolSortField#HOTNESS} 排序，见 {@link #score(String, ThreadPoolStats)}。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.HotPoolDetector
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Component
+@RequiredArgsConstructor
+public class HotPoolDetector implements ThreadPoolSnapshotListener {
+
+  private final ThreadPoolMonitorProperties properties;
+
+  /**
+   * 各客户端状态，仅在 ingest 线程读写
+   */
+  private final Map<String, ClientState> clients = new HashMap<>();
+
+  /**
+   * 客户端ID -> 最近一次计算的结果，供查询线程读取
+   */
+  private final Map<String, ClientScores> published = new ConcurrentHashMap<>();
+
+  /**
+   * 各客户端结果变化后置位，查询时重新合并
+   */
+  private volatile boolean dirty;
+
+  private volatile List<HotPool> ranking = List.of();
+
+  @Override
+  public void onSnapshot(ThreadPoolSnapshot snapshot) {
+    ThreadPoolMonitorProperties.Hot config = properties.getHot();
+    if (!config.isEnabled()) {
+      return;
+    }
+    ClientState state = clients.computeIfAbsent(snapshot.getClientAddress(), key -> new ClientState());
+    List<ThreadPoolStats> pools = snapshot.getPools();
+    long collectTime = snapshot.getCollectTime();
+    double[] scores = new double[pools.size()];
+    double[] rejectRates = new double[pools.size()];
+    Map<String, long[]> previous = state.rejects;
+    Map<String, long[]> current = HashMap.newHashMap(pools.size());
+    Map<String, Double> poolScores = HashMap.newHashMap(pools.size());
+    for (int i = 0; i < pools.size(); i++) {
+      ThreadPoolStats pool = pools.get(i);
+      long[] last = previous.get(pool.getPoolName());
+      double rejectRate = 0;
+      if (last != null && collectTime > last[1] && pool.getRejectCount() >= last[0]) {
+        rejectRate = (pool.getRejectCount() - last[0]) * 1000d / (collectTime - last[1]);
+      }
+      current.put(pool.getPoolName(), new long[]{pool.getRejectCount(), collectTime});
+      rejectRates[i] = rejectRate;
+      scores[i] = score(config, pool, rejectRate);
+      poolScores.put(pool.getPoolName(), scores[i]);
+    }
+    state.rejects = current;
+
+    int[] top = TopKSelector.select(scores, scores.length, config.getTopK());
+    List<HotPool> local = new ArrayList<>(top.length);
+    for (int index : top) {
+      ThreadPoolStats pool = pools.get(index);
+      local.add(new HotPool(snapshot.getClientAddress(), pool.getPoolName(), pool.getPoolAliasName(), scores[index],
+          ThreadPoolQueryEngine.queueUsage(pool), ThreadPoolQueryEngine.poolUsage(pool), rejectRates[index],
+          pool.getTp99(), collectTime));
+    }
+    published.put(snapshot.getClientAddress(), new ClientScores(List.copyOf(local), poolScores));
+    dirty = true;
+  }
+
+  @Override
+  public void onClientRemoved(String clientAddress) {
+    clients.remove(clientAddress);
+    if (published.remove(clientAddress) != null) {
+      dirty = true;
+    }
+  }
+
+  /**
+   * 获取当前最热的线程池
+   *
+   * @param limit 返回条数，不超过配置的 topK
+   * @return 按压力分从高到低排列
+   */
+  public List<HotPool> top(int limit) {
+    if (dirty) {
+      synchronized (this) {
+        if (dirty) {
+          // 先清除标记，合并期间写入的结果会再次置位
+          dirty = false;
+          ranking = merge(properties.getHot().getTopK());
+        }
+      }
+    }
+    List<HotPool> current = ranking;
+    return limit >= current.size() ? current : current.subList(0, Math.max(0, limit));
+  }
+
+  /**
+   * 线程池压力分
+   * <p>
+   * 优先返回 ingest 线程最近一次计算的结果；尚未计算（如其他集群节点的客户端或检测未开启）时按当前数据计算，
+   * 此时没有相邻快照，拒绝速率按 0 计。
+   * </p>
+   *
+   * @param clientId 客户端ID
+   * @param pool     线程池数据
+   * @return 压力分
+   */
+  public double score(String clientId, ThreadPoolStats pool) {
+    ClientScores scores = published.get(clientId);
+    Double score = scores == null ? null : scores.pools().get(pool.getPoolName());
+    return score != null ? score : score(properties.getHot(), pool, 0);
+  }
+
+  /**
+   * 合并各客户端的本地 Top-K
+   */
+  private List<HotPool> merge(int k) {
+    List<HotPool> candidates = new ArrayList<>();
+    for (ClientScores scores : published.values()) {
+      candidates.addAll(scores.top());
+    }
+    double[] values = new double[candidates.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = candidates.get(i).score();
+    }
+    int[] top = TopKSelector.select(values, values.length, k);
+    List<HotPool> merged = new ArrayList<>(top.length);
+    for (int i : top) {
+      merged.add(candidates.get(i));
+    }
+    return List.copyOf(merged);
+  }
+
+  private static double score(ThreadPoolMonitorProperties.Hot config, ThreadPoolStats pool, double rejectRate) {
+    double rejectScore = config.getRejectRateScale() <= 0 ? 0 : 1 - Math.exp(-rejectRate / config.getRejectRateScale());
+    double tp99 = Math.max(0, pool.getTp99());
+    double latencyScore = tp99 / (tp99 + config.getTp99ReferenceMillis());
+    return config.getQueueWeight() * Math.min(1, ThreadPoolQueryEngine.queueUsage(pool))
+        + config.getActiveWeight() * Math.min(1, ThreadPoolQueryEngine.poolUsage(pool))
+        + config.getRejectWeight() * rejectScore
+        + config.getLatencyWeight() * latencyScore;
+  }
+
+  /**
+   * 单个客户端的检测状态
+   */
+  private static final class ClientState {
+
+    /**
+     * 线程池名称 -> {上次拒绝数, 上次采集时间}
+     */
+    private Map<String, long[]> rejects = Map.of();
+  }
+
+  /**
+   * 单个客户端最近一次的计算结果
+   *
+   * @param top   本地 Top-K
+   * @param pools 线程池名称 -> 压力分
+   */
+  private record ClientScores(List<HotPool> top, Map<String, Double> pools) {
+  }
+
+  /**
+   * 热点线程池
+   *
+   * @param clientId          客户端ID
+   * @param poolName          线程池名称
+   * @param poolAliasName     线程池别名
+   * @param score             压力分（0 ~ 各权重之和）
+   * @param queueUsage        队列填充率（0 ~ 1）
+   * @param poolUsage         活跃线程占比（0 ~ 1）
+   * @param rejectPerSecond   拒绝速率（次 / 秒）
+   * @param tp99              tp99（毫秒）
+   * @param collectTime       采集时间（毫秒时间戳）
+   */
+  public record HotPool(String clientId, String poolName, String poolAliasName, double score, double queueUsage,
+                        double poolUsage, double rejectPerSecond, double tp99, long collectTime) {
+  }
+}
@@ -0,0 +1,156 @@
+package com.izpan.modules.monitor.metrics;
+
+import java.util.Arrays;
+
+/**
+ * 定长列式环形缓冲区
+ * <p>
+ * 时间戳与各指标分别存放在独立的原始类型数组中；容量按需翻倍增长直至上限，写满后覆盖最旧的数据。
+ * 原始采样没有桶内最大值，单值环只保存一组数组，均值与最大值共用。
+ * 非线程安全，由调用方加锁。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.MetricRing
+ * @CreateTime 2026/10/18 - 10:00
+ */
+final class MetricRing {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int maxCapacity;
+
+  private long[] timestamps;
+
+  /**
+   * 桶内均值（计数类指标为最后值），[指标][槽位]
+   */
+  private float[][] avg;
+
+  /**
+   * 桶内最大值，[指标][槽位]；单值环与 {@link #avg} 为同一数组
+   */
+  private float[][] max;
+
+  private final boolean singleValue;
+
+  /**
+   * 下一个写入槽位
+   */
+  private int head;
+
+  private int size;
+
+  /**
+   * 创建环形缓冲区
+   *
+   * @param maxCapacity 容量上限
+   * @param singleValue 是否为单值环（只保存一组数值，如原始采样）
+   */
+  MetricRing(int maxCapacity, boolean singleValue) {
+    this.maxCapacity = Math.max(1, maxCapacity);
+    this.singleValue = singleValue;
+    int capacity = Math.min(INITIAL_CAPACITY, this.maxCapacity);
+    this.timestamps = new long[capacity];
+    this.avg = new float[PoolMetric.count()][capacity];
+    this.max = singleValue ? avg : new float[PoolMetric.count()][capacity];
+  }
+
+  /**
+   * 追加一条数据
+   *
+   * @param timestamp 时间戳
+   * @param avgValues 各指标均值
+   * @param maxValues 各指标最大值，单值环忽略
+   */
+  void append(long timestamp, float[] avgValues, float[] maxValues) {
+    if (size == timestamps.length && size < maxCapacity) {
+      // 未写满上限前不会发生覆盖，数据在 [0, size) 连续存放，可直接扩容；
+      // 此时 head 已绕回 0，扩容后从 size 处继续写入
+      int capacity = Math.min(maxCapacity, size << 1);
+      timestamps = Arrays.copyOf(timestamps, capacity);
+      for (int m = 0; m < avg.length; m++) {
+        avg[m] = Arrays.copyOf(avg[m], capacity);
+        if (!singleValue) {
+          max[m] = Arrays.copyOf(max[m], capacity);
+        }
+      }
+      head = size;
+    }
+    int slot = head;
+    timestamps[slot] = timestamp;
+    for (int m = 0; m < avg.length; m++) {
+      avg[m][slot] = avgValues[m];
+      if (!singleValue) {
+        max[m][slot] = maxValues[m];
+      }
+    }
+    head = (slot + 1) % timestamps.length;
+    if (size < timestamps.length) {
+      size++;
+    }
+  }
+
+  /**
+   * 读取时间范围 [from, to] 内的数据
+   *
+   * @param from 起始时间（含）
+   * @param to   结束时间（含）
+   * @return 范围内数据的列式拷贝
+   */
+  MetricRange range(long from, long to) {
+    int capacity = timestamps.length;
+    int oldest = (head - size + capacity) % capacity;
+    int first = -1;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      long ts = timestamps[(oldest + i) % capacity];
+      if (ts >= from && ts <= to) {
+        if (first < 0) {
+          first = i;
+        }
+        count++;
+      }
+    }
+    MetricRange range = new MetricRange(count, singleValue);
+    for (int i = 0; i < count; i++) {
+      int slot = (oldest + first + i) % capacity;
+      range.timestamps[i] = timestamps[slot];
+      for (int m = 0; m < avg.length; m++) {
+        range.avg[m][i] = avg[m][slot];
+        if (!singleValue) {
+          range.max[m][i] = max[m][slot];
+        }
+      }
+    }
+    return range;
+  }
+
+  /**
+   * 最新一条数据的时间戳
+   *
+   * @return 时间戳，无数据时返回 0
+   */
+  long lastTimestamp() {
+    return size == 0 ? 0 : timestamps[(head - 1 + timestamps.length) % timestamps.length];
+  }
+
+  /**
+   * 列式范围数据，单值环的 {@code max} 与 {@code avg} 为同一数组
+   */
+  static final class MetricRange {
+
+    final long[] timestamps;
+
+    final float[][] avg;
+
+    final float[][] max;
+
+    MetricRange(int count, boolean singleValue) {
+      this.timestamps = new long[count];
+      this.avg = new float[PoolMetric.count()][count];
+      this.max = singleValue ? avg : new float[PoolMetric.count()][count];
+    }
+  }
+}
@@ -0,0 +1,216 @@
+package com.izpan.modules.monitor.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 跨实例线程池分组聚合
+ * <p>
+ * 同一应用的各实例通常定义了同名线程池，本聚合器以（应用名称, 线程池名称）为键将它们归为一个逻辑线程池，
+ * 统计队列任务数、活跃线程数与 tp99 在各实例间的分布（最小 / 平均 / 最大 / p95）。
+ * 每次快照写入时只更新该客户端涉及的分组并发布分组的不可变结果，查询直接读取已发布的结果，
+ * 300 个实例的应用只对应一行。仅统计本节点持有的客户端。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.PoolGroupAggregator
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Component
+@RequiredArgsConstructor
+public class PoolGroupAggregator implements ThreadPoolSnapshotListener {
+
+  private static final int QUEUE_SIZE = 0;
+
+  private static final int ACTIVE_COUNT = 1;
+
+  private static final int TP99 = 2;
+
+  private static final int METRIC_COUNT = 3;
+
+  private final ThreadPoolAggregator aggregator;
+
+  /**
+   * 各分组的实例数据，仅在 ingest 线程读写
+   */
+  private final Map<GroupKey, GroupState> states = new HashMap<>();
+
+  /**
+   * 各客户端当前所属的分组，仅在 ingest 线程读写
+   */
+  private final Map<String, Set<GroupKey>> clientGroups = new HashMap<>();
+
+  /**
+   * 已发布的分组结果
+   */
+  private final Map<GroupKey, PoolGroup> groups = new ConcurrentHashMap<>();
+
+  @Override
+  public void onSnapshot(ThreadPoolSnapshot snapshot) {
+    String clientAddress = snapshot.getClientAddress();
+    String appName = aggregator.resolveAppName(clientAddress);
+    long collectTime = snapshot.getCollectTime();
+    Set<GroupKey> previous = clientGroups.getOrDefault(clientAddress, Set.of());
+    Set<GroupKey> current = HashSet.newHashSet(snapshot.getPools().size());
+    for (ThreadPoolStats pool : snapshot.getPools()) {
+      GroupKey key = new GroupKey(appName, pool.getPoolName());
+      if (!current.add(key)) {
+        continue;
+      }
+      GroupState state = states.computeIfAbsent(key, k -> new GroupState());
+      state.instances.put(clientAddress, new double[]{pool.getQueueSize(), pool.getActiveCount(), pool.getTp99()});
+      state.poolAliasName = pool.getPoolAliasName();
+      state.updateTime = collectTime;
+      publish(key, state);
+    }
+    // 客户端不再包含的线程池（或应用名称变化）需要从原分组中移除
+    for (GroupKey key : previous) {
+      if (!current.contains(key)) {
+        leave(key, clientAddress);
+      }
+    }
+    clientGroups.put(clientAddress, current);
+  }
+
+  @Override
+  public void onClientRemoved(String clientAddress) {
+    Set<GroupKey> previous = clientGroups.remove(clientAddress);
+    if (previous != null) {
+      previous.forEach(key -> leave(key, clientAddress));
+    }
+  }
+
+  /**
+   * 获取分组结果
+   *
+   * @param appName  应用名称，为空时不过滤
+   * @param poolName 线程池名称关键字，为空时不过滤
+   * @return 按应用名称、线程池名称排序的分组
+   */
+  public List<PoolGroup> list(String appName, String poolName) {
+    List<PoolGroup> result = new ArrayList<>();
+    for (PoolGroup group : groups.values()) {
+      if ((appName == null || appName.equals(group.appName()))
+          && (poolName == null || (group.poolName() != null && group.poolName().contains(poolName)))) {
+        result.add(group);
+      }
+    }
+    result.sort((a, b) -> {
+      int compare = String.valueOf(a.appName()).compareTo(String.valueOf(b.appName()));
+      return compare != 0 ? compare : String.valueOf(a.poolName()).compareTo(String.valueOf(b.poolName()));
+    });
+    return result;
+  }
+
+  private void leave(GroupKey key, String clientAddress) {
+    GroupState state = states.get(key);
+    if (state == null || state.instances.remove(clientAddress) == null) {
+      return;
+    }
+    if (state.instances.isEmpty()) {
+      states.remove(key);
+      groups.remove(key);
+    } else {
+      publish(key, state);
+    }
+  }
+
+  /**
+   * 重新计算分组的实例分布并整体替换已发布的结果，复杂度 O(n log n)，n 为该分组的实例数
+   */
+  private void publish(GroupKey key, GroupState state) {
+    Collection<double[]> instances = state.instances.values();
+    int n = instances.size();
+    double[][] columns = new double[METRIC_COUNT][n];
+    int row = 0;
+    for (double[] values : instances) {
+      for (int metric = 0; metric < METRIC_COUNT; metric++) {
+        columns[metric][row] = values[metric];
+      }
+      row++;
+    }
+    groups.put(key, new PoolGroup(key.appName(), key.poolName(), state.poolAliasName, n,
+        Distribution.of(columns[QUEUE_SIZE]), Distribution.of(columns[ACTIVE_COUNT]), Distribution.of(columns[TP99]),
+        state.updateTime));
+  }
+
+  /**
+   * 分组键
+   *
+   * @param appName  应用名称
+   * @param poolName 线程池名称
+   */
+  private record GroupKey(String appName, String poolName) {
+  }
+
+  /**
+   * 单个分组的实例数据
+   */
+  private static final class GroupState {
+
+    /**
+     * 客户端地址 -> {队列任务数, 活跃线程数, tp99}
+     */
+    private final Map<String, double[]> instances = new HashMap<>();
+
+    private String poolAliasName;
+
+    private long updateTime;
+  }
+
+  /**
+   * 指标在各实例间的分布
+   *
+   * @param min 最小值
+   * @param avg 平均值
+   * @param max 最大值
+   * @param p95 95 分位（最近秩）
+   */
+  public record Distribution(double min, double avg, double max, double p95) {
+
+    /**
+     * 计算分布，会对入参排序
+     *
+     * @param values 各实例的指标值，不能为空
+     * @return 分布
+     */
+    static Distribution of(double[] values) {
+      Arrays.sort(values);
+      double sum = 0;
+      for (double value : values) {
+        sum += value;
+      }
+      int n = values.length;
+      int rank = (int) Math.ceil(0.95 * n);
+      return new Distribution(values[0], sum / n, values[n - 1], values[Math.max(0, rank - 1)]);
+    }
+  }
+
+  /**
+   * 逻辑线程池
+   *
+   * @param appName       应用名称
+   * @param poolName      线程池名称
+   * @param poolAliasName 线程池别名（最近一次上报的实例）
+   * @param instanceCount 实例数
+   * @param queueSize     队列任务数分布
+   * @param activeCount   活跃线程数分布
+   * @param tp99          tp99 分布（毫秒）
+   * @param updateTime    最近一次更新的采集时间（毫秒时间戳）
+   */
+  public record PoolGroup(String appName, String poolName, String poolAliasName, int instanceCount,
+                          Distribution queueSize, Distribution activeCount, Distribution tp99, long updateTime) {
+  }
+}
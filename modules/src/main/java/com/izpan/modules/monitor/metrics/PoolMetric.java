@@ -0,0 +1,96 @@
+package com.izpan.modules.monitor.metrics;
+
+import lombok.Getter;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+/**
+ * 线程池历史指标项
+ * <p>
+ * 计数类指标（累计值）降采样时取桶内最后一个值，其余瞬时指标取桶内均值与最大值
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.PoolMetric
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+public enum PoolMetric {
+
+  ACTIVE_COUNT("activeCount", false),
+
+  POOL_SIZE("poolSize", false),
+
+  MAXIMUM_POOL_SIZE("maximumPoolSize", false),
+
+  QUEUE_SIZE("queueSize", false),
+
+  QUEUE_CAPACITY("queueCapacity", false),
+
+  REJECT_COUNT("rejectCount", true),
+
+  COMPLETED_TASK_COUNT("completedTaskCount", true),
+
+  TPS("tps", false),
+
+  AVG_RT("avg", false),
+
+  TP99("tp99", false);
+
+  private static final PoolMetric[] VALUES = values();
+
+  /**
+   * 指标名称，与 ThreadPoolStats 字段名一致
+   */
+  private final String field;
+
+  /**
+   * 是否为累计计数
+   */
+  private final boolean counter;
+
+  PoolMetric(String field, boolean counter) {
+    this.field = field;
+    this.counter = counter;
+  }
+
+  /**
+   * 指标项数量
+   *
+   * @return 数量
+   */
+  public static int count() {
+    return VALUES.length;
+  }
+
+  /**
+   * 按序号获取指标项，避免 values() 的数组拷贝
+   *
+   * @param ordinal 序号
+   * @return 指标项
+   */
+  public static PoolMetric of(int ordinal) {
+    return VALUES[ordinal];
+  }
+
+  /**
+   * 从线程池数据中读取该指标
+   *
+   * @param stats 线程池数据
+   * @return 指标值
+   */
+  public double read(ThreadPoolStats stats) {
+    return switch (this) {
+      case ACTIVE_COUNT -> stats.getActiveCount();
+      case POOL_SIZE -> stats.getPoolSize();
+      case MAXIMUM_POOL_SIZE -> stats.getMaximumPoolSize();
+      case QUEUE_SIZE -> stats.getQueueSize();
+      case QUEUE_CAPACITY -> stats.getQueueCapacity();
+      case REJECT_COUNT -> stats.getRejectCount();
+      case COMPLETED_TASK_COUNT -> stats.getCompletedTaskCount();
+      case TPS -> stats.getTps();
+      case AVG_RT -> stats.getAvg();
+      case TP99 -> stats.getTp99();
+    };
+  }
+}
@@ -0,0 +1,121 @@
+package com.izpan.modules.monitor.metrics;
+
+import lombok.Getter;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+/**
+ * 线程池汇总结果，不可变
+ * <p>
+ * 计数类字段为各线程池之和；队列使用率取最大值；tp99 按 tps 加权平均（全部 tps 为 0 时取算术平均）；
+ * 拒绝率为 {@code rejectCount / (taskCount + rejectCount)}。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolAggregate
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+public final class ThreadPoolAggregate {
+
+  /**
+   * 汇总维度下的键：应用名、客户端ID 或线程池名称，全局汇总为 {@code null}
+   */
+  private final String key;
+
+  private final int poolCount;
+
+  private final long corePoolSize;
+
+  private final long maximumPoolSize;
+
+  private final long poolSize;
+
+  private final long activeCount;
+
+  private final long queueSize;
+
+  private final long queueCapacity;
+
+  private final long taskCount;
+
+  private final long completedTaskCount;
+
+  private final long rejectCount;
+
+  private final long runTimeoutCount;
+
+  private final long queueTimeoutCount;
+
+  private final double tps;
+
+  /**
+   * 各线程池中最大的队列使用率（0 ~ 1）
+   */
+  private final double maxQueueUtilization;
+
+  /**
+   * 按 tps 加权的 tp99（毫秒）
+   */
+  private final double tp99;
+
+  /**
+   * 拒绝率（0 ~ 1）
+   */
+  private final double rejectRate;
+
+  ThreadPoolAggregate(String key, int poolCount, long[] sums, double tps, double maxQueueUtilization, double tp99) {
+    this.key = key;
+    this.poolCount = poolCount;
+    this.corePoolSize = sums[ThreadPoolAggregator.CORE_POOL_SIZE];
+    this.maximumPoolSize = sums[ThreadPoolAggregator.MAXIMUM_POOL_SIZE];
+    this.poolSize = sums[ThreadPoolAggregator.POOL_SIZE];
+    this.activeCount = sums[ThreadPoolAggregator.ACTIVE_COUNT];
+    this.queueSize = sums[ThreadPoolAggregator.QUEUE_SIZE];
+    this.queueCapacity = sums[ThreadPoolAggregator.QUEUE_CAPACITY];
+    this.taskCount = sums[ThreadPoolAggregator.TASK_COUNT];
+    this.completedTaskCount = sums[ThreadPoolAggregator.COMPLETED_TASK_COUNT];
+    this.rejectCount = sums[ThreadPoolAggregator.REJECT_COUNT];
+    this.runTimeoutCount = sums[ThreadPoolAggregator.RUN_TIMEOUT_COUNT];
+    this.queueTimeoutCount = sums[ThreadPoolAggregator.QUEUE_TIMEOUT_COUNT];
+    this.tps = tps;
+    this.maxQueueUtilization = maxQueueUtilization;
+    this.tp99 = tp99;
+    long submitted = taskCount + rejectCount;
+    this.rejectRate = submitted == 0 ? 0 : (double) rejectCount / submitted;
+  }
+
+  /**
+   * 转换为 {@link ThreadPoolStats}，兼容原有统计接口的返回结构
+   * <p>
+   * 沿用原有约定：{@code poolSize} 字段表示线程池数量
+   * </p>
+   *
+   * @param poolName      汇总名称
+   * @param poolAliasName 汇总别名
+   * @return 汇总统计数据
+   */
+  public ThreadPoolStats toThreadPoolStats(String poolName, String poolAliasName) {
+    ThreadPoolStats statistics = new ThreadPoolStats();
+    statistics.setPoolName(poolName);
+    statistics.setPoolAliasName(poolAliasName);
+    statistics.setPoolSize(poolCount);
+    statistics.setCorePoolSize(saturatedInt(corePoolSize));
+    statistics.setMaximumPoolSize(saturatedInt(maximumPoolSize));
+    statistics.setActiveCount(saturatedInt(activeCount));
+    statistics.setQueueSize(saturatedInt(queueSize));
+    statistics.setQueueCapacity(saturatedInt(queueCapacity));
+    statistics.setTaskCount(taskCount);
+    statistics.setCompletedTaskCount(completedTaskCount);
+    statistics.setRejectCount(rejectCount);
+    statistics.setRunTimeoutCount(runTimeoutCount);
+    statistics.setQueueTimeoutCount(queueTimeoutCount);
+    statistics.setTps(tps);
+    statistics.setTp99(tp99);
+    return statistics;
+  }
+
+  private static int saturatedInt(long value) {
+    return (int) Math.min(Integer.MAX_VALUE, value);
+  }
+}
@@ -0,0 +1,177 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import lombok.RequiredArgsConstructor;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 线程池汇总引擎
+ * <p>
+ * 所有统计接口共用的汇总逻辑：对线程池列表只遍历一次，每个线程池的数值字段累加到各维度的基本类型数组中，
+ * 全局 / 应用 / 客户端 / 线程池四个维度在同一次遍历中完成，保证各接口口径一致。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolAggregator
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Component
+@RequiredArgsConstructor
+public class ThreadPoolAggregator {
+
+  /**
+   * 未上报应用名的客户端所属应用
+   */
+  public static final String UNKNOWN_APP = "unknown";
+
+  static final int CORE_POOL_SIZE = 0;
+  static final int MAXIMUM_POOL_SIZE = 1;
+  static final int POOL_SIZE = 2;
+  static final int ACTIVE_COUNT = 3;
+  static final int QUEUE_SIZE = 4;
+  static final int QUEUE_CAPACITY = 5;
+  static final int TASK_COUNT = 6;
+  static final int COMPLETED_TASK_COUNT = 7;
+  static final int REJECT_COUNT = 8;
+  static final int RUN_TIMEOUT_COUNT = 9;
+  static final int QUEUE_TIMEOUT_COUNT = 10;
+  static final int SUM_FIELDS = 11;
+
+  private final AdminServer adminServer;
+
+  private final ClusterSnapshotView clusterView;
+
+  /**
+   * 汇总一组线程池
+   *
+   * @param key   汇总键
+   * @param pools 线程池列表
+   * @return 汇总结果
+   */
+  public ThreadPoolAggregate aggregate(String key, List<ThreadPoolStats> pools) {
+    Accumulator accumulator = new Accumulator();
+    long[] values = new long[SUM_FIELDS];
+    for (ThreadPoolStats pool : pools) {
+      read(pool, values);
+      accumulator.add(values, pool);
+    }
+    return accumulator.toAggregate(key);
+  }
+
+  /**
+   * 按全局 / 应用 / 客户端 / 线程池四个维度汇总全部快照
+   *
+   * @param snapshots 客户端快照
+   * @return 多维度汇总结果，各维度按键排序
+   */
+  public ThreadPoolRollup rollup(Collection<ThreadPoolSnapshot> snapshots) {
+    Accumulator fleet = new Accumulator();
+    Map<String, Accumulator> apps = new HashMap<>();
+    Map<String, Accumulator> clients = new LinkedHashMap<>();
+    Map<String, Accumulator> pools = new HashMap<>();
+    long[] values = new long[SUM_FIELDS];
+    for (ThreadPoolSnapshot snapshot : snapshots) {
+      Accumulator app = apps.computeIfAbsent(resolveAppName(snapshot.getClientAddress()), key -> new Accumulator());
+      Accumulator client = clients.computeIfAbsent(snapshot.getClientAddress(), key -> new Accumulator());
+      for (ThreadPoolStats pool : snapshot.getPools()) {
+        read(pool, values);
+        fleet.add(values, pool);
+        app.add(values, pool);
+        client.add(values, pool);
+        pools.computeIfAbsent(pool.getPoolName(), key -> new Accumulator()).add(values, pool);
+      }
+    }
+    return new ThreadPoolRollup(fleet.toAggregate(null), toAggregates(apps), toAggregates(clients),
+        toAggregates(pools));
+  }
+
+  /**
+   * 解析客户端所属应用，管理端自身归入 {@link AdminServer#SELF_CLIENT_ID}，集群其他节点的客户端取其节点同步的应用名称
+   *
+   * @param clientAddress 客户端地址
+   * @return 应用名称，未上报时为 {@link #UNKNOWN_APP}
+   */
+  public String resolveAppName(String clientAddress) {
+    if (AdminServer.SELF_CLIENT_ID.equals(clientAddress)) {
+      return AdminServer.SELF_CLIENT_ID;
+    }
+    ClientInfo info = adminServer.getClientRegistry().get(clientAddress);
+    if (info != null && info.getAppName() != null) {
+      return info.getAppName();
+    }
+    String peerAppName = info == null ? clusterView.peerAppName(clientAddress) : null;
+    return peerAppName == null ? UNKNOWN_APP : peerAppName;
+  }
+
+  private static Map<String, ThreadPoolAggregate> toAggregates(Map<String, Accumulator> accumulators) {
+    Map<String, ThreadPoolAggregate> aggregates = new TreeMap<>();
+    accumulators.forEach((key, accumulator) -> aggregates.put(key, accumulator.toAggregate(key)));
+    return aggregates;
+  }
+
+  private static void read(ThreadPoolStats pool, long[] values) {
+    values[CORE_POOL_SIZE] = pool.getCorePoolSize();
+    values[MAXIMUM_POOL_SIZE] = pool.getMaximumPoolSize();
+    values[POOL_SIZE] = pool.getPoolSize();
+    values[ACTIVE_COUNT] = pool.getActiveCount();
+    values[QUEUE_SIZE] = pool.getQueueSize();
+    values[QUEUE_CAPACITY] = pool.getQueueCapacity();
+    values[TASK_COUNT] = pool.getTaskCount();
+    values[COMPLETED_TASK_COUNT] = pool.getCompletedTaskCount();
+    values[REJECT_COUNT] = pool.getRejectCount();
+    values[RUN_TIMEOUT_COUNT] = pool.getRunTimeoutCount();
+    values[QUEUE_TIMEOUT_COUNT] = pool.getQueueTimeoutCount();
+  }
+
+  /**
+   * 单个维度的累加器
+   */
+  private static final class Accumulator {
+
+    private final long[] sums = new long[SUM_FIELDS];
+
+    private int poolCount;
+
+    private double tps;
+
+    private double maxQueueUtilization;
+
+    private double weightedTp99;
+
+    private double tp99Sum;
+
+    private void add(long[] values, ThreadPoolStats pool) {
+      for (int i = 0; i < SUM_FIELDS; i++) {
+        sums[i] += values[i];
+      }
+      poolCount++;
+      double poolTps = pool.getTps();
+      tps += poolTps;
+      weightedTp99 += pool.getTp99() * poolTps;
+      tp99Sum += pool.getTp99();
+      if (values[QUEUE_CAPACITY] > 0) {
+        maxQueueUtilization = Math.max(maxQueueUtilization, (double) values[QUEUE_SIZE] / values[QUEUE_CAPACITY]);
+      }
+    }
+
+    private ThreadPoolAggregate toAggregate(String key) {
+      double tp99;
+      if (tps > 0) {
+        tp99 = weightedTp99 / tps;
+      } else {
+        tp99 = poolCount == 0 ? 0 : tp99Sum / poolCount;
+      }
+      return new ThreadPoolAggregate(key, poolCount, sums, tps, maxQueueUtilization, tp99);
+    }
+  }
+}
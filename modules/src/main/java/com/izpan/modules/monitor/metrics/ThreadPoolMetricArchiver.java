@@ -0,0 +1,193 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolMetric;
+import com.izpan.modules.monitor.service.IMonThreadPoolMetricService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 线程池指标归档
+ * <p>
+ * 每个客户端按 {@code sampleIntervalMillis} 采样一次快照，逐个线程池转换为 {@code mon_thread_pool_metric} 记录后入队；
+ * 独立的写入线程在积压达到 {@code batchSize} 或到达 {@code flushIntervalMillis} 时以多行 INSERT 批量写入，
+ * ingest 线程只做入队，不会被数据库阻塞。队列满或写入失败时丢弃记录并计数。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolMetricArchiver
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+public class ThreadPoolMetricArchiver implements ThreadPoolSnapshotListener {
+
+  private final ThreadPoolMonitorProperties.Archive config;
+
+  private final ThreadPoolAggregator aggregator;
+
+  private final ObjectProvider<IMonThreadPoolMetricService> metricServiceProvider;
+
+  private final BlockingQueue<MonThreadPoolMetric> pending;
+
+  /**
+   * 各客户端最近一次归档的采集时间，仅在 ingest 线程中读写
+   */
+  private final Map<String, Long> lastArchived = new HashMap<>();
+
+  private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+  private final LongAdder archived = new LongAdder();
+
+  private final LongAdder dropped = new LongAdder();
+
+  private final ScheduledExecutorService writer;
+
+  public ThreadPoolMetricArchiver(ThreadPoolMonitorProperties properties, ThreadPoolAggregator aggregator,
+                                  ObjectProvider<IMonThreadPoolMetricService> metricServiceProvider) {
+    this.config = properties.getArchive();
+    this.aggregator = aggregator;
+    this.metricServiceProvider = metricServiceProvider;
+    this.pending = new ArrayBlockingQueue<>(Math.max(1, config.getMaxPendingRows()));
+    if (config.isEnabled()) {
+      this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "ThreadPoolMetricArchiver");
+        t.setDaemon(true);
+        return t;
+      });
+      long flushIntervalMillis = Math.max(100, config.getFlushIntervalMillis());
+      writer.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    } else {
+      this.writer = null;
+    }
+  }
+
+  @Override
+  public void onSnapshot(ThreadPoolSnapshot snapshot) {
+    if (writer == null || snapshot.getPools().isEmpty()) {
+      return;
+    }
+    String clientAddress = snapshot.getClientAddress();
+    long collectTime = snapshot.getCollectTime();
+    Long last = lastArchived.get(clientAddress);
+    if (last != null && collectTime - last < config.getSampleIntervalMillis()) {
+      return;
+    }
+    lastArchived.put(clientAddress, collectTime);
+    String appName = aggregator.resolveAppName(clientAddress);
+    LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(collectTime), ZoneId.systemDefault());
+    for (ThreadPoolStats pool : snapshot.getPools()) {
+      if (!pending.offer(toMetric(clientAddress, appName, time, pool))) {
+        dropped.increment();
+      }
+    }
+    if (pending.size() >= config.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+      try {
+        writer.execute(this::flush);
+      } catch (RejectedExecutionException e) {
+        flushRequested.set(false);
+      }
+    }
+  }
+
+  @Override
+  public void onClientRemoved(String clientAddress) {
+    lastArchived.remove(clientAddress);
+  }
+
+  /**
+   * 已写入的记录数
+   *
+   * @return 写入数
+   */
+  public long getArchivedCount() {
+    return archived.sum();
+  }
+
+  /**
+   * 因队列已满或写入失败被丢弃的记录数
+   *
+   * @return 丢弃数
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * 批量写入待归档的记录，只在写入线程（或关闭时）执行
+   */
+  private void flush() {
+    flushRequested.set(false);
+    int batchSize = Math.max(1, config.getBatchSize());
+    List<MonThreadPoolMetric> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+    while (pending.drainTo(batch, batchSize) > 0) {
+      try {
+        archived.add(metricServiceProvider.getObject().insertBatch(batch));
+      } catch (Exception e) {
+        // 归档是尽力而为的，失败的批次直接丢弃，避免数据库不可用时积压持续增长
+        dropped.add(batch.size());
+        log.error("Failed to archive {} thread pool metrics", batch.size(), e);
+      }
+      batch.clear();
+    }
+  }
+
+  private static MonThreadPoolMetric toMetric(String clientAddress, String appName, LocalDateTime collectTime,
+                                              ThreadPoolStats pool) {
+    return MonThreadPoolMetric.builder()
+        .clientId(clientAddress)
+        .appName(appName)
+        .poolName(pool.getPoolName())
+        .collectTime(collectTime)
+        .corePoolSize(pool.getCorePoolSize())
+        .maximumPoolSize(pool.getMaximumPoolSize())
+        .poolSize(pool.getPoolSize())
+        .activeCount(pool.getActiveCount())
+        .queueSize(pool.getQueueSize())
+        .queueCapacity(pool.getQueueCapacity())
+        .taskCount(pool.getTaskCount())
+        .completedTaskCount(pool.getCompletedTaskCount())
+        .rejectCount(pool.getRejectCount())
+        .runTimeoutCount(pool.getRunTimeoutCount())
+        .queueTimeoutCount(pool.getQueueTimeoutCount())
+        .tps(pool.getTps())
+        .avg(pool.getAvg())
+        .tp99(pool.getTp99())
+        .build();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (writer == null) {
+      return;
+    }
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+        writer.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+}
@@ -0,0 +1,253 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.registry.ClientInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池历史指标存储（内嵌时序存储）
+ * <p>
+ * 每个 (客户端, 线程池) 维护三级列式环形缓冲区：原始采样、1 分钟与 1 小时降采样，
+ * 原始采样写入时顺带累加到分钟桶，分钟桶封闭时再累加到小时桶，各级按配置的保留时长限定容量。
+ * 写入只发生在快照 ingest 线程，读取与写入通过序列级别的锁互斥，不依赖外部 TSDB。
+ * 客户端上报了应用元数据后序列以（应用名称, 实例标识）为键，客户端重连（地址变化）后历史得以延续；
+ * 元数据到达之前以连接地址为键。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolMetricHistory
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+public class ThreadPoolMetricHistory implements ThreadPoolSnapshotListener {
+
+  private final ThreadPoolMonitorProperties properties;
+
+  private final AdminServer adminServer;
+
+  private final Map<String, PoolSeries> series = new ConcurrentHashMap<>();
+
+  public ThreadPoolMetricHistory(ThreadPoolMonitorProperties properties, AdminServer adminServer) {
+    this.properties = properties;
+    this.adminServer = adminServer;
+  }
+
+  @Override
+  public void onSnapshot(ThreadPoolSnapshot snapshot) {
+    if (!properties.getHistory().isEnabled()) {
+      return;
+    }
+    long timestamp = snapshot.getCollectTime();
+    for (ThreadPoolStats stats : snapshot.getPools()) {
+      series.computeIfAbsent(seriesKey(snapshot.getClientAddress(), stats.getPoolName()), key -> newSeries())
+          .append(timestamp, stats);
+    }
+  }
+
+  /**
+   * 查询历史指标
+   *
+   * @param clientAddress 客户端地址
+   * @param poolName      线程池名称
+   * @param from          起始时间（毫秒时间戳，含）
+   * @param to            结束时间（毫秒时间戳，含）
+   * @param resolution    分辨率，为 {@code null} 时按时间跨度自动选择
+   * @return 列式数据，序列不存在时返回 {@code null}
+   */
+  public HistoryRange query(String clientAddress, String poolName, long from, long to, HistoryResolution resolution) {
+    PoolSeries poolSeries = series.get(seriesKey(clientAddress, poolName));
+    if (poolSeries == null) {
+      return null;
+    }
+    HistoryResolution effective = resolution != null ? resolution : resolve(to - from);
+    return new HistoryRange(effective, poolSeries.range(effective, from, to));
+  }
+
+  /**
+   * 根据时间跨度选择能覆盖该跨度的最细分辨率
+   *
+   * @param spanMillis 时间跨度（毫秒）
+   * @return 分辨率
+   */
+  public HistoryResolution resolve(long spanMillis) {
+    ThreadPoolMonitorProperties.History history = properties.getHistory();
+    if (spanMillis <= TimeUnit.MINUTES.toMillis(history.getRawRetentionMinutes())) {
+      return HistoryResolution.RAW;
+    }
+    if (spanMillis <= TimeUnit.HOURS.toMillis(history.getMinuteRetentionHours())) {
+      return HistoryResolution.MINUTE;
+    }
+    return HistoryResolution.HOUR;
+  }
+
+  /**
+   * 清理超过最长保留时长未写入的序列（客户端下线或线程池已销毁）
+   */
+  @Scheduled(fixedRate = 3600000)
+  public void evictExpired() {
+    long expireBefore = System.currentTimeMillis()
+        - TimeUnit.DAYS.toMillis(properties.getHistory().getHourRetentionDays());
+    int before = series.size();
+    series.values().removeIf(poolSeries -> poolSeries.lastWriteTime() < expireBefore);
+    int evicted = before - series.size();
+    if (evicted > 0) {
+      log.info("Evicted {} expired thread pool history series, remaining {}", evicted, series.size());
+    }
+  }
+
+  /**
+   * 序列键：有应用元数据时取应用名称与实例标识，否则取连接地址
+   */
+  private String seriesKey(String clientAddress, String poolName) {
+    ClientInfo info = adminServer.getClientRegistry().get(clientAddress);
+    if (info != null && info.hasMetadata() && info.getInstanceId() != null) {
+      return info.getAppName() + '/' + info.getInstanceId() + '|' + poolName;
+    }
+    return clientAddress + '|' + poolName;
+  }
+
+  private PoolSeries newSeries() {
+    ThreadPoolMonitorProperties.History history = properties.getHistory();
+    long refreshMillis = Math.max(1000, properties.getRefreshIntervalMillis());
+    int rawCapacity = (int) Math.max(1, TimeUnit.MINUTES.toMillis(history.getRawRetentionMinutes()) / refreshMillis);
+    int minuteCapacity = (int) TimeUnit.HOURS.toMinutes(history.getMinuteRetentionHours());
+    int hourCapacity = (int) TimeUnit.DAYS.toHours(history.getHourRetentionDays());
+    return new PoolSeries(rawCapacity, minuteCapacity, hourCapacity);
+  }
+
+  /**
+   * 历史查询结果
+   *
+   * @param resolution 实际分辨率
+   * @param timestamps 时间戳
+   * @param avg        各指标均值（计数类为桶内最后值），按 {@link PoolMetric} 序号索引
+   * @param max        各指标桶内最大值，按 {@link PoolMetric} 序号索引
+   */
+  public record HistoryRange(HistoryResolution resolution, long[] timestamps, float[][] avg, float[][] max) {
+
+    HistoryRange(HistoryResolution resolution, MetricRing.MetricRange range) {
+      this(resolution, range.timestamps, range.avg, range.max);
+    }
+  }
+
+  /**
+   * 单个线程池的三级序列
+   */
+  private static final class PoolSeries {
+
+    private final MetricRing raw;
+
+    private final MetricRing minute;
+
+    private final MetricRing hour;
+
+    private final Bucket minuteBucket = new Bucket(HistoryResolution.MINUTE.getBucketMillis());
+
+    private final Bucket hourBucket = new Bucket(HistoryResolution.HOUR.getBucketMillis());
+
+    private final float[] sample = new float[PoolMetric.count()];
+
+    private volatile long lastWriteTime;
+
+    private PoolSeries(int rawCapacity, int minuteCapacity, int hourCapacity) {
+      this.raw = new MetricRing(rawCapacity, true);
+      this.minute = new MetricRing(minuteCapacity, false);
+      this.hour = new MetricRing(hourCapacity, false);
+    }
+
+    private synchronized void append(long timestamp, ThreadPoolStats stats) {
+      for (int m = 0; m < sample.length; m++) {
+        sample[m] = (float) PoolMetric.of(m).read(stats);
+      }
+      raw.append(timestamp, sample, sample);
+      if (minuteBucket.isClosedBy(timestamp)) {
+        minuteBucket.flushTo(minute);
+        if (hourBucket.isClosedBy(minuteBucket.start)) {
+          hourBucket.flushTo(hour);
+        }
+        hourBucket.add(minuteBucket.start, minuteBucket.avg, minuteBucket.max, minuteBucket.count);
+        minuteBucket.reset();
+      }
+      minuteBucket.add(timestamp, sample, sample, 1);
+      lastWriteTime = timestamp;
+    }
+
+    private synchronized MetricRing.MetricRange range(HistoryResolution resolution, long from, long to) {
+      return switch (resolution) {
+        case RAW -> raw.range(from, to);
+        case MINUTE -> minute.range(from, to);
+        case HOUR -> hour.range(from, to);
+      };
+    }
+
+    private long lastWriteTime() {
+      return lastWriteTime;
+    }
+  }
+
+  /**
+   * 降采样桶，累加均值与最大值；计数类指标保留最后值
+   */
+  private static final class Bucket {
+
+    private final long widthMillis;
+
+    private final double[] sum = new double[PoolMetric.count()];
+
+    private final float[] avg = new float[PoolMetric.count()];
+
+    private final float[] max = new float[PoolMetric.count()];
+
+    private long start = -1;
+
+    private int count;
+
+    private Bucket(long widthMillis) {
+      this.widthMillis = widthMillis;
+    }
+
+    private boolean isClosedBy(long timestamp) {
+      return count > 0 && timestamp - timestamp % widthMillis != start;
+    }
+
+    private void add(long timestamp, float[] avgValues, float[] maxValues, int weight) {
+      if (count == 0) {
+        start = timestamp - timestamp % widthMillis;
+      }
+      for (int m = 0; m < sum.length; m++) {
+        if (PoolMetric.of(m).isCounter()) {
+          sum[m] = avgValues[m];
+        } else {
+          sum[m] += (double) avgValues[m] * weight;
+        }
+        if (count == 0 || maxValues[m] > max[m]) {
+          max[m] = maxValues[m];
+        }
+      }
+      count += weight;
+    }
+
+    private void flushTo(MetricRing ring) {
+      for (int m = 0; m < sum.length; m++) {
+        avg[m] = PoolMetric.of(m).isCounter() ? (float) sum[m] : (float) (sum[m] / count);
+      }
+      ring.append(start, avg, max);
+    }
+
+    private void reset() {
+      Arrays.fill(sum, 0);
+      count = 0;
+      start = -1;
+    }
+  }
+}
@@ -0,0 +1,356 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.common.exception.BizException;
+import com.izpan.infrastructure.util.JacksonUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 线程池实时指标推送中心
+ * <p>
+ * 在 ingest 线程中将每次快照与上一次推送的内容按线程池比较，仅推送有变化或被移除的线程池；
+ * 每个事件只序列化一次，由单一发送线程分发给全部订阅者，订阅者数量不影响对客户端的采集压力。
+ * 新订阅者先收到一次全量事件，之后只接收增量事件。
+ * 集群模式下其他节点客户端的快照在每次拉取后于发送线程中按同样方式比较并推送，任一节点都能订阅全部客户端。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolMetricsHub
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+public class ThreadPoolMetricsHub implements ThreadPoolSnapshotListener {
+
+  private static final String EVENT_SNAPSHOT = "snapshot";
+
+  private static final String EVENT_REMOVED = "removed";
+
+  /**
+   * 发送队列容量，积压超过该值时丢弃新的事件
+   */
+  private static final int SEND_QUEUE_CAPACITY = 1024;
+
+  private final ThreadPoolMonitorProperties properties;
+
+  private final ThreadPoolSnapshotStore snapshotStore;
+
+  private final ClusterSnapshotView clusterView;
+
+  /**
+   * 每个客户端最近一次推送的线程池数据，仅在 ingest 线程中访问
+   */
+  private final Map<String, Map<String, ThreadPoolStats>> published = new HashMap<>();
+
+  /**
+   * 其他节点客户端最近一次推送的线程池数据，仅在发送线程中访问
+   */
+  private final Map<String, Map<String, ThreadPoolStats>> peerPublished = new HashMap<>();
+
+  private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+  /**
+   * 已占用的订阅名额，包含尚未收到全量事件的订阅，连接结束时归还
+   */
+  private final AtomicInteger subscriberSlots = new AtomicInteger();
+
+  private final LongAdder droppedEvents = new LongAdder();
+
+  private final ThreadPoolExecutor sender;
+
+  public ThreadPoolMetricsHub(ThreadPoolMonitorProperties properties, ThreadPoolSnapshotStore snapshotStore,
+                              ClusterSnapshotView clusterView) {
+    this.properties = properties;
+    this.snapshotStore = snapshotStore;
+    this.clusterView = clusterView;
+    this.sender = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY),
+        r -> {
+          Thread t = new Thread(r, "ThreadPoolMetricsHub");
+          t.setDaemon(true);
+          return t;
+        },
+        (r, executor) -> {
+          if (r instanceof InitialSnapshotTask task) {
+            task.reject();
+          } else {
+            droppedEvents.increment();
+          }
+        });
+    clusterView.addPeerListener(peers -> sender.execute(() -> publishPeers(peers)));
+  }
+
+  /**
+   * 订阅线程池实时指标
+   *
+   * @param clientId 客户端ID，为空时订阅全部客户端
+   * @return SSE 连接
+   */
+  public SseEmitter subscribe(String clientId) {
+    ThreadPoolMonitorProperties.Stream config = properties.getStream();
+    // 先占用名额再检查，并发订阅不会超过上限
+    if (subscriberSlots.incrementAndGet() > config.getMaxSubscribers()) {
+      subscriberSlots.decrementAndGet();
+      throw new BizException("实时指标订阅数已达上限");
+    }
+    SseEmitter emitter = new SseEmitter(config.getTimeoutMillis());
+    Subscription subscription = new Subscription(emitter, clientId);
+    emitter.onCompletion(() -> close(subscription));
+    emitter.onTimeout(() -> close(subscription));
+    emitter.onError(e -> close(subscription));
+    // 全量事件与后续增量事件经同一发送线程排队，保证订阅者先收到全量
+    sender.execute(new InitialSnapshotTask(subscription));
+    return emitter;
+  }
+
+  @Override
+  public void onSnapshot(ThreadPoolSnapshot snapshot) {
+    String data = diff(published, snapshot);
+    if (data != null) {
+      sender.execute(() -> publish(snapshot.getClientAddress(), EVENT_SNAPSHOT, data));
+    }
+  }
+
+  /**
+   * 推送其他节点客户端的变化，在发送线程中执行；客户端已切换到本节点时由 ingest 线程负责
+   */
+  private void publishPeers(Collection<ThreadPoolSnapshot> peers) {
+    Set<String> current = HashSet.newHashSet(peers.size());
+    for (ThreadPoolSnapshot snapshot : peers) {
+      if (snapshotStore.get(snapshot.getClientAddress()) != null) {
+        continue;
+      }
+      current.add(snapshot.getClientAddress());
+      String data = diff(peerPublished, snapshot);
+      if (data != null) {
+        publish(snapshot.getClientAddress(), EVENT_SNAPSHOT, data);
+      }
+    }
+    List<String> gone = new ArrayList<>();
+    for (String clientAddress : peerPublished.keySet()) {
+      if (!current.contains(clientAddress)) {
+        gone.add(clientAddress);
+      }
+    }
+    for (String clientAddress : gone) {
+      peerPublished.remove(clientAddress);
+      // 客户端切换到本节点时不是移除
+      if (snapshotStore.get(clientAddress) == null && !subscriptions.isEmpty()) {
+        publish(clientAddress, EVENT_REMOVED, JacksonUtil.toJson(Map.of("clientId", clientAddress)));
+      }
+    }
+  }
+
+  /**
+   * 与上一次推送的内容按线程池比较并记录本次内容
+   *
+   * @return 增量事件内容，无变化或无订阅者时为 {@code null}
+   */
+  private String diff(Map<String, Map<String, ThreadPoolStats>> publishedPools, ThreadPoolSnapshot snapshot) {
+    Map<String, ThreadPoolStats> previous = publishedPools.getOrDefault(snapshot.getClientAddress(), Map.of());
+    Map<String, ThreadPoolStats> current = LinkedHashMap.newLinkedHashMap(snapshot.getPools().size());
+    List<ThreadPoolStats> changed = new ArrayList<>();
+    for (ThreadPoolStats pool : snapshot.getPools()) {
+      current.put(pool.getPoolName(), pool);
+      if (!Objects.equals(previous.get(pool.getPoolName()), pool)) {
+        changed.add(pool);
+      }
+    }
+    List<String> removed = new ArrayList<>();
+    for (String poolName : previous.keySet()) {
+      if (!current.containsKey(poolName)) {
+        removed.add(poolName);
+      }
+    }
+    publishedPools.put(snapshot.getClientAddress(), current);
+    if ((changed.isEmpty() && removed.isEmpty()) || subscriptions.isEmpty()) {
+      return null;
+    }
+    return serialize(snapshot, false, changed, removed);
+  }
+
+  @Override
+  public void onClientRemoved(String clientAddress) {
+    published.remove(clientAddress);
+    if (subscriptions.isEmpty()) {
+      return;
+    }
+    String data = JacksonUtil.toJson(Map.of("clientId", clientAddress));
+    sender.execute(() -> publish(clientAddress, EVENT_REMOVED, data));
+  }
+
+  /**
+   * 定期发送心跳注释，及时发现并清理已断开的订阅
+   */
+  @Scheduled(fixedRateString = "${dynamic-tp.admin.monitor.stream.heartbeat-millis:15000}")
+  public void heartbeat() {
+    if (!subscriptions.isEmpty()) {
+      sender.execute(() -> {
+        for (Subscription subscription : subscriptions) {
+          if (!subscription.heartbeat()) {
+            close(subscription);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * 当前订阅数
+   *
+   * @return 订阅数
+   */
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /**
+   * 因发送积压被丢弃的事件数
+   *
+   * @return 丢弃数
+   */
+  public long getDroppedEvents() {
+    return droppedEvents.sum();
+  }
+
+  private void publish(String clientAddress, String eventName, String data) {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.accepts(clientAddress) && !subscription.send(eventName, data)) {
+        close(subscription);
+      }
+    }
+  }
+
+  /**
+   * 移除订阅并归还名额，同一订阅重复调用时只归还一次
+   */
+  private void close(Subscription subscription) {
+    subscriptions.remove(subscription);
+    if (subscription.closed.compareAndSet(false, true)) {
+      subscriberSlots.decrementAndGet();
+    }
+  }
+
+  private static String serialize(ThreadPoolSnapshot snapshot, boolean full, List<ThreadPoolStats> pools,
+                                  List<String> removed) {
+    return JacksonUtil.toJson(new MetricsEvent(snapshot.getClientAddress(), snapshot.getCollectTime(), full, pools,
+        removed));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sender.shutdownNow();
+    subscriptions.forEach(subscription -> subscription.emitter.complete());
+    subscriptions.clear();
+  }
+
+  /**
+   * 推送事件内容
+   *
+   * @param clientId    客户端ID
+   * @param collectTime 采集时间（毫秒时间戳）
+   * @param full        是否为全量事件
+   * @param pools       全量事件为全部线程池，增量事件为有变化的线程池
+   * @param removed     已移除的线程池名称
+   */
+  record MetricsEvent(String clientId, long collectTime, boolean full, List<ThreadPoolStats> pools,
+                      List<String> removed) {
+  }
+
+  /**
+   * 向新订阅者发送全量事件，完成后加入订阅集合；发送队列已满时以错误结束连接，不让订阅者一直等待
+   */
+  private final class InitialSnapshotTask implements Runnable {
+
+    private final Subscription subscription;
+
+    private InitialSnapshotTask(Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void run() {
+      for (ThreadPoolSnapshot snapshot : clusterView.all()) {
+        if (subscription.accepts(snapshot.getClientAddress())
+            && !subscription.send(EVENT_SNAPSHOT, serialize(snapshot, true, snapshot.getPools(), List.of()))) {
+          close(subscription);
+          return;
+        }
+      }
+      subscriptions.add(subscription);
+      // 发送全量期间连接已结束时，回调可能早于加入集合执行
+      if (subscription.closed.get()) {
+        subscriptions.remove(subscription);
+      }
+    }
+
+    private void reject() {
+      log.warn("Thread pool metrics send queue is full, rejecting new subscriber");
+      close(subscription);
+      subscription.emitter.completeWithError(new BizException("实时指标推送繁忙，请稍后重试"));
+    }
+  }
+
+  private static final class Subscription {
+
+    private final SseEmitter emitter;
+
+    private final String clientId;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Subscription(SseEmitter emitter, String clientId) {
+      this.emitter = emitter;
+      this.clientId = clientId;
+    }
+
+    private boolean accepts(String clientAddress) {
+      return clientId == null || clientId.equals(clientAddress);
+    }
+
+    private boolean send(String eventName, String data) {
+      try {
+        emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        return true;
+      } catch (IOException | IllegalStateException e) {
+        log.debug("Thread pool metrics subscriber disconnected: {}", e.getMessage());
+        emitter.completeWithError(e);
+        return false;
+      }
+    }
+
+    private boolean heartbeat() {
+      try {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+        return true;
+      } catch (IOException | IllegalStateException e) {
+        emitter.completeWithError(e);
+        return false;
+      }
+    }
+  }
+}
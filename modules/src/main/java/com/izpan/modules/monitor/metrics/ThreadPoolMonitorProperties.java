@@ -0,0 +1,272 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.modules.monitor.alarm.AlarmRule;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 线程池监控配置
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolMonitorProperties
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "dynamic-tp.admin.monitor")
+public class ThreadPoolMonitorProperties {
+
+  /**
+   * 快照采集间隔（毫秒）
+   */
+  private long refreshIntervalMillis = 10000;
+
+  /**
+   * 单轮采集的请求截止时间（毫秒）
+   */
+  private long requestTimeoutMillis = 5000;
+
+  /**
+   * 快照超过该时长未刷新即视为过期（毫秒）
+   */
+  private long staleThresholdMillis = 30000;
+
+  /**
+   * 历史指标配置
+   */
+  private History history = new History();
+
+  /**
+   * 实时指标推送配置
+   */
+  private Stream stream = new Stream();
+
+  /**
+   * 热点线程池检测配置
+   */
+  private Hot hot = new Hot();
+
+  /**
+   * 告警规则配置
+   */
+  private Alarm alarm = new Alarm();
+
+  /**
+   * 指标归档配置
+   */
+  private Archive archive = new Archive();
+
+  /**
+   * 容量建议配置
+   */
+  private Recommend recommend = new Recommend();
+
+  @Data
+  public static class History {
+
+    /**
+     * 是否记录历史指标
+     */
+    private boolean enabled = true;
+
+    /**
+     * 原始采样保留时长（分钟）
+     */
+    private int rawRetentionMinutes = 60;
+
+    /**
+     * 1 分钟降采样保留时长（小时）
+     */
+    private int minuteRetentionHours = 6;
+
+    /**
+     * 1 小时降采样保留时长（天）
+     */
+    private int hourRetentionDays = 7;
+  }
+
+  @Data
+  public static class Stream {
+
+    /**
+     * 单个 SSE 连接的最长存活时间（毫秒），到期后由前端重连
+     */
+    private long timeoutMillis = 1800000;
+
+    /**
+     * 心跳间隔（毫秒）
+     */
+    private long heartbeatMillis = 15000;
+
+    /**
+     * 最大订阅数
+     */
+    private int maxSubscribers = 256;
+  }
+
+  @Data
+  public static class Hot {
+
+    /**
+     * 是否检测热点线程池
+     */
+    private boolean enabled = true;
+
+    /**
+     * 保留的热点线程池数量
+     */
+    private int topK = 50;
+
+    /**
+     * 队列填充率权重
+     */
+    private double queueWeight = 0.35;
+
+    /**
+     * 活跃线程占比权重
+     */
+    private double activeWeight = 0.25;
+
+    /**
+     * 拒绝速率权重
+     */
+    private double rejectWeight = 0.25;
+
+    /**
+     * tp99 权重
+     */
+    private double latencyWeight = 0.15;
+
+    /**
+     * 拒绝速率归一化尺度（次 / 秒），拒绝速率等于该值时得分约 0.63
+     */
+    private double rejectRateScale = 1;
+
+    /**
+     * tp99 归一化参考值（毫秒），tp99 等于该值时得分为 0.5
+     */
+    private double tp99ReferenceMillis = 1000;
+  }
+
+  @Data
+  public static class Alarm {
+
+    /**
+     * 是否在管理端评估告警规则
+     */
+    private boolean enabled = true;
+
+    /**
+     * 待落库告警事件的最大积压数
+     */
+    private int maxPendingEvents = 10000;
+
+    /**
+     * 告警事件落库间隔（毫秒）
+     */
+    private long flushIntervalMillis = 5000;
+
+    /**
+     * 告警规则
+     */
+    private List<AlarmRule> rules = new ArrayList<>();
+  }
+
+  @Data
+  public static class Archive {
+
+    /**
+     * 是否将采样后的线程池指标写入 mon_thread_pool_metric
+     */
+    private boolean enabled = false;
+
+    /**
+     * 同一客户端两次归档的最小间隔（毫秒）
+     */
+    private long sampleIntervalMillis = 60000;
+
+    /**
+     * 单条 INSERT 写入的最大行数，积压达到该值时立即写入
+     */
+    private int batchSize = 500;
+
+    /**
+     * 待写入记录的最大积压数，超出后丢弃新记录
+     */
+    private int maxPendingRows = 50000;
+
+    /**
+     * 未达到批量大小时的写入间隔（毫秒）
+     */
+    private long flushIntervalMillis = 5000;
+
+    /**
+     * 清理任务默认保留天数
+     */
+    private int retentionDays = 30;
+
+    /**
+     * 清理任务单次删除行数
+     */
+    private int purgeChunkSize = 5000;
+
+    /**
+     * 清理任务预建按天分区的天数，表未按天分区时忽略
+     */
+    private int partitionDaysAhead = 7;
+  }
+
+  @Data
+  public static class Recommend {
+
+    /**
+     * 默认统计窗口（分钟）
+     */
+    private int windowMinutes = 60;
+
+    /**
+     * 窗口内少于该采样数时不给出建议
+     */
+    private int minSamples = 10;
+
+    /**
+     * 目标线程利用率，按利特尔法则估算的并发数除以该值得到线程数
+     */
+    private double targetUtilization = 0.75;
+
+    /**
+     * 峰值 tps 下可接受的最长排队时间（毫秒），用于估算队列容量
+     */
+    private long maxQueueWaitMillis = 1000;
+
+    /**
+     * 出现拒绝或队列打满时最大线程数的放大系数
+     */
+    private double burstFactor = 1.5;
+
+    /**
+     * 建议值与当前值相差不足该比例时保持当前值，避免频繁调整
+     */
+    private double minChangeRatio = 0.1;
+
+    /**
+     * 最大线程数上限
+     */
+    private int maxPoolSizeLimit = 512;
+
+    /**
+     * 队列容量下限
+     */
+    private int minQueueCapacity = 16;
+
+    /**
+     * 队列容量上限
+     */
+    private int maxQueueCapacity = 100000;
+  }
+}
@@ -0,0 +1,213 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.common.exception.BizException;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolBO;
+import lombok.RequiredArgsConstructor;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 线程池内存查询引擎
+ * <p>
+ * 直接遍历 {@link ClusterSnapshotView} 中的快照，按 {@link MonThreadPoolBO} 过滤后用容量为 limit 的堆取前 limit 条，
+ * 复杂度 O(n log limit)，不对全部线程池排序也不复制全量列表。
+ * 排序键为（排序值，客户端ID，线程池名称），是全序关系，游标记录上一页最后一条的排序键，翻页结果稳定。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolQueryEngine
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Component
+@RequiredArgsConstructor
+public class ThreadPoolQueryEngine {
+
+  private static final char CURSOR_SEPARATOR = '\n';
+
+  private final ClusterSnapshotView clusterView;
+
+  private final ThreadPoolAggregator aggregator;
+
+  private final HotPoolDetector hotPoolDetector;
+
+  /**
+   * 查询线程池
+   *
+   * @param query  查询条件，{@code cursor} 不为空时忽略 offset
+   * @param offset 跳过的条数，用于页码分页
+   * @param limit  返回条数
+   * @return 查询结果
+   */
+  public ThreadPoolQueryResult query(MonThreadPoolBO query, int offset, int limit) {
+    ThreadPoolSortField sortField = query.getSortField();
+    boolean descending = sortField != null && !"asc".equalsIgnoreCase(query.getSortOrder());
+    Comparator<Row> order = comparator(sortField != null, descending);
+    Row after = query.getCursor() == null || query.getCursor().isBlank() ? null : decodeCursor(query.getCursor());
+    int keep = after == null ? (int) Math.min(Integer.MAX_VALUE, (long) offset + limit) : limit;
+    String poolName = lowerCase(query.getPoolName());
+    String poolAliasName = lowerCase(query.getPoolAliasName());
+
+    // 大顶堆，堆顶为当前保留结果中排序最靠后的一条
+    PriorityQueue<Row> heap = new PriorityQueue<>(Math.clamp(keep, 1, 1024) + 1, order.reversed());
+    long total = 0;
+    for (ThreadPoolSnapshot snapshot : clusterView.all()) {
+      String clientId = snapshot.getClientAddress();
+      if (query.getClientId() != null && !query.getClientId().equals(clientId)) {
+        continue;
+      }
+      String appName = aggregator.resolveAppName(clientId);
+      if (query.getAppName() != null && !query.getAppName().equals(appName)) {
+        continue;
+      }
+      ToDoubleFunction<ThreadPoolStats> hotness = pool -> hotPoolDetector.score(clientId, pool);
+      for (ThreadPoolStats pool : snapshot.getPools()) {
+        if (!matches(query, poolName, poolAliasName, pool)) {
+          continue;
+        }
+        total++;
+        Row row = new Row(sortField == null ? 0 : sortField.value(pool, hotness), clientId, pool.getPoolName(),
+            appName, pool);
+        if (keep <= 0 || (after != null && order.compare(row, after) <= 0)) {
+          continue;
+        }
+        if (heap.size() < keep) {
+          heap.offer(row);
+        } else if (order.compare(row, heap.peek()) < 0) {
+          heap.poll();
+          heap.offer(row);
+        }
+      }
+    }
+
+    List<Row> rows = new ArrayList<>(heap);
+    rows.sort(order);
+    if (after == null) {
+      rows = rows.subList(Math.min(offset, rows.size()), rows.size());
+    }
+    String nextCursor = rows.size() < limit || rows.isEmpty() ? null : encodeCursor(rows.getLast());
+    return new ThreadPoolQueryResult(rows, total, nextCursor);
+  }
+
+  /**
+   * 队列使用率（0 ~ 1），无界或容量未知时为 0
+   *
+   * @param stats 线程池数据
+   * @return 队列使用率
+   */
+  public static double queueUsage(ThreadPoolStats stats) {
+    return stats.getQueueCapacity() <= 0 ? 0 : (double) stats.getQueueSize() / stats.getQueueCapacity();
+  }
+
+  /**
+   * 线程使用率（0 ~ 1），即活跃线程数 / 最大线程数
+   *
+   * @param stats 线程池数据
+   * @return 线程使用率
+   */
+  public static double poolUsage(ThreadPoolStats stats) {
+    return stats.getMaximumPoolSize() <= 0 ? 0 : (double) stats.getActiveCount() / stats.getMaximumPoolSize();
+  }
+
+  private static boolean matches(MonThreadPoolBO query, String poolName, String poolAliasName, ThreadPoolStats pool) {
+    if (poolName != null && (pool.getPoolName() == null
+        || !pool.getPoolName().toLowerCase(Locale.ROOT).contains(poolName))) {
+      return false;
+    }
+    if (poolAliasName != null && (pool.getPoolAliasName() == null
+        || !pool.getPoolAliasName().toLowerCase(Locale.ROOT).contains(poolAliasName))) {
+      return false;
+    }
+    if (query.getQueueType() != null && !query.getQueueType().equalsIgnoreCase(pool.getQueueType())) {
+      return false;
+    }
+    if (query.getDynamic() != null && query.getDynamic() != pool.isDynamic()) {
+      return false;
+    }
+    if (query.getMinActiveThreads() != null && pool.getActiveCount() < query.getMinActiveThreads()) {
+      return false;
+    }
+    if (query.getMaxActiveThreads() != null && pool.getActiveCount() > query.getMaxActiveThreads()) {
+      return false;
+    }
+    // 使用率条件与页面展示一致，按百分比传入
+    double queueUsageRate = queueUsage(pool) * 100;
+    if (query.getMinQueueUsageRate() != null && queueUsageRate < query.getMinQueueUsageRate()) {
+      return false;
+    }
+    if (query.getMaxQueueUsageRate() != null && queueUsageRate > query.getMaxQueueUsageRate()) {
+      return false;
+    }
+    double poolUsageRate = poolUsage(pool) * 100;
+    if (query.getMinPoolUsageRate() != null && poolUsageRate < query.getMinPoolUsageRate()) {
+      return false;
+    }
+    return query.getMaxPoolUsageRate() == null || poolUsageRate <= query.getMaxPoolUsageRate();
+  }
+
+  private static Comparator<Row> comparator(boolean sorted, boolean descending) {
+    Comparator<Row> byValue = Comparator.comparingDouble(Row::sortValue);
+    Comparator<Row> tieBreaker = Comparator.comparing(Row::clientId).thenComparing(Row::poolName,
+        Comparator.nullsFirst(Comparator.naturalOrder()));
+    if (!sorted) {
+      return tieBreaker;
+    }
+    return (descending ? byValue.reversed() : byValue).thenComparing(tieBreaker);
+  }
+
+  private static String lowerCase(String value) {
+    return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static String encodeCursor(Row row) {
+    String key = row.sortValue() + String.valueOf(CURSOR_SEPARATOR) + row.clientId() + CURSOR_SEPARATOR
+        + (row.poolName() == null ? "" : row.poolName());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Row decodeCursor(String cursor) {
+    try {
+      String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int first = key.indexOf(CURSOR_SEPARATOR);
+      int second = key.indexOf(CURSOR_SEPARATOR, first + 1);
+      if (first < 0 || second < 0) {
+        throw new BizException("无效的分页游标");
+      }
+      return new Row(Double.parseDouble(key.substring(0, first)), key.substring(first + 1, second),
+          key.substring(second + 1), null, null);
+    } catch (IllegalArgumentException e) {
+      throw new BizException("无效的分页游标");
+    }
+  }
+
+  /**
+   * 查询结果中的一行
+   *
+   * @param sortValue 排序值，未指定排序字段时为 0
+   * @param clientId  客户端ID
+   * @param poolName  线程池名称
+   * @param appName   应用名称
+   * @param stats     线程池数据
+   */
+  public record Row(double sortValue, String clientId, String poolName, String appName, ThreadPoolStats stats) {
+  }
+
+  /**
+   * 查询结果
+   *
+   * @param rows       当前页数据
+   * @param total      满足过滤条件的总数
+   * @param nextCursor 下一页游标，没有更多数据时为 {@code null}
+   */
+  public record ThreadPoolQueryResult(List<Row> rows, long total, String nextCursor) {
+  }
+}
@@ -0,0 +1,21 @@
+package com.izpan.modules.monitor.metrics;
+
+import java.util.Map;
+
+/**
+ * 线程池多维度汇总结果，由 {@link ThreadPoolAggregator#rollup} 一次遍历生成
+ *
+ * @param fleet   全局汇总
+ * @param apps    按应用汇总，未上报应用名的客户端归入 {@link ThreadPoolAggregator#UNKNOWN_APP}
+ * @param clients 按客户端汇总
+ * @param pools   按线程池名称跨客户端汇总
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolRollup
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public record ThreadPoolRollup(ThreadPoolAggregate fleet,
+                               Map<String, ThreadPoolAggregate> apps,
+                               Map<String, ThreadPoolAggregate> clients,
+                               Map<String, ThreadPoolAggregate> pools) {
+}
@@ -0,0 +1,96 @@
+package com.izpan.modules.monitor.metrics;
+
+import lombok.Getter;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.util.List;
+
+/**
+ * 单个客户端的线程池快照，不可变
+ * <p>
+ * 采集失败时保留上一次成功采集的线程池数据，并记录失败原因
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolSnapshot
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Getter
+public final class ThreadPoolSnapshot {
+
+  /**
+   * 客户端地址
+   */
+  private final String clientAddress;
+
+  /**
+   * 数据来源
+   */
+  private final Source source;
+
+  /**
+   * 线程池数据
+   */
+  private final List<ThreadPoolStats> pools;
+
+  /**
+   * 最近一次成功采集时间（毫秒时间戳）
+   */
+  private final long collectTime;
+
+  /**
+   * 最近一次采集耗时（毫秒）
+   */
+  private final long latencyMillis;
+
+  /**
+   * 最近一次采集失败原因，成功时为 {@code null}
+   */
+  private final String errorMessage;
+
+  ThreadPoolSnapshot(String clientAddress, Source source, List<ThreadPoolStats> pools, long collectTime,
+                     long latencyMillis, String errorMessage) {
+    this.clientAddress = clientAddress;
+    this.source = source;
+    this.pools = List.copyOf(pools);
+    this.collectTime = collectTime;
+    this.latencyMillis = latencyMillis;
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * 快照距今时长
+   *
+   * @param now 当前时间（毫秒时间戳）
+   * @return 快照年龄（毫秒）
+   */
+  public long ageMillis(long now) {
+    return collectTime == 0 ? Long.MAX_VALUE : now - collectTime;
+  }
+
+  ThreadPoolSnapshot withError(String errorMessage, long latencyMillis) {
+    return new ThreadPoolSnapshot(clientAddress, source, pools, collectTime, latencyMillis, errorMessage);
+  }
+
+  /**
+   * 快照数据来源
+   */
+  public enum Source {
+
+    /**
+     * 管理端轮询采集
+     */
+    POLL,
+
+    /**
+     * 客户端主动上报
+     */
+    PUSH,
+
+    /**
+     * 集群其他节点同步
+     */
+    PEER
+  }
+}
@@ -0,0 +1,191 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.ClientResponse;
+import com.izpan.infrastructure.server.routing.RoutingStrategy;
+import com.izpan.modules.monitor.util.ThreadPoolStatsUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 线程池快照采集器
+ * <p>
+ * 按固定间隔向所有客户端广播一次 {@code EXECUTOR_MONITOR} 请求并写入 {@link ThreadPoolSnapshotStore}；
+ * 广播为异步执行，不占用调度线程，上一轮未结束时跳过本轮。最近一个周期内主动上报过的客户端不再轮询。
+ * 管理端自身的请求处理线程池以 {@link AdminServer#SELF_CLIENT_ID} 为客户端标识一并写入。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolSnapshotCollector
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThreadPoolSnapshotCollector {
+
+  private final AdminServer adminServer;
+
+  private final ThreadPoolSnapshotStore snapshotStore;
+
+  private final ThreadPoolMonitorProperties properties;
+
+  private final AtomicBoolean collecting = new AtomicBoolean(false);
+
+  /**
+   * 定时采集全部客户端的线程池快照
+   */
+  @Scheduled(fixedDelayString = "${dynamic-tp.admin.monitor.refresh-interval-millis:10000}")
+  public void collect() {
+    if (!collecting.compareAndSet(false, true)) {
+      log.debug("Previous thread pool snapshot collection still running, skip this round");
+      return;
+    }
+    CompletableFuture<Map<String, ClientResponse>> round;
+    try {
+      Set<String> connectedClients = adminServer.getConnectedClients();
+      snapshotStore.retainClients(connectedClients);
+      collectSelf();
+      List<String> pollClients = resolvePollClients(connectedClients);
+      if (pollClients.isEmpty()) {
+        collecting.set(false);
+        return;
+      }
+      round = adminServer.broadcastToClientsAsync(pollClients, AdminRequestTypeEnum.EXECUTOR_MONITOR, null,
+          properties.getRequestTimeoutMillis());
+    } catch (RuntimeException e) {
+      // 广播发出前失败时不会进入回调，需要在这里复位，否则之后的采集都会被跳过
+      collecting.set(false);
+      log.error("Failed to start thread pool snapshot collection", e);
+      return;
+    }
+    round.whenComplete((responses, throwable) -> {
+      try {
+        if (throwable != null) {
+          log.error("Failed to collect thread pool snapshots", throwable);
+        } else {
+          apply(responses);
+        }
+      } finally {
+        collecting.set(false);
+      }
+    });
+  }
+
+  /**
+   * 立即刷新单个客户端的快照，用于客户端刚连接尚未被采集的场景
+   *
+   * @param clientId 客户端地址或实例标识
+   * @return 刷新后的快照，客户端未连接到本节点时为 {@code null}
+   */
+  public ThreadPoolSnapshot refresh(String clientId) {
+    if (AdminServer.SELF_CLIENT_ID.equals(clientId)) {
+      collectSelf();
+      return snapshotStore.get(clientId);
+    }
+    String clientAddress = adminServer.getClientRouter().routeToInstance(clientId);
+    if (clientAddress == null) {
+      return null;
+    }
+    long timeoutMillis = properties.getRequestTimeoutMillis();
+    try {
+      ClientResponse response = adminServer.requestToInstanceAsync(clientAddress,
+              AdminRequestTypeEnum.EXECUTOR_MONITOR, null, timeoutMillis)
+          .get(timeoutMillis, TimeUnit.MILLISECONDS);
+      apply(Map.of(clientAddress, response));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (TimeoutException | ExecutionException e) {
+      snapshotStore.markFailure(clientAddress, e.getMessage(), timeoutMillis);
+    }
+    return snapshotStore.get(clientAddress);
+  }
+
+  /**
+   * 按路由策略选择应用的一个健康实例实时采集，结果同时写入该实例的快照
+   * <p>
+   * 开启对冲时，首个实例未在对冲延迟内返回会向同一应用的另一个实例再发一次，取先返回的结果。
+   * </p>
+   *
+   * @param appName  应用名称
+   * @param strategy 实例选择策略
+   * @return 响应实例的快照，本节点没有该应用的可用实例或请求失败时为 {@code null}
+   */
+  public ThreadPoolSnapshot refreshApp(String appName, RoutingStrategy strategy) {
+    long timeoutMillis = properties.getRequestTimeoutMillis();
+    try {
+      ClientResponse response = adminServer.requestToAppAsync(appName, strategy,
+              AdminRequestTypeEnum.EXECUTOR_MONITOR, null, timeoutMillis)
+          .get(timeoutMillis, TimeUnit.MILLISECONDS);
+      // 没有可用实例时响应以应用名称标识，不能写入快照
+      if (!adminServer.getClientRegistry().contains(response.getClientAddress())) {
+        log.debug("No available client of application {}: {}", appName, response.getErrorMessage());
+        return null;
+      }
+      apply(Map.of(response.getClientAddress(), response));
+      return response.isSuccess() ? snapshotStore.get(response.getClientAddress()) : null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (TimeoutException | ExecutionException e) {
+      log.warn("Failed to collect thread pools of application {}: {}", appName, e.getMessage());
+    }
+    return null;
+  }
+
+  /**
+   * 将管理端自身的请求处理线程池作为一个客户端写入快照，使其与客户端线程池一样可在面板查看
+   */
+  private void collectSelf() {
+    snapshotStore.update(AdminServer.SELF_CLIENT_ID, ThreadPoolSnapshot.Source.POLL,
+        List.of(adminServer.getProcessorStats()), 0);
+  }
+
+  /**
+   * 最近一个采集周期内主动上报过的客户端无需轮询
+   */
+  private List<String> resolvePollClients(Set<String> connectedClients) {
+    long now = System.currentTimeMillis();
+    List<String> pollClients = new ArrayList<>(connectedClients.size());
+    for (String clientAddress : connectedClients) {
+      ThreadPoolSnapshot snapshot = snapshotStore.get(clientAddress);
+      boolean pushedRecently = snapshot != null && snapshot.getSource() == ThreadPoolSnapshot.Source.PUSH
+          && snapshot.ageMillis(now) < properties.getRefreshIntervalMillis();
+      if (!pushedRecently) {
+        pollClients.add(clientAddress);
+      }
+    }
+    return pollClients;
+  }
+
+  private void apply(Map<String, ClientResponse> responses) {
+    for (ClientResponse response : responses.values()) {
+      if (response.isSuccess()) {
+        // 响应通常是 AdminRequestBody 包装体，解包后才能得到线程池数量
+        List<ThreadPoolStats> pools = ThreadPoolStatsUtil.resolve(response.getPayload());
+        snapshotStore.update(response.getClientAddress(), ThreadPoolSnapshot.Source.POLL, pools,
+            response.getLatencyMillis());
+        adminServer.getClientRegistry().updatePoolCount(response.getClientAddress(), pools.size());
+      } else {
+        log.warn("Failed to collect thread pools from Dynamic-TP AdminClient: {}, {}",
+            response.getClientAddress(), response.getErrorMessage());
+        snapshotStore.markFailure(response.getClientAddress(), response.getErrorMessage(),
+            response.getLatencyMillis());
+      }
+    }
+  }
+}
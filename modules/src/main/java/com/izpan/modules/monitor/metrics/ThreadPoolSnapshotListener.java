@@ -0,0 +1,31 @@
+package com.izpan.modules.monitor.metrics;
+
+/**
+ * 线程池快照写入监听器
+ * <p>
+ * 每次快照写入（轮询采集或客户端主动上报）后，由 {@link ThreadPoolSnapshotStore} 在单一的 ingest 线程中依次回调，
+ * 实现类无需考虑并发写入，但需要保证读取方（HTTP 线程）看到的是安全发布的数据。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolSnapshotListener
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface ThreadPoolSnapshotListener {
+
+  /**
+   * 快照写入回调
+   *
+   * @param snapshot 最新快照
+   */
+  void onSnapshot(ThreadPoolSnapshot snapshot);
+
+  /**
+   * 客户端断开、快照被移除时回调
+   *
+   * @param clientAddress 客户端地址
+   */
+  default void onClientRemoved(String clientAddress) {
+  }
+}
@@ -0,0 +1,199 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.infrastructure.server.AdminServer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 线程池快照存储
+ * <p>
+ * 由 {@link ThreadPoolSnapshotCollector} 轮询采集或客户端主动上报写入，所有 REST 读取直接读内存，
+ * 客户端 RPC 压力与打开的监控页面数量无关。
+ * 写入后在单一的 ingest 线程中依次通知 {@link ThreadPoolSnapshotListener}，不占用 RPC 回调线程。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolSnapshotStore
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+public class ThreadPoolSnapshotStore {
+
+  /**
+   * ingest 队列容量，积压超过该值时丢弃新的通知
+   */
+  private static final int INGEST_QUEUE_CAPACITY = 4096;
+
+  private final ThreadPoolMonitorProperties properties;
+
+  private final ObjectProvider<ThreadPoolSnapshotListener> listenerProvider;
+
+  private final Map<String, ThreadPoolSnapshot> snapshots = new ConcurrentHashMap<>();
+
+  private final LongAdder droppedNotifications = new LongAdder();
+
+  private final ThreadPoolExecutor ingestExecutor;
+
+  private volatile List<ThreadPoolSnapshotListener> listeners;
+
+  public ThreadPoolSnapshotStore(ThreadPoolMonitorProperties properties,
+                                 ObjectProvider<ThreadPoolSnapshotListener> listenerProvider) {
+    this.properties = properties;
+    this.listenerProvider = listenerProvider;
+    this.ingestExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(INGEST_QUEUE_CAPACITY),
+        r -> {
+          Thread t = new Thread(r, "ThreadPoolSnapshotIngest");
+          t.setDaemon(true);
+          return t;
+        },
+        (r, executor) -> droppedNotifications.increment());
+  }
+
+  /**
+   * 写入客户端的最新线程池数据
+   *
+   * @param clientAddress 客户端地址
+   * @param source        数据来源
+   * @param pools         线程池数据
+   * @param latencyMillis 采集耗时（毫秒）
+   * @return 写入后的快照
+   */
+  public ThreadPoolSnapshot update(String clientAddress, ThreadPoolSnapshot.Source source,
+                                   List<ThreadPoolStats> pools, long latencyMillis) {
+    ThreadPoolSnapshot snapshot = new ThreadPoolSnapshot(clientAddress, source, pools, System.currentTimeMillis(),
+        latencyMillis, null);
+    snapshots.put(clientAddress, snapshot);
+    ingestExecutor.execute(() -> notifySnapshot(snapshot));
+    return snapshot;
+  }
+
+  /**
+   * 记录客户端采集失败，保留上一次成功采集的数据
+   *
+   * @param clientAddress 客户端地址
+   * @param errorMessage  失败原因
+   * @param latencyMillis 采集耗时（毫秒）
+   */
+  public void markFailure(String clientAddress, String errorMessage, long latencyMillis) {
+    snapshots.compute(clientAddress, (address, previous) -> previous == null
+        ? new ThreadPoolSnapshot(address, ThreadPoolSnapshot.Source.POLL, List.of(), 0, latencyMillis, errorMessage)
+        : previous.withError(errorMessage, latencyMillis));
+  }
+
+  /**
+   * 获取客户端快照
+   *
+   * @param clientAddress 客户端地址
+   * @return 快照，不存在时返回 {@code null}
+   */
+  public ThreadPoolSnapshot get(String clientAddress) {
+    return snapshots.get(clientAddress);
+  }
+
+  /**
+   * 获取全部客户端快照
+   *
+   * @return 快照集合（只读视图）
+   */
+  public Collection<ThreadPoolSnapshot> all() {
+    return snapshots.values();
+  }
+
+  /**
+   * 获取全部客户端的线程池数据
+   *
+   * @return 线程池列表
+   */
+  public List<ThreadPoolStats> allPools() {
+    List<ThreadPoolStats> pools = new ArrayList<>();
+    snapshots.values().forEach(snapshot -> pools.addAll(snapshot.getPools()));
+    return pools;
+  }
+
+  /**
+   * 移除已断开客户端的快照，管理端自身的快照始终保留
+   *
+   * @param connectedClients 当前连接的客户端
+   */
+  public void retainClients(Set<String> connectedClients) {
+    for (String clientAddress : snapshots.keySet()) {
+      if (!AdminServer.SELF_CLIENT_ID.equals(clientAddress) && !connectedClients.contains(clientAddress)
+          && snapshots.remove(clientAddress) != null) {
+        ingestExecutor.execute(() -> notifyRemoved(clientAddress));
+      }
+    }
+  }
+
+  /**
+   * 快照是否已过期
+   *
+   * @param snapshot 快照
+   * @param now      当前时间（毫秒时间戳）
+   * @return 过期返回 true
+   */
+  public boolean isStale(ThreadPoolSnapshot snapshot, long now) {
+    return snapshot.ageMillis(now) > properties.getStaleThresholdMillis();
+  }
+
+  /**
+   * ingest 队列积压导致丢弃的通知数
+   *
+   * @return 丢弃数
+   */
+  public long getDroppedNotifications() {
+    return droppedNotifications.sum();
+  }
+
+  private List<ThreadPoolSnapshotListener> listeners() {
+    List<ThreadPoolSnapshotListener> current = listeners;
+    if (current == null) {
+      current = listenerProvider.orderedStream().toList();
+      listeners = current;
+    }
+    return current;
+  }
+
+  private void notifySnapshot(ThreadPoolSnapshot snapshot) {
+    for (ThreadPoolSnapshotListener listener : listeners()) {
+      try {
+        listener.onSnapshot(snapshot);
+      } catch (Exception e) {
+        log.error("Thread pool snapshot listener {} failed, client: {}",
+            listener.getClass().getSimpleName(), snapshot.getClientAddress(), e);
+      }
+    }
+  }
+
+  private void notifyRemoved(String clientAddress) {
+    for (ThreadPoolSnapshotListener listener : listeners()) {
+      try {
+        listener.onClientRemoved(clientAddress);
+      } catch (Exception e) {
+        log.error("Thread pool snapshot listener {} failed on client removal: {}",
+            listener.getClass().getSimpleName(), clientAddress, e);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    ingestExecutor.shutdownNow();
+  }
+}
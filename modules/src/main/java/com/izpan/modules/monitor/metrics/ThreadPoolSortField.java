@@ -0,0 +1,75 @@
+package com.izpan.modules.monitor.metrics;
+
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 线程池列表排序字段
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolSortField
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public enum ThreadPoolSortField {
+
+  /**
+   * 活跃线程数
+   */
+  ACTIVE_COUNT {
+    @Override
+    public double value(ThreadPoolStats stats, ToDoubleFunction<ThreadPoolStats> hotness) {
+      return stats.getActiveCount();
+    }
+  },
+
+  /**
+   * 拒绝任务数
+   */
+  REJECT_COUNT {
+    @Override
+    public double value(ThreadPoolStats stats, ToDoubleFunction<ThreadPoolStats> hotness) {
+      return stats.getRejectCount();
+    }
+  },
+
+  /**
+   * 队列使用率
+   */
+  QUEUE_USAGE {
+    @Override
+    public double value(ThreadPoolStats stats, ToDoubleFunction<ThreadPoolStats> hotness) {
+      return ThreadPoolQueryEngine.queueUsage(stats);
+    }
+  },
+
+  /**
+   * tp99 耗时
+   */
+  TP99 {
+    @Override
+    public double value(ThreadPoolStats stats, ToDoubleFunction<ThreadPoolStats> hotness) {
+      return stats.getTp99();
+    }
+  },
+
+  /**
+   * 热度，即 {@link HotPoolDetector} 的压力分，与热点线程池排名一致
+   */
+  HOTNESS {
+    @Override
+    public double value(ThreadPoolStats stats, ToDoubleFunction<ThreadPoolStats> hotness) {
+      return hotness.applyAsDouble(stats);
+    }
+  };
+
+  /**
+   * 取线程池的排序值
+   *
+   * @param stats   线程池数据
+   * @param hotness 该线程池所属客户端的压力分计算方式
+   * @return 排序值
+   */
+  public abstract double value(ThreadPoolStats stats, ToDoubleFunction<ThreadPoolStats> hotness);
+}
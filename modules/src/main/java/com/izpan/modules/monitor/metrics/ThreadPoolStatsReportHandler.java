@@ -0,0 +1,59 @@
+package com.izpan.modules.monitor.metrics;
+
+import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.handler.AdminRequestHandler;
+import com.izpan.modules.monitor.util.ThreadPoolStatsUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 客户端主动上报线程池指标处理器
+ * <p>
+ * Dynamic-TP AdminClient 按自身节奏推送 {@code EXECUTOR_MONITOR} 数据，直接写入快照存储，
+ * 免去管理端轮询的往返请求。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.ThreadPoolStatsReportHandler
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThreadPoolStatsReportHandler implements AdminRequestHandler {
+
+  private final ThreadPoolSnapshotStore snapshotStore;
+
+  private final AdminServer adminServer;
+
+  @Override
+  public AdminRequestTypeEnum requestType() {
+    return AdminRequestTypeEnum.EXECUTOR_MONITOR;
+  }
+
+  @Override
+  public Object handle(String clientAddress, AdminRequestBody requestBody) {
+    if (clientAddress == null) {
+      log.warn("Discard thread pool report without client address");
+      return null;
+    }
+    List<ThreadPoolStats> pools;
+    try {
+      pools = ThreadPoolStatsUtil.resolve(adminServer.decodeSnapshot(clientAddress, requestBody));
+    } catch (IllegalStateException e) {
+      // 会话已重置，下一轮轮询会要求客户端发送全量帧
+      return null;
+    }
+    snapshotStore.update(clientAddress, ThreadPoolSnapshot.Source.PUSH, pools, 0);
+    adminServer.getClientRegistry().updatePoolCount(clientAddress, pools.size());
+    log.debug("Ingested {} thread pools pushed by Dynamic-TP AdminClient: {}", pools.size(), clientAddress);
+    return null;
+  }
+}
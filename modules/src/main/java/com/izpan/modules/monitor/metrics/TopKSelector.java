@@ -0,0 +1,88 @@
+package com.izpan.modules.monitor.metrics;
+
+/**
+ * 基于基本类型数组的 Top-K 选择
+ * <p>
+ * 以下标构成容量为 k 的小顶堆，堆中元素按分数比较，遍历一次即可选出分数最高的 k 个下标，
+ * 复杂度 O(n log k)，不产生装箱对象。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.TopKSelector
+ * @CreateTime 2026/10/18 - 10:00
+ */
+final class TopKSelector {
+
+  private TopKSelector() {
+  }
+
+  /**
+   * 选出分数最高的 k 个下标
+   *
+   * @param scores 分数
+   * @param size   有效长度
+   * @param k      选取个数
+   * @return 下标数组，按分数从高到低排列
+   */
+  static int[] select(double[] scores, int size, int k) {
+    int capacity = Math.min(size, k);
+    if (capacity <= 0) {
+      return new int[0];
+    }
+    int[] heap = new int[capacity];
+    int heapSize = 0;
+    for (int i = 0; i < size; i++) {
+      if (heapSize < capacity) {
+        heap[heapSize] = i;
+        siftUp(heap, heapSize++, scores);
+      } else if (scores[i] > scores[heap[0]]) {
+        heap[0] = i;
+        siftDown(heap, heapSize, scores);
+      }
+    }
+    // 依次弹出堆顶（当前最小）并从尾部写入，得到降序结果
+    int[] result = new int[heapSize];
+    for (int last = heapSize - 1; last >= 0; last--) {
+      result[last] = heap[0];
+      heap[0] = heap[last];
+      siftDown(heap, last, scores);
+    }
+    return result;
+  }
+
+  private static void siftUp(int[] heap, int index, double[] scores) {
+    int item = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (scores[heap[parent]] <= scores[item]) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+    heap[index] = item;
+  }
+
+  private static void siftDown(int[] heap, int size, double[] scores) {
+    if (size == 0) {
+      return;
+    }
+    int index = 0;
+    int item = heap[0];
+    int half = size >>> 1;
+    while (index < half) {
+      int child = 2 * index + 1;
+      int right = child + 1;
+      if (right < size && scores[heap[right]] < scores[heap[child]]) {
+        child = right;
+      }
+      if (scores[item] <= scores[heap[child]]) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = item;
+  }
+}
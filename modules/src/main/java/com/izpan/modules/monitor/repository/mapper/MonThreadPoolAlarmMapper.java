@@ -0,0 +1,16 @@
+package com.izpan.modules.monitor.repository.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+
+/**
+ * 线程池告警事件 Mapper 接口层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.repository.mapper.MonThreadPoolAlarmMapper
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface MonThreadPoolAlarmMapper extends BaseMapper<MonThreadPoolAlarm> {
+
+}
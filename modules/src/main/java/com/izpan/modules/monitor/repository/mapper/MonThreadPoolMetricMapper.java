@@ -0,0 +1,58 @@
+package com.izpan.modules.monitor.repository.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolMetric;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 线程池指标归档 Mapper 接口层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.repository.mapper.MonThreadPoolMetricMapper
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface MonThreadPoolMetricMapper extends BaseMapper<MonThreadPoolMetric> {
+
+  /**
+   * 多行 VALUES 批量写入，一批只产生一条 INSERT 语句
+   *
+   * @param metrics 指标记录，ID 需预先生成
+   * @return 写入行数
+   */
+  int insertBatch(@Param("metrics") List<MonThreadPoolMetric> metrics);
+
+  /**
+   * 删除采集时间早于指定时间的记录，单次最多删除 limit 行，避免大事务长时间持锁
+   *
+   * @param before 截止时间（不含）
+   * @param limit  单次删除上限
+   * @return 删除行数
+   */
+  int deleteBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+  /**
+   * 查询表的分区名
+   *
+   * @return 分区名，按分区顺序排列，未分区时为空
+   */
+  List<String> selectPartitionNames();
+
+  /**
+   * 从 {@code p_max} 拆出新分区
+   *
+   * @param partitions 分区名 -> 上界（不含），按上界升序，需全部晚于已有的按天分区
+   */
+  void addPartitions(@Param("partitions") Map<String, String> partitions);
+
+  /**
+   * 删除分区及其数据
+   *
+   * @param names 分区名
+   */
+  void dropPartitions(@Param("names") List<String> names);
+}
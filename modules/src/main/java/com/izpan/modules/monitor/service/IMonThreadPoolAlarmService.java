@@ -0,0 +1,27 @@
+package com.izpan.modules.monitor.service;
+
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.service.IService;
+import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolAlarmBO;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+
+/**
+ * 线程池告警事件 Service 服务接口层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.service.IMonThreadPoolAlarmService
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface IMonThreadPoolAlarmService extends IService<MonThreadPoolAlarm> {
+
+  /**
+   * 线程池告警事件 - 分页查询
+   *
+   * @param pageQuery            分页对象
+   * @param monThreadPoolAlarmBO BO 查询对象
+   * @return {@link IPage} 分页结果
+   */
+  IPage<MonThreadPoolAlarm> listMonThreadPoolAlarmPage(PageQuery pageQuery, MonThreadPoolAlarmBO monThreadPoolAlarmBO);
+}
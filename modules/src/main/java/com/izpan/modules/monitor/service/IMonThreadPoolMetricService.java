@@ -0,0 +1,63 @@
+package com.izpan.modules.monitor.service;
+
+import com.baomidou.mybatisplus.extension.service.IService;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolMetric;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 线程池指标归档 Service 服务接口层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.service.IMonThreadPoolMetricService
+ * @CreateTime 2026/10/18 - 10:00
+ */
+public interface IMonThreadPoolMetricService extends IService<MonThreadPoolMetric> {
+
+  /**
+   * 以多行 INSERT 批量写入指标记录
+   *
+   * @param metrics 指标记录
+   * @return 写入行数
+   */
+  int insertBatch(List<MonThreadPoolMetric> metrics);
+
+  /**
+   * 分批删除采集时间早于指定时间的记录
+   *
+   * @param before    截止时间（不含）
+   * @param chunkSize 单次删除上限
+   * @return 删除总行数
+   */
+  long purgeBefore(LocalDateTime before, int chunkSize);
+
+  /**
+   * 按采集时间升序查询单个线程池在时间范围内的归档记录，仅返回容量分析所需的列
+   *
+   * @param clientId 客户端ID
+   * @param poolName 线程池名称
+   * @param from     起始时间（含）
+   * @param to       截止时间（含）
+   * @return 归档记录
+   */
+  List<MonThreadPoolMetric> listSeries(String clientId, String poolName, LocalDateTime from, LocalDateTime to);
+
+  /**
+   * 预建从今天起若干天的按天分区，表未按天分区（没有 {@code p_max}）时不做处理
+   *
+   * @param daysAhead 预建天数
+   * @return 新建的分区名
+   */
+  List<String> createPartitions(int daysAhead);
+
+  /**
+   * 删除整天早于指定日期的按天分区
+   *
+   * @param before 截止日期（不含）
+   * @return 删除的分区名
+   */
+  List<String> dropPartitionsBefore(LocalDate before);
+}
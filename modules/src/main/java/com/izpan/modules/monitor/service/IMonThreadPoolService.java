@@ -2,8 +2,21 @@ package com.izpan.modules.monitor.service;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.infrastructure.server.routing.RoutingStrategy;
 import com.izpan.modules.monitor.domain.bo.MonThreadPoolBO;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolRecommendBO;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolRefreshBO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolGroupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHistoryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHotVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolQueryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRecommendVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRefreshVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRollupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolSnapshotVO;
+import com.izpan.modules.monitor.metrics.HistoryResolution;
 import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -26,6 +39,32 @@ public interface IMonThreadPoolService {
    */
   IPage<ThreadPoolStats> listMonThreadPoolPage(PageQuery pageQuery, MonThreadPoolBO monThreadPoolBO);
 
+  /**
+   * 线程池监控 - 过滤、排序与游标分页查询
+   *
+   * @param monThreadPoolBO BO 查询对象
+   * @param limit           返回条数
+   * @return 查询结果
+   */
+  MonThreadPoolQueryVO queryThreadPools(MonThreadPoolBO monThreadPoolBO, int limit);
+
+  /**
+   * 获取当前压力最高的线程池
+   *
+   * @param limit 返回条数
+   * @return 按压力分从高到低排列的线程池
+   */
+  List<MonThreadPoolHotVO> listHotPools(int limit);
+
+  /**
+   * 按（应用名称, 线程池名称）聚合各实例的同名线程池
+   *
+   * @param appName  应用名称，为空时不过滤
+   * @param poolName 线程池名称关键字，为空时不过滤
+   * @return 逻辑线程池及其实例分布
+   */
+  List<MonThreadPoolGroupVO> listPoolGroups(String appName, String poolName);
+
   /**
    * 获取线程池统计数据
    *
@@ -34,6 +73,21 @@ public interface IMonThreadPoolService {
   // 可根据ThreadPoolStats实际情况调整返回类型
   ThreadPoolStats getStatistics();
 
+  /**
+   * 获取指定客户端的线程池统计数据
+   *
+   * @param clientId 客户端ID
+   * @return 统计数据
+   */
+  ThreadPoolStats getClientStatistics(String clientId);
+
+  /**
+   * 按全局 / 应用 / 客户端 / 线程池名称多维度汇总
+   *
+   * @return 多维度汇总
+   */
+  MonThreadPoolRollupVO getRollup();
+
   /**
    * 获取实时指标
    *
@@ -48,4 +102,78 @@ public interface IMonThreadPoolService {
    * @return 线程池详情
    */
   ThreadPoolStats getDetail(String poolName);
-}
\ No newline at end of file
+
+  /**
+   * 获取指定客户端的线程池数据
+   *
+   * @param clientId 客户端ID
+   * @return 线程池列表
+   */
+  List<ThreadPoolStats> getClientThreadPools(String clientId);
+
+  /**
+   * 按路由策略选择应用的一个健康实例，获取其线程池实时数据
+   *
+   * @param appName  应用名称
+   * @param strategy 实例选择策略，为空时轮询
+   * @return 线程池列表
+   */
+  List<ThreadPoolStats> getAppThreadPools(String appName, RoutingStrategy strategy);
+
+  /**
+   * 获取各客户端线程池快照状态
+   *
+   * @return 快照状态列表
+   */
+  List<MonThreadPoolSnapshotVO> listSnapshotStatus();
+
+  /**
+   * 获取线程池历史指标
+   *
+   * @param clientId   客户端ID
+   * @param poolName   线程池名称
+   * @param startTime  起始时间（毫秒时间戳）
+   * @param endTime    结束时间（毫秒时间戳）
+   * @param resolution 分辨率，为空时按时间跨度自动选择
+   * @return 历史指标
+   */
+  MonThreadPoolHistoryVO getHistory(String clientId, String poolName, Long startTime, Long endTime,
+                                    HistoryResolution resolution);
+
+  /**
+   * 批量刷新线程池配置，按客户端合并后并发下发
+   * <p>
+   * 每个客户端收到一个 EXECUTOR_REFRESH 请求，请求体为线程池参数列表，客户端需按线程池名称逐一返回刷新结果；
+   * 未返回某个线程池结果的视为失败。
+   * </p>
+   *
+   * @param targets       刷新目标
+   * @param timeoutMillis 整体超时时间（毫秒），为空时按超时预算
+   * @return 每个刷新目标的结果，顺序与 targets 一致
+   */
+  List<MonThreadPoolRefreshVO> refreshThreadPools(List<MonThreadPoolRefreshBO> targets, Long timeoutMillis);
+
+  /**
+   * 根据滑动窗口内的历史指标计算线程池容量建议
+   *
+   * @param monThreadPoolRecommendBO 客户端、线程池与统计窗口
+   * @return 每个线程池的容量建议
+   */
+  List<MonThreadPoolRecommendVO> listRecommendations(MonThreadPoolRecommendBO monThreadPoolRecommendBO);
+
+  /**
+   * 计算容量建议并通过 EXECUTOR_REFRESH 下发，试运行时只返回建议不下发
+   *
+   * @param monThreadPoolRecommendBO 客户端、线程池、统计窗口与是否试运行
+   * @return 每个线程池的容量建议及下发结果
+   */
+  List<MonThreadPoolRecommendVO> applyRecommendations(MonThreadPoolRecommendBO monThreadPoolRecommendBO);
+
+  /**
+   * 订阅线程池实时指标
+   *
+   * @param clientId 客户端ID，为空时订阅全部客户端
+   * @return SSE 连接
+   */
+  SseEmitter subscribeMetrics(String clientId);
+}
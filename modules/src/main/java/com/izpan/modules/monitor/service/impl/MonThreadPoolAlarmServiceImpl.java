@@ -0,0 +1,53 @@
+package com.izpan.modules.monitor.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.izpan.infrastructure.page.PageQuery;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolAlarmBO;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolAlarm;
+import com.izpan.modules.monitor.repository.mapper.MonThreadPoolAlarmMapper;
+import com.izpan.modules.monitor.service.IMonThreadPoolAlarmService;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * 线程池告警事件 Service 服务接口实现层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.service.impl.MonThreadPoolAlarmServiceImpl
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Service
+public class MonThreadPoolAlarmServiceImpl extends ServiceImpl<MonThreadPoolAlarmMapper, MonThreadPoolAlarm>
+    implements IMonThreadPoolAlarmService {
+
+  @Override
+  public IPage<MonThreadPoolAlarm> listMonThreadPoolAlarmPage(PageQuery pageQuery,
+                                                              MonThreadPoolAlarmBO monThreadPoolAlarmBO) {
+    LambdaQueryWrapper<MonThreadPoolAlarm> queryWrapper = new LambdaQueryWrapper<MonThreadPoolAlarm>()
+        .eq(StringUtils.isNotBlank(monThreadPoolAlarmBO.getClientId()), MonThreadPoolAlarm::getClientId,
+            monThreadPoolAlarmBO.getClientId())
+        .eq(StringUtils.isNotBlank(monThreadPoolAlarmBO.getAppName()), MonThreadPoolAlarm::getAppName,
+            monThreadPoolAlarmBO.getAppName())
+        .like(StringUtils.isNotBlank(monThreadPoolAlarmBO.getPoolName()), MonThreadPoolAlarm::getPoolName,
+            monThreadPoolAlarmBO.getPoolName())
+        .eq(StringUtils.isNotBlank(monThreadPoolAlarmBO.getRuleName()), MonThreadPoolAlarm::getRuleName,
+            monThreadPoolAlarmBO.getRuleName())
+        .eq(StringUtils.isNotBlank(monThreadPoolAlarmBO.getLevel()), MonThreadPoolAlarm::getLevel,
+            monThreadPoolAlarmBO.getLevel())
+        .eq(StringUtils.isNotBlank(monThreadPoolAlarmBO.getStatus()), MonThreadPoolAlarm::getStatus,
+            monThreadPoolAlarmBO.getStatus())
+        .eq(StringUtils.isNotBlank(monThreadPoolAlarmBO.getSource()), MonThreadPoolAlarm::getSource,
+            monThreadPoolAlarmBO.getSource())
+        .ge(Objects.nonNull(monThreadPoolAlarmBO.getStartTime()), MonThreadPoolAlarm::getAlarmTime,
+            monThreadPoolAlarmBO.getStartTime())
+        .le(Objects.nonNull(monThreadPoolAlarmBO.getEndTime()), MonThreadPoolAlarm::getAlarmTime,
+            monThreadPoolAlarmBO.getEndTime())
+        .orderByDesc(MonThreadPoolAlarm::getAlarmTime);
+    return baseMapper.selectPage(pageQuery.buildPage(), queryWrapper);
+  }
+}
@@ -0,0 +1,134 @@
+package com.izpan.modules.monitor.service.impl;
+
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.izpan.modules.monitor.domain.entity.MonThreadPoolMetric;
+import com.izpan.modules.monitor.repository.mapper.MonThreadPoolMetricMapper;
+import com.izpan.modules.monitor.service.IMonThreadPoolMetricService;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 线程池指标归档 Service 服务接口实现层
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.service.impl.MonThreadPoolMetricServiceImpl
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Service
+public class MonThreadPoolMetricServiceImpl extends ServiceImpl<MonThreadPoolMetricMapper, MonThreadPoolMetric>
+    implements IMonThreadPoolMetricService {
+
+  private static final String MAX_PARTITION = "p_max";
+
+  private static final String PARTITION_PREFIX = "p";
+
+  private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+  @Override
+  public int insertBatch(List<MonThreadPoolMetric> metrics) {
+    if (metrics.isEmpty()) {
+      return 0;
+    }
+    // 自定义 INSERT 不经过 MyBatis-Plus 的主键填充，需要自行生成
+    for (MonThreadPoolMetric metric : metrics) {
+      if (metric.getId() == null) {
+        metric.setId(IdWorker.getId());
+      }
+    }
+    return baseMapper.insertBatch(metrics);
+  }
+
+  @Override
+  public long purgeBefore(LocalDateTime before, int chunkSize) {
+    int limit = Math.max(1, chunkSize);
+    long total = 0;
+    int deleted;
+    do {
+      // 每批单独提交，避免一次删除大量数据时长时间持有行锁
+      deleted = baseMapper.deleteBefore(before, limit);
+      total += deleted;
+    } while (deleted >= limit);
+    return total;
+  }
+
+  @Override
+  public List<MonThreadPoolMetric> listSeries(String clientId, String poolName, LocalDateTime from,
+                                              LocalDateTime to) {
+    return lambdaQuery()
+        .select(MonThreadPoolMetric::getCollectTime, MonThreadPoolMetric::getActiveCount,
+            MonThreadPoolMetric::getQueueSize, MonThreadPoolMetric::getRejectCount, MonThreadPoolMetric::getTps,
+            MonThreadPoolMetric::getAvg)
+        .eq(MonThreadPoolMetric::getClientId, clientId)
+        .eq(MonThreadPoolMetric::getPoolName, poolName)
+        .between(MonThreadPoolMetric::getCollectTime, from, to)
+        .orderByAsc(MonThreadPoolMetric::getCollectTime)
+        .list();
+  }
+
+  @Override
+  public List<String> createPartitions(int daysAhead) {
+    List<String> names = baseMapper.selectPartitionNames();
+    if (!names.contains(MAX_PARTITION)) {
+      return List.of();
+    }
+    // 新分区必须排在已有按天分区之后
+    LocalDate latest = null;
+    for (String name : names) {
+      LocalDate day = partitionDay(name);
+      if (day != null && (latest == null || day.isAfter(latest))) {
+        latest = day;
+      }
+    }
+    Map<String, String> partitions = new LinkedHashMap<>();
+    LocalDate today = LocalDate.now();
+    for (int i = 0; i <= daysAhead; i++) {
+      LocalDate day = today.plusDays(i);
+      if (latest == null || day.isAfter(latest)) {
+        partitions.put(PARTITION_PREFIX + day.format(PARTITION_FORMAT), day.plusDays(1).toString());
+      }
+    }
+    if (!partitions.isEmpty()) {
+      baseMapper.addPartitions(partitions);
+    }
+    return List.copyOf(partitions.keySet());
+  }
+
+  @Override
+  public List<String> dropPartitionsBefore(LocalDate before) {
+    List<String> expired = new ArrayList<>();
+    for (String name : baseMapper.selectPartitionNames()) {
+      LocalDate day = partitionDay(name);
+      if (day != null && day.isBefore(before)) {
+        expired.add(name);
+      }
+    }
+    if (!expired.isEmpty()) {
+      baseMapper.dropPartitions(expired);
+    }
+    return expired;
+  }
+
+  /**
+   * 按天分区名对应的日期，不是 {@code pyyyyMMdd} 格式时返回 {@code null}
+   */
+  private static LocalDate partitionDay(String name) {
+    if (name == null || name.length() != PARTITION_PREFIX.length() + 8 || !name.startsWith(PARTITION_PREFIX)) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_FORMAT);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
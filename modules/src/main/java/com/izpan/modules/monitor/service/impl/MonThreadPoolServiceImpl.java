@@ -1,21 +1,60 @@
 package com.izpan.modules.monitor.service.impl;
 
-import com.alipay.remoting.exception.RemotingException;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.izpan.common.exception.BizException;
 import com.izpan.infrastructure.page.PageQuery;
 import com.izpan.infrastructure.server.AdminServer;
+import com.izpan.infrastructure.server.ClientResponse;
+import com.izpan.infrastructure.server.cluster.ClusterCoordinator;
+import com.izpan.infrastructure.server.routing.RoutingStrategy;
 import com.izpan.modules.monitor.domain.bo.MonThreadPoolBO;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolRecommendBO;
+import com.izpan.modules.monitor.domain.bo.MonThreadPoolRefreshBO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolAggregateVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolDistributionVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolGroupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHistoryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolHotVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolQueryVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRecommendVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRefreshVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRollupVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolRowVO;
+import com.izpan.modules.monitor.domain.vo.MonThreadPoolSnapshotVO;
+import com.izpan.modules.monitor.metrics.CapacityRecommender;
+import com.izpan.modules.monitor.metrics.ClusterSnapshotView;
+import com.izpan.modules.monitor.metrics.HistoryResolution;
+import com.izpan.modules.monitor.metrics.HotPoolDetector;
+import com.izpan.modules.monitor.metrics.PoolGroupAggregator;
+import com.izpan.modules.monitor.metrics.PoolMetric;
+import com.izpan.modules.monitor.metrics.ThreadPoolAggregate;
+import com.izpan.modules.monitor.metrics.ThreadPoolAggregator;
+import com.izpan.modules.monitor.metrics.ThreadPoolMetricHistory;
+import com.izpan.modules.monitor.metrics.ThreadPoolMetricsHub;
+import com.izpan.modules.monitor.metrics.ThreadPoolMonitorProperties;
+import com.izpan.modules.monitor.metrics.ThreadPoolQueryEngine;
+import com.izpan.modules.monitor.metrics.ThreadPoolRollup;
+import com.izpan.modules.monitor.metrics.ThreadPoolSnapshot;
+import com.izpan.modules.monitor.metrics.ThreadPoolSnapshotCollector;
+import com.izpan.modules.monitor.metrics.ThreadPoolSnapshotStore;
 import com.izpan.modules.monitor.service.IMonThreadPoolService;
+import com.izpan.modules.monitor.util.ThreadPoolStatsUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
-import org.dromara.dynamictp.common.entity.AdminRequestBody;
 import org.dromara.dynamictp.common.entity.ThreadPoolStats;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.annotation.Resource;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 线程池监控 Service 服务实现层 - 支持多客户端 (Dynamic-TP AdminClient)
@@ -29,47 +68,179 @@ import java.util.stream.Collectors;
 @Service
 public class MonThreadPoolServiceImpl implements IMonThreadPoolService {
 
+  @Resource
+  private ThreadPoolSnapshotStore snapshotStore;
+
+  @Resource
+  private ThreadPoolSnapshotCollector snapshotCollector;
+
+  @Resource
+  private ThreadPoolMetricHistory metricHistory;
+
   @Resource
   private AdminServer adminServer;
 
+  @Resource
+  private ThreadPoolMetricsHub metricsHub;
+
+  @Resource
+  private ThreadPoolAggregator aggregator;
+
+  @Resource
+  private ThreadPoolQueryEngine queryEngine;
+
+  @Resource
+  private HotPoolDetector hotPoolDetector;
+
+  @Resource
+  private PoolGroupAggregator poolGroupAggregator;
+
+  @Resource
+  private CapacityRecommender capacityRecommender;
+
+  @Resource
+  private ThreadPoolMonitorProperties monitorProperties;
+
+  @Resource
+  private ClusterSnapshotView clusterView;
+
+  @Resource
+  private ClusterCoordinator clusterCoordinator;
+
   @Override
   public IPage<ThreadPoolStats> listMonThreadPoolPage(PageQuery pageQuery, MonThreadPoolBO monThreadPoolBO) {
-    List<ThreadPoolStats> threadPools = getThreadPoolsData();
-
-    // 分页处理
-    int start = (pageQuery.getPage() - 1) * pageQuery.getPageSize();
-    int end = Math.min(start + pageQuery.getPageSize(), threadPools.size());
-    List<ThreadPoolStats> pageData = threadPools.subList(start, end);
+    ensureCollected(monThreadPoolBO.getClientId());
+    // 页码分页，cursor 不参与
+    monThreadPoolBO.setCursor(null);
+    int offset = (int) Math.min(Integer.MAX_VALUE, (long) (pageQuery.getPage() - 1) * pageQuery.getPageSize());
+    ThreadPoolQueryEngine.ThreadPoolQueryResult result = queryEngine.query(monThreadPoolBO, offset,
+        pageQuery.getPageSize());
 
     Page<ThreadPoolStats> page = new Page<>(pageQuery.getPage(), pageQuery.getPageSize());
-    page.setRecords(pageData);
-    page.setTotal(threadPools.size());
+    page.setRecords(result.rows().stream().map(ThreadPoolQueryEngine.Row::stats).toList());
+    page.setTotal(result.total());
     return page;
   }
 
+  @Override
+  public MonThreadPoolQueryVO queryThreadPools(MonThreadPoolBO monThreadPoolBO, int limit) {
+    ensureCollected(monThreadPoolBO.getClientId());
+    ThreadPoolQueryEngine.ThreadPoolQueryResult result = queryEngine.query(monThreadPoolBO, 0, limit);
+    List<MonThreadPoolRowVO> records = result.rows().stream()
+        .map(row -> MonThreadPoolRowVO.builder()
+            .clientId(row.clientId())
+            .appName(row.appName())
+            .queueUsageRate(ThreadPoolQueryEngine.queueUsage(row.stats()) * 100)
+            .poolUsageRate(ThreadPoolQueryEngine.poolUsage(row.stats()) * 100)
+            .hotness(hotPoolDetector.score(row.clientId(), row.stats()))
+            .pool(row.stats())
+            .build())
+        .toList();
+    return MonThreadPoolQueryVO.builder()
+        .records(records)
+        .total(result.total())
+        .nextCursor(result.nextCursor())
+        .build();
+  }
+
+  @Override
+  public List<MonThreadPoolHotVO> listHotPools(int limit) {
+    return hotPoolDetector.top(limit).stream()
+        .map(hot -> MonThreadPoolHotVO.builder()
+            .clientId(hot.clientId())
+            .poolName(hot.poolName())
+            .poolAliasName(hot.poolAliasName())
+            .score(hot.score())
+            .queueUsageRate(hot.queueUsage() * 100)
+            .poolUsageRate(hot.poolUsage() * 100)
+            .rejectPerSecond(hot.rejectPerSecond())
+            .tp99(hot.tp99())
+            .collectTime(hot.collectTime())
+            .build())
+        .toList();
+  }
+
+  @Override
+  public List<MonThreadPoolGroupVO> listPoolGroups(String appName, String poolName) {
+    return poolGroupAggregator.list(StringUtils.hasText(appName) ? appName : null,
+            StringUtils.hasText(poolName) ? poolName : null).stream()
+        .map(group -> MonThreadPoolGroupVO.builder()
+            .appName(group.appName())
+            .poolName(group.poolName())
+            .poolAliasName(group.poolAliasName())
+            .instanceCount(group.instanceCount())
+            .queueSize(toDistributionVO(group.queueSize()))
+            .activeCount(toDistributionVO(group.activeCount()))
+            .tp99(toDistributionVO(group.tp99()))
+            .updateTime(group.updateTime())
+            .build())
+        .toList();
+  }
+
+  private static MonThreadPoolDistributionVO toDistributionVO(PoolGroupAggregator.Distribution distribution) {
+    return MonThreadPoolDistributionVO.builder()
+        .min(distribution.min())
+        .avg(distribution.avg())
+        .max(distribution.max())
+        .p95(distribution.p95())
+        .build();
+  }
+
+  /**
+   * 按客户端查询时，本节点的客户端刚连接尚未被采集则立即刷新一次；其他节点的客户端等待下一次集群交换
+   */
+  private void ensureCollected(String clientId) {
+    if (clientId != null && clusterView.get(clientId) == null && adminServer.getClientRegistry().contains(clientId)) {
+      snapshotCollector.refresh(clientId);
+    }
+  }
+
   @Override
   public ThreadPoolStats getStatistics() {
-    List<ThreadPoolStats> threadPools = getThreadPoolsData();
+    return aggregator.aggregate(null, getThreadPoolsData()).toThreadPoolStats("系统汇总", "System Summary");
+  }
 
-    // 创建汇总统计数据
-    ThreadPoolStats statistics = new ThreadPoolStats();
-    statistics.setPoolName("系统汇总");
-    statistics.setPoolAliasName("System Summary");
+  @Override
+  public ThreadPoolStats getClientStatistics(String clientId) {
+    return aggregator.aggregate(clientId, getClientThreadPools(clientId))
+        .toThreadPoolStats("客户端汇总-" + clientId, "Client Summary - " + clientId);
+  }
 
-    // 计算汇总数据
-    int totalPools = threadPools.size();
-    int totalActiveCount = threadPools.stream().mapToInt(ThreadPoolStats::getActiveCount).sum();
-    long totalTaskCount = threadPools.stream().mapToLong(ThreadPoolStats::getTaskCount).sum();
-    long totalCompletedTaskCount = threadPools.stream().mapToLong(ThreadPoolStats::getCompletedTaskCount).sum();
-    long totalRejectCount = threadPools.stream().mapToLong(ThreadPoolStats::getRejectCount).sum();
+  @Override
+  public MonThreadPoolRollupVO getRollup() {
+    ThreadPoolRollup rollup = aggregator.rollup(clusterView.all());
+    return MonThreadPoolRollupVO.builder()
+        .fleet(toAggregateVO(rollup.fleet()))
+        .apps(toAggregateVOs(rollup.apps().values()))
+        .clients(toAggregateVOs(rollup.clients().values()))
+        .pools(toAggregateVOs(rollup.pools().values()))
+        .build();
+  }
 
-    statistics.setPoolSize(totalPools);
-    statistics.setActiveCount(totalActiveCount);
-    statistics.setTaskCount(totalTaskCount);
-    statistics.setCompletedTaskCount(totalCompletedTaskCount);
-    statistics.setRejectCount(totalRejectCount);
+  private static List<MonThreadPoolAggregateVO> toAggregateVOs(Collection<ThreadPoolAggregate> aggregates) {
+    return aggregates.stream().map(MonThreadPoolServiceImpl::toAggregateVO).toList();
+  }
 
-    return statistics;
+  private static MonThreadPoolAggregateVO toAggregateVO(ThreadPoolAggregate aggregate) {
+    return MonThreadPoolAggregateVO.builder()
+        .key(aggregate.getKey())
+        .poolCount(aggregate.getPoolCount())
+        .corePoolSize(aggregate.getCorePoolSize())
+        .maximumPoolSize(aggregate.getMaximumPoolSize())
+        .poolSize(aggregate.getPoolSize())
+        .activeCount(aggregate.getActiveCount())
+        .queueSize(aggregate.getQueueSize())
+        .queueCapacity(aggregate.getQueueCapacity())
+        .taskCount(aggregate.getTaskCount())
+        .completedTaskCount(aggregate.getCompletedTaskCount())
+        .rejectCount(aggregate.getRejectCount())
+        .runTimeoutCount(aggregate.getRunTimeoutCount())
+        .queueTimeoutCount(aggregate.getQueueTimeoutCount())
+        .tps(aggregate.getTps())
+        .maxQueueUtilization(aggregate.getMaxQueueUtilization())
+        .tp99(aggregate.getTp99())
+        .rejectRate(aggregate.getRejectRate())
+        .build();
   }
 
   @Override
@@ -85,66 +256,275 @@ public class MonThreadPoolServiceImpl implements IMonThreadPoolService {
         .orElse(null);
   }
 
+  @Override
+  public List<ThreadPoolStats> getClientThreadPools(String clientId) {
+    ThreadPoolSnapshot snapshot = clusterView.get(clientId);
+    if (snapshot == null && adminServer.getClientRegistry().contains(clientId)) {
+      // 本节点的客户端刚连接尚未被采集，立即刷新一次
+      snapshot = snapshotCollector.refresh(clientId);
+    }
+    return snapshot == null ? List.of() : snapshot.getPools();
+  }
+
+  @Override
+  public List<ThreadPoolStats> getAppThreadPools(String appName, RoutingStrategy strategy) {
+    ThreadPoolSnapshot snapshot = snapshotCollector.refreshApp(appName,
+        strategy == null ? RoutingStrategy.ROUND_ROBIN : strategy);
+    if (snapshot == null) {
+      // 本节点没有该应用的可用实例，取集群内该应用最新的成功快照
+      snapshot = clusterView.all().stream()
+          .filter(candidate -> candidate.getErrorMessage() == null
+              && appName.equals(aggregator.resolveAppName(candidate.getClientAddress())))
+          .max(Comparator.comparingLong(ThreadPoolSnapshot::getCollectTime))
+          .orElse(null);
+    }
+    return snapshot == null ? List.of() : snapshot.getPools();
+  }
+
+  @Override
+  public List<MonThreadPoolSnapshotVO> listSnapshotStatus() {
+    long now = System.currentTimeMillis();
+    return clusterView.all().stream()
+        .map(snapshot -> MonThreadPoolSnapshotVO.builder()
+            .clientId(snapshot.getClientAddress())
+            .poolCount(snapshot.getPools().size())
+            .collectTime(snapshot.getCollectTime())
+            .ageMillis(snapshot.ageMillis(now))
+            .stale(snapshotStore.isStale(snapshot, now))
+            .latencyMillis(snapshot.getLatencyMillis())
+            .errorMessage(snapshot.getErrorMessage())
+            .build())
+        .toList();
+  }
+
+  @Override
+  public MonThreadPoolHistoryVO getHistory(String clientId, String poolName, Long startTime, Long endTime,
+                                           HistoryResolution resolution) {
+    long to = endTime != null ? endTime : System.currentTimeMillis();
+    long from = startTime != null ? startTime : to - TimeUnit.HOURS.toMillis(1);
+    if (from > to) {
+      throw new BizException("起始时间不能晚于结束时间");
+    }
+    ThreadPoolMetricHistory.HistoryRange range = metricHistory.query(clientId, poolName, from, to, resolution);
+    if (range == null) {
+      return null;
+    }
+    Map<String, float[]> values = new LinkedHashMap<>();
+    Map<String, float[]> peaks = new LinkedHashMap<>();
+    for (PoolMetric metric : PoolMetric.values()) {
+      values.put(metric.getField(), range.avg()[metric.ordinal()]);
+      peaks.put(metric.getField(), range.max()[metric.ordinal()]);
+    }
+    return MonThreadPoolHistoryVO.builder()
+        .clientId(clientId)
+        .poolName(poolName)
+        .resolution(range.resolution().name())
+        .timestamps(range.timestamps())
+        .values(values)
+        .peaks(peaks)
+        .build();
+  }
+
   /**
-   * 获取线程池数据 - 支持多客户端
+   * 获取线程池数据 - 支持多客户端，直接读取采集器维护的内存快照，集群模式下包含其他节点的客户端
    */
   private List<ThreadPoolStats> getThreadPoolsData() {
-    // 检查是否有连接的客户端
-    int clientCount = adminServer.getConnectedClientCount();
-    List<ThreadPoolStats> allThreadPools = new ArrayList<>();
-    try {
-      // 向所有客户端广播请求获取线程池数据
-      List<Object> results = adminServer.broadcastToAllClients(
-          AdminRequestTypeEnum.EXECUTOR_MONITOR, null);
-
-      Set<String> connectedClients = adminServer.getConnectedClients();
-
-      // 处理每个客户端的响应
-      for (int i = 0; i < results.size(); i++) {
-        Object result = results.get(i);
-        String clientAddress = connectedClients.toArray(new String[0])[i];
-
-        if (result instanceof AdminRequestBody) {
-          // 处理 Dynamic-TP AdminClient 返回的 AdminRequestBody
-          AdminRequestBody adminResponse = (AdminRequestBody) result;
-          Object responseBody = adminResponse.deserializeBody();
-
-          if (responseBody instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<ThreadPoolStats> clientThreadPools = (List<ThreadPoolStats>) responseBody;
-
-            if (clientThreadPools != null && !clientThreadPools.isEmpty()) {
-              // 为每个线程池添加客户端标识
-              clientThreadPools.forEach(pool -> {
-                // 保持原始PoolName和别名，不添加clientAddress
-              });
-
-              allThreadPools.addAll(clientThreadPools);
-              log.debug("Retrieved {} thread pools from Dynamic-TP AdminClient: {}",
-                  clientThreadPools.size(), clientAddress);
-            }
-          } else {
-            log.warn("Unexpected response body type from Dynamic-TP AdminClient: {}, body type: {}",
-                clientAddress, responseBody != null ? responseBody.getClass().getSimpleName() : "null");
-          }
-
-        } else if (result != null) {
-          log.warn("Unexpected result type from Dynamic-TP AdminClient: {}, result: {}",
-              clientAddress, result.getClass().getSimpleName());
-        } else {
-          log.warn("Null result from Dynamic-TP AdminClient: {}", clientAddress);
-        }
+    return clusterView.allPools();
+  }
+
+  @Override
+  public List<MonThreadPoolRefreshVO> refreshThreadPools(List<MonThreadPoolRefreshBO> targets, Long timeoutMillis) {
+    // 按客户端合并，每个客户端只发送一次请求
+    Map<String, List<Map<String, Object>>> bodies = new LinkedHashMap<>();
+    for (MonThreadPoolRefreshBO target : targets) {
+      if (adminServer.getClientRegistry().contains(target.getClientId())) {
+        bodies.computeIfAbsent(target.getClientId(), key -> new ArrayList<>()).add(toRefreshBody(target));
+      }
+    }
+    Map<String, ClientResponse> responses = adminServer.multicastAsync(bodies, AdminRequestTypeEnum.EXECUTOR_REFRESH,
+        timeoutMillis == null ? 0 : timeoutMillis).join();
+
+    List<MonThreadPoolRefreshVO> results = new ArrayList<>(targets.size());
+    for (MonThreadPoolRefreshBO target : targets) {
+      ClientResponse response = responses.get(target.getClientId());
+      MonThreadPoolRefreshVO.MonThreadPoolRefreshVOBuilder result = MonThreadPoolRefreshVO.builder()
+          .clientId(target.getClientId())
+          .poolName(target.getPoolName());
+      if (response == null) {
+        String owner = clusterCoordinator.ownerOf(target.getClientId());
+        results.add(result.success(false).message(owner == null ? "客户端不存在或已断开连接"
+            : "客户端连接在集群节点 " + owner + " 上，请在该节点操作").build());
+      } else if (!response.isSuccess()) {
+        results.add(result.success(false).message(response.getErrorMessage())
+            .latencyMillis(response.getLatencyMillis()).build());
+      } else {
+        String failure = resolveRefreshFailure(response.getPayload(), target.getPoolName());
+        results.add(result.success(failure == null).message(failure)
+            .latencyMillis(response.getLatencyMillis()).build());
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public List<MonThreadPoolRecommendVO> listRecommendations(MonThreadPoolRecommendBO monThreadPoolRecommendBO) {
+    return recommend(monThreadPoolRecommendBO).stream()
+        .map(recommendation -> toRecommendVO(recommendation).applied(false).build())
+        .toList();
+  }
+
+  @Override
+  public List<MonThreadPoolRecommendVO> applyRecommendations(MonThreadPoolRecommendBO monThreadPoolRecommendBO) {
+    List<CapacityRecommender.Recommendation> recommendations = recommend(monThreadPoolRecommendBO);
+    List<MonThreadPoolRefreshBO> targets = new ArrayList<>();
+    for (CapacityRecommender.Recommendation recommendation : recommendations) {
+      if (recommendation.changed()) {
+        targets.add(toRefreshTarget(recommendation));
+      }
+    }
+    boolean dryRun = !Boolean.FALSE.equals(monThreadPoolRecommendBO.getDryRun());
+    Map<String, MonThreadPoolRefreshVO> refreshed = new LinkedHashMap<>();
+    if (!dryRun && !targets.isEmpty()) {
+      for (MonThreadPoolRefreshVO result : refreshThreadPools(targets, monThreadPoolRecommendBO.getTimeoutMillis())) {
+        refreshed.put(result.getClientId() + '|' + result.getPoolName(), result);
+      }
+    }
+
+    List<MonThreadPoolRecommendVO> results = new ArrayList<>(recommendations.size());
+    for (CapacityRecommender.Recommendation recommendation : recommendations) {
+      MonThreadPoolRecommendVO.MonThreadPoolRecommendVOBuilder result = toRecommendVO(recommendation).applied(false);
+      if (!recommendation.changed()) {
+        result.message("无需调整");
+      } else if (dryRun) {
+        result.message("试运行，未下发");
+      } else {
+        MonThreadPoolRefreshVO refresh = refreshed.get(recommendation.clientId() + '|' + recommendation.poolName());
+        result.applied(true)
+            .success(refresh != null && Boolean.TRUE.equals(refresh.getSuccess()))
+            .message(refresh == null ? "未获取到刷新结果" : refresh.getMessage());
       }
+      results.add(result.build());
+    }
+    return results;
+  }
 
-      if (!allThreadPools.isEmpty()) {
-        log.info("Successfully retrieved {} thread pools from {} Dynamic-TP AdminClients",
-            allThreadPools.size(), clientCount);
-        return allThreadPools;
+  /**
+   * 计算本节点客户端的容量建议，其他节点的客户端没有本地历史且无法在本节点下发，不参与计算
+   */
+  private List<CapacityRecommender.Recommendation> recommend(MonThreadPoolRecommendBO monThreadPoolRecommendBO) {
+    Integer windowMinutes = monThreadPoolRecommendBO.getWindowMinutes();
+    long windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes == null || windowMinutes <= 0
+        ? monitorProperties.getRecommend().getWindowMinutes() : windowMinutes);
+    String clientId = monThreadPoolRecommendBO.getClientId();
+    String poolName = monThreadPoolRecommendBO.getPoolName();
+    List<CapacityRecommender.Recommendation> recommendations = new ArrayList<>();
+    for (ThreadPoolSnapshot snapshot : snapshotStore.all()) {
+      String clientAddress = snapshot.getClientAddress();
+      if (AdminServer.SELF_CLIENT_ID.equals(clientAddress)
+          || (StringUtils.hasText(clientId) && !clientId.equals(clientAddress))) {
+        continue;
       }
-    } catch (Exception e) {
-      log.error("Failed to get thread pool data from Dynamic-TP AdminClients", e);
+      for (ThreadPoolStats pool : snapshot.getPools()) {
+        if (!StringUtils.hasText(poolName) || poolName.equals(pool.getPoolName())) {
+          recommendations.add(capacityRecommender.recommend(clientAddress, pool, windowMillis));
+        }
+      }
+    }
+    return recommendations;
+  }
+
+  private static MonThreadPoolRefreshBO toRefreshTarget(CapacityRecommender.Recommendation recommendation) {
+    MonThreadPoolRefreshBO target = new MonThreadPoolRefreshBO();
+    target.setClientId(recommendation.clientId());
+    target.setPoolName(recommendation.poolName());
+    target.setCorePoolSize(recommendation.recommendedCorePoolSize());
+    target.setMaximumPoolSize(recommendation.recommendedMaximumPoolSize());
+    if (recommendation.recommendedQueueCapacity() != recommendation.queueCapacity()) {
+      target.setQueueCapacity(recommendation.recommendedQueueCapacity());
+    }
+    return target;
+  }
+
+  private static MonThreadPoolRecommendVO.MonThreadPoolRecommendVOBuilder toRecommendVO(
+      CapacityRecommender.Recommendation recommendation) {
+    CapacityRecommender.Observation observation = recommendation.observation();
+    return MonThreadPoolRecommendVO.builder()
+        .clientId(recommendation.clientId())
+        .poolName(recommendation.poolName())
+        .poolAliasName(recommendation.poolAliasName())
+        .samples(recommendation.samples())
+        .resolution(recommendation.resolution() == null ? null : recommendation.resolution().name())
+        .meanTps(observation == null ? null : observation.meanTps())
+        .p95Tps(observation == null ? null : observation.p95Tps())
+        .meanRtMillis(observation == null ? null : observation.meanRtMillis())
+        .peakActive(observation == null ? null : observation.peakActive())
+        .queueWaitMillis(observation == null ? null : observation.queueWaitMillis())
+        .rejectCount(observation == null ? null : observation.rejectCount())
+        .corePoolSize(recommendation.corePoolSize())
+        .maximumPoolSize(recommendation.maximumPoolSize())
+        .queueCapacity(recommendation.queueCapacity())
+        .recommendedCorePoolSize(recommendation.recommendedCorePoolSize())
+        .recommendedMaximumPoolSize(recommendation.recommendedMaximumPoolSize())
+        .recommendedQueueCapacity(recommendation.recommendedQueueCapacity())
+        .changed(recommendation.changed())
+        .reasons(recommendation.reasons());
+  }
+
+  private static Map<String, Object> toRefreshBody(MonThreadPoolRefreshBO target) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("poolName", target.getPoolName());
+    if (target.getCorePoolSize() != null) {
+      body.put("corePoolSize", target.getCorePoolSize());
     }
+    if (target.getMaximumPoolSize() != null) {
+      body.put("maximumPoolSize", target.getMaximumPoolSize());
+    }
+    if (target.getQueueCapacity() != null) {
+      body.put("queueCapacity", target.getQueueCapacity());
+    }
+    if (target.getKeepAliveTime() != null) {
+      body.put("keepAliveTime", target.getKeepAliveTime());
+    }
+    return body;
+  }
+
+  /**
+   * 解析客户端对单个线程池的刷新结果
+   * <p>
+   * EXECUTOR_REFRESH 报文约定：请求体为 {@code List<Map<String, Object>>}，每个元素对应一个线程池，
+   * 包含 {@code poolName} 及需要修改的 {@code corePoolSize}、{@code maximumPoolSize}、{@code queueCapacity}、
+   * {@code keepAliveTime}，未携带的参数保持不变；响应体为 {@code Map<String, Object>}，以线程池名称为键，
+   * 值为 {@code true}、{@code "success"} 或 {@code "ok"} 表示已生效，{@code false} 表示拒绝，其他字符串为失败原因。
+   * </p>
+   * <p>
+   * 响应体不是 Map 或缺少该线程池的结果时无法确认是否生效，按失败处理，避免把未知结果报告为成功。
+   * </p>
+   *
+   * @return 失败原因，成功时为 {@code null}
+   */
+  private static String resolveRefreshFailure(Object payload, String poolName) {
+    Object body = ThreadPoolStatsUtil.unwrap(payload);
+    if (!(body instanceof Map<?, ?> results) || !results.containsKey(poolName)) {
+      return "客户端未返回该线程池的刷新结果，无法确认是否生效";
+    }
+    Object result = results.get(poolName);
+    if (Boolean.TRUE.equals(result)) {
+      return null;
+    }
+    if (Boolean.FALSE.equals(result)) {
+      return "客户端拒绝刷新";
+    }
+    if (result instanceof String message) {
+      return "success".equalsIgnoreCase(message) || "ok".equalsIgnoreCase(message) ? null : message;
+    }
+    return "无法识别的刷新结果: " + result;
+  }
 
-    return allThreadPools;
+  @Override
+  public SseEmitter subscribeMetrics(String clientId) {
+    if (clientId != null && !clusterCoordinator.isAvailableClient(clientId)) {
+      throw new BizException("客户端不存在或已断开连接");
+    }
+    return metricsHub.subscribe(clientId);
   }
-}
\ No newline at end of file
+}
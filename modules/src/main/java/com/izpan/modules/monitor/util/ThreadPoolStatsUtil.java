@@ -0,0 +1,53 @@
+package com.izpan.modules.monitor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+
+import java.util.List;
+
+/**
+ * 线程池监控数据解析工具类
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.util.ThreadPoolStatsUtil
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@Slf4j
+public class ThreadPoolStatsUtil {
+
+  private ThreadPoolStatsUtil() {
+  }
+
+  /**
+   * 将 Dynamic-TP AdminClient 的响应解析为线程池列表
+   * <p>
+   * 兼容返回 {@link AdminRequestBody} 包装体以及直接返回列表两种形式
+   * </p>
+   *
+   * @param result 客户端响应
+   * @return 线程池列表，无法解析时返回空列表
+   */
+  @SuppressWarnings("unchecked")
+  public static List<ThreadPoolStats> resolve(Object result) {
+    Object body = unwrap(result);
+    if (body instanceof List<?> list) {
+      return (List<ThreadPoolStats>) list;
+    }
+    if (body != null) {
+      log.warn("Unexpected response body type from Dynamic-TP AdminClient: {}", body.getClass().getSimpleName());
+    }
+    return List.of();
+  }
+
+  /**
+   * 解开 Dynamic-TP AdminClient 响应的 {@link AdminRequestBody} 包装
+   *
+   * @param result 客户端响应
+   * @return 响应体，非包装体时原样返回
+   */
+  public static Object unwrap(Object result) {
+    return result instanceof AdminRequestBody adminResponse ? adminResponse.deserializeBody() : result;
+  }
+}
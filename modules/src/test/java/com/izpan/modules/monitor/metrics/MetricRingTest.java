@@ -0,0 +1,70 @@
+package com.izpan.modules.monitor.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link MetricRing} 扩容与覆盖测试
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.modules.monitor.metrics.MetricRingTest
+ * @CreateTime 2026/10/18 - 10:00
+ */
+class MetricRingTest {
+
+  @Test
+  void rangeStaysContiguousAcrossDoublings() {
+    MetricRing ring = new MetricRing(360, true);
+    appendRange(ring, 1, 200);
+
+    MetricRing.MetricRange range = ring.range(0, Long.MAX_VALUE);
+
+    assertSequence(range, 1, 200);
+    assertEquals(200, ring.lastTimestamp());
+  }
+
+  @Test
+  void oldestSamplesAreOverwrittenAfterReachingCapacity() {
+    MetricRing ring = new MetricRing(40, false);
+    appendRange(ring, 1, 100);
+
+    MetricRing.MetricRange range = ring.range(0, Long.MAX_VALUE);
+
+    assertSequence(range, 61, 100);
+    for (int i = 0; i < range.timestamps.length; i++) {
+      assertEquals(range.timestamps[i] * 2, range.max[0][i]);
+    }
+  }
+
+  @Test
+  void rangeFiltersByTimestampAfterGrowing() {
+    MetricRing ring = new MetricRing(360, true);
+    appendRange(ring, 1, 70);
+
+    assertSequence(ring.range(10, 40), 10, 40);
+  }
+
+  private static void appendRange(MetricRing ring, int from, int to) {
+    for (int i = from; i <= to; i++) {
+      float[] avg = new float[PoolMetric.count()];
+      float[] max = new float[PoolMetric.count()];
+      avg[0] = i;
+      max[0] = i * 2;
+      ring.append(i, avg, max);
+    }
+  }
+
+  private static void assertSequence(MetricRing.MetricRange range, int from, int to) {
+    long[] expected = new long[to - from + 1];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = from + i;
+    }
+    assertArrayEquals(expected, range.timestamps);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], range.avg[0][i]);
+    }
+  }
+}
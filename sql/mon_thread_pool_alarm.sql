@@ -0,0 +1,28 @@
+-- 线程池告警事件
+CREATE TABLE IF NOT EXISTS `mon_thread_pool_alarm`
+(
+    `id`             BIGINT       NOT NULL COMMENT 'ID',
+    `client_id`      VARCHAR(128)          DEFAULT NULL COMMENT '客户端ID',
+    `app_name`       VARCHAR(128)          DEFAULT NULL COMMENT '应用名称',
+    `pool_name`      VARCHAR(255)          DEFAULT NULL COMMENT '线程池名称',
+    `rule_name`      VARCHAR(128)          DEFAULT NULL COMMENT '规则名称',
+    `metric`         VARCHAR(64)           DEFAULT NULL COMMENT '指标',
+    `level`          VARCHAR(32)           DEFAULT NULL COMMENT '告警级别',
+    `status`         VARCHAR(16)           DEFAULT NULL COMMENT '状态：FIRING / RESOLVED',
+    `source`         VARCHAR(16)           DEFAULT NULL COMMENT '来源：RULE / CLIENT',
+    `metric_value`   DOUBLE                DEFAULT NULL COMMENT '触发时的指标值',
+    `threshold`      DOUBLE                DEFAULT NULL COMMENT '阈值',
+    `content`        TEXT COMMENT '告警内容',
+    `alarm_time`     DATETIME              DEFAULT NULL COMMENT '告警时间',
+    `create_user`    VARCHAR(64)           DEFAULT NULL COMMENT '创建用户名称',
+    `create_user_id` BIGINT                DEFAULT NULL COMMENT '创建用户ID',
+    `create_time`    DATETIME              DEFAULT NULL COMMENT '创建时间',
+    `update_user`    VARCHAR(64)           DEFAULT NULL COMMENT '更新用户名称',
+    `update_user_id` BIGINT                DEFAULT NULL COMMENT '更新用户ID',
+    `update_time`    DATETIME              DEFAULT NULL COMMENT '更新时间',
+    `is_deleted`     TINYINT      NOT NULL DEFAULT 0 COMMENT '是否删除(0: 否, 1: 是)',
+    PRIMARY KEY (`id`),
+    KEY `idx_alarm_time` (`alarm_time`),
+    KEY `idx_client_pool` (`client_id`, `pool_name`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='线程池告警事件';
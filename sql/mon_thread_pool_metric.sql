@@ -0,0 +1,37 @@
+-- 线程池指标归档
+-- 只追加、按采集时间清理的明细表：主键包含分区键 collect_time，按天 RANGE 分区；
+-- 清理任务 ThreadPoolMetricPurgeJob 每次执行时 DROP 过期的按天分区，再从 p_max 拆出未来若干天的分区
+-- （archive.partition-days-ahead），残留在 p_max 或未分区表中的过期数据按 collect_time 分批删除。
+-- 下面的初始分区只是起点，分区名须保持 pyyyyMMdd 格式、上界为次日零点，任务才能识别。
+CREATE TABLE IF NOT EXISTS `mon_thread_pool_metric`
+(
+    `id`                   BIGINT       NOT NULL COMMENT 'ID',
+    `client_id`            VARCHAR(128) NOT NULL COMMENT '客户端ID',
+    `app_name`             VARCHAR(128)          DEFAULT NULL COMMENT '应用名称',
+    `pool_name`            VARCHAR(255) NOT NULL COMMENT '线程池名称',
+    `collect_time`         DATETIME     NOT NULL COMMENT '采集时间',
+    `core_pool_size`       INT                   DEFAULT NULL COMMENT '核心线程数',
+    `maximum_pool_size`    INT                   DEFAULT NULL COMMENT '最大线程数',
+    `pool_size`            INT                   DEFAULT NULL COMMENT '当前线程数',
+    `active_count`         INT                   DEFAULT NULL COMMENT '活跃线程数',
+    `queue_size`           INT                   DEFAULT NULL COMMENT '队列任务数',
+    `queue_capacity`       INT                   DEFAULT NULL COMMENT '队列容量',
+    `task_count`           BIGINT                DEFAULT NULL COMMENT '任务总数',
+    `completed_task_count` BIGINT                DEFAULT NULL COMMENT '已完成任务数',
+    `reject_count`         BIGINT                DEFAULT NULL COMMENT '拒绝任务数',
+    `run_timeout_count`    BIGINT                DEFAULT NULL COMMENT '执行超时任务数',
+    `queue_timeout_count`  BIGINT                DEFAULT NULL COMMENT '排队超时任务数',
+    `tps`                  DOUBLE                DEFAULT NULL COMMENT '每秒处理任务数',
+    `avg`                  DOUBLE                DEFAULT NULL COMMENT '平均执行耗时（毫秒）',
+    `tp99`                 DOUBLE                DEFAULT NULL COMMENT 'tp99 执行耗时（毫秒）',
+    PRIMARY KEY (`id`, `collect_time`),
+    KEY `idx_collect_time` (`collect_time`),
+    KEY `idx_client_pool_time` (`client_id`, `pool_name`, `collect_time`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4 COMMENT ='线程池指标归档'
+    PARTITION BY RANGE COLUMNS (`collect_time`) (
+        PARTITION p20261018 VALUES LESS THAN ('2026-10-19'),
+        PARTITION p20261019 VALUES LESS THAN ('2026-10-20'),
+        PARTITION p20261020 VALUES LESS THAN ('2026-10-21'),
+        PARTITION p_max VALUES LESS THAN (MAXVALUE)
+        );
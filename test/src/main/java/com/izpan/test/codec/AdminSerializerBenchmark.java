@@ -0,0 +1,177 @@
+package com.izpan.test.codec;
+
+import com.alipay.remoting.exception.CodecException;
+import com.izpan.infrastructure.server.codec.AdminSerializer;
+import com.izpan.infrastructure.server.codec.DecodedAdminRequestBody;
+import com.izpan.infrastructure.server.codec.HessianAdminSerializer;
+import com.izpan.infrastructure.server.codec.SchemaBinarySerializer;
+import org.dromara.dynamictp.common.em.AdminRequestTypeEnum;
+import org.dromara.dynamictp.common.entity.AdminRequestBody;
+import org.dromara.dynamictp.common.entity.ThreadPoolStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 监控路径序列化基准：对比 Hessian 与 {@link SchemaBinarySerializer} 编解码线程池列表的耗时
+ * <p>
+ * {@code request*} 用例按线上报文的形态，把线程池列表包装在 {@link AdminRequestBody} 中，
+ * 并计入构造请求体与 {@link AdminRequestBody#deserializeBody()} 的开销：Hessian 路径使用 {@link AdminRequestBody}，
+ * 二进制路径使用管理端实际发送的 {@link DecodedAdminRequestBody}。
+ * </p>
+ * <p>
+ * 运行 {@link #main(String[])}，或打包后执行 {@code java -cp ... org.openjdk.jmh.Main AdminSerializerBenchmark}。
+ * 启动时打印两种编码的报文字节数。
+ * </p>
+ *
+ * @Author eachann
+ * @ProjectName panis-boot
+ * @ClassName com.izpan.test.codec.AdminSerializerBenchmark
+ * @CreateTime 2026/10/18 - 10:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdminSerializerBenchmark {
+
+    @Param({"10", "100"})
+    private int poolCount;
+
+    private final AdminSerializer hessian = new HessianAdminSerializer();
+
+    private final AdminSerializer binary = new SchemaBinarySerializer();
+
+    private List<ThreadPoolStats> pools;
+
+    private byte[] hessianBytes;
+
+    private byte[] binaryBytes;
+
+    private byte[] hessianRequestBytes;
+
+    private byte[] binaryRequestBytes;
+
+    @Setup
+    public void setup() throws CodecException {
+        pools = new ArrayList<>(poolCount);
+        for (int i = 0; i < poolCount; i++) {
+            pools.add(stats(i));
+        }
+        hessianBytes = hessian.serialize(pools);
+        binaryBytes = binary.serialize(pools);
+        hessianRequestBytes = hessian.serialize(hessianRequest());
+        binaryRequestBytes = binary.serialize(binaryRequest());
+        System.out.printf("%n%d pools: hessian %d bytes, binary %d bytes; request hessian %d bytes, binary %d bytes%n",
+                poolCount, hessianBytes.length, binaryBytes.length, hessianRequestBytes.length,
+                binaryRequestBytes.length);
+    }
+
+    @Benchmark
+    public byte[] hessianSerialize() throws CodecException {
+        return hessian.serialize(pools);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() throws CodecException {
+        return binary.serialize(pools);
+    }
+
+    @Benchmark
+    public Object hessianDeserialize() throws CodecException {
+        return hessian.deserialize(hessianBytes, null);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() throws CodecException {
+        return binary.deserialize(binaryBytes, null);
+    }
+
+    @Benchmark
+    public byte[] hessianRequestSerialize() throws CodecException {
+        return hessian.serialize(hessianRequest());
+    }
+
+    @Benchmark
+    public byte[] binaryRequestSerialize() throws CodecException {
+        return binary.serialize(binaryRequest());
+    }
+
+    @Benchmark
+    public Object hessianRequestDeserialize() throws CodecException {
+        AdminRequestBody request = hessian.deserialize(hessianRequestBytes, null);
+        return request.deserializeBody();
+    }
+
+    @Benchmark
+    public Object binaryRequestDeserialize() throws CodecException {
+        AdminRequestBody request = binary.deserialize(binaryRequestBytes, null);
+        return request.deserializeBody();
+    }
+
+    private AdminRequestBody hessianRequest() {
+        return new AdminRequestBody(1L, AdminRequestTypeEnum.EXECUTOR_MONITOR, pools);
+    }
+
+    private AdminRequestBody binaryRequest() {
+        return new DecodedAdminRequestBody(1L, AdminRequestTypeEnum.EXECUTOR_MONITOR, pools);
+    }
+
+    private static ThreadPoolStats stats(int index) {
+        ThreadPoolStats stats = new ThreadPoolStats();
+        stats.setPoolName("dtpExecutor" + index);
+        stats.setPoolAliasName("业务线程池" + index);
+        stats.setQueueType("VariableLinkedBlockingQueue");
+        stats.setRejectHandlerName("CallerRunsPolicy");
+        stats.setDynamic(true);
+        stats.setCorePoolSize(8);
+        stats.setMaximumPoolSize(32);
+        stats.setKeepAliveTime(60000);
+        stats.setQueueCapacity(1024);
+        stats.setQueueSize(17 + index);
+        stats.setQueueRemainingCapacity(1007 - index);
+        stats.setActiveCount(6);
+        stats.setTaskCount(1_234_567L + index);
+        stats.setCompletedTaskCount(1_234_540L + index);
+        stats.setLargestPoolSize(24);
+        stats.setPoolSize(12);
+        stats.setWaitTaskCount(17 + index);
+        stats.setRejectCount(3);
+        stats.setTps(812.5 + index);
+        stats.setMaxRt(1200);
+        stats.setMinRt(1);
+        stats.setAvg(12.37);
+        stats.setTp50(9.1);
+        stats.setTp75(14.6);
+        stats.setTp90(22.8);
+        stats.setTp95(31.4);
+        stats.setTp99(87.9);
+        stats.setTp999(402.3);
+        return stats;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AdminSerializerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}